@@ -46,4 +46,20 @@ public Condition condition(InjectionCapableApplication application) {
     public boolean failOnNoMatch() {
         return this.annotation.failOnNoMatch();
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || this.getClass() != other.getClass()) {
+            return false;
+        }
+        return this.annotation.equals(((AnnotationConditionDeclaration) other).annotation);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.annotation.hashCode();
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.dockbox.hartshorn.inject.condition;
 
+import java.util.Set;
+
 /**
  * A condition that may be used by a {@link ConditionMatcher} to determine whether a certain operation
  * should be executed. Conditions are expected to be stateless, and may be reused for multiple matches.
@@ -37,4 +39,20 @@ public interface Condition {
      * @return a {@link ConditionResult} that describes whether the condition is matched
      */
     ConditionResult matches(ConditionContext context);
+
+    /**
+     * Returns the inputs which the result of this condition depends on. If a condition only depends on inputs
+     * other than {@link ConditionDependency#RUNTIME}, its result is expected to be a pure function of the annotated
+     * element and the declared inputs. This allows the {@link ConditionMatcher} to memoize the result until any of
+     * the declared inputs change. Conditions that declare such dependencies should therefore not rely on any
+     * additional contexts that are provided to the {@link ConditionContext}.
+     *
+     * <p>By default, conditions are assumed to depend on arbitrary runtime state, so their results are never
+     * memoized.
+     *
+     * @return the inputs which the result of this condition depends on
+     */
+    default Set<ConditionDependency> dependencies() {
+        return Set.of(ConditionDependency.RUNTIME);
+    }
 }
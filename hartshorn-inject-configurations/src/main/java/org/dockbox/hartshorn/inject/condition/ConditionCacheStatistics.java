@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.inject.condition;
+
+/**
+ * A point-in-time summary of the memoized condition results of a {@link ConditionMatcher}.
+ *
+ * @param hits the number of condition evaluations that were served from the cache
+ * @param misses the number of condition evaluations that required the condition to be evaluated
+ * @param invalidations the number of cached results that were discarded due to changed dependencies
+ * @param size the number of condition results that are currently cached
+ *
+ * @see ConditionMatcher#statistics()
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public record ConditionCacheStatistics(long hits, long misses, long invalidations, int size) {
+}
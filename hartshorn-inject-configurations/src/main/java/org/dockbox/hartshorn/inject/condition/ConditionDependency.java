@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.inject.condition;
+
+/**
+ * Describes an input which the result of a {@link Condition} depends on. Conditions declare their dependencies
+ * through {@link Condition#dependencies()}, which allows the {@link ConditionMatcher} to memoize condition results
+ * for as long as the declared inputs remain unchanged.
+ *
+ * @see Condition#dependencies()
+ * @see ConditionMatcher#invalidate(ConditionDependency...)
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public enum ConditionDependency {
+
+    /**
+     * The condition depends on the classes that are available on the classpath. As the classpath does not change
+     * during the lifetime of an application, results of conditions that only depend on the classpath are effectively
+     * constant.
+     */
+    CLASSPATH,
+
+    /**
+     * The condition depends on the properties of the application, as provided by the application's property registry.
+     */
+    PROPERTIES,
+
+    /**
+     * The condition depends on the active profiles of the application.
+     */
+    PROFILES,
+
+    /**
+     * The condition depends on the service activators that are present on the application. Activators are resolved
+     * once when the application is created, and do not change afterward.
+     */
+    ACTIVATORS,
+
+    /**
+     * The condition depends on arbitrary runtime state, such as registered bindings or the additional contexts that
+     * are provided when matching. Results of conditions with this dependency are never memoized.
+     */
+    RUNTIME,
+}
@@ -19,16 +19,24 @@
 import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.SequencedCollection;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.dockbox.hartshorn.context.ContextView;
 import org.dockbox.hartshorn.inject.DefaultInjectionApplicationAwareContext;
 import org.dockbox.hartshorn.inject.InjectionCapableApplication;
 import org.dockbox.hartshorn.util.introspect.view.AnnotatedElementView;
+import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
 import org.dockbox.hartshorn.util.introspect.view.EnclosableView;
+import org.dockbox.hartshorn.util.introspect.view.FieldView;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
 import org.dockbox.hartshorn.util.option.Option;
 
 /**
@@ -39,6 +47,20 @@
  * <p>Condition matching can be used for a variety of purposes. For example, it can be used to determine whether
  * a component should be registered, a binding method should be invoked, or an event should be dispatched.
  *
+ * <p>The matcher memoizes the condition declarations of each element, and the results of conditions which declare
+ * that they only depend on well-known inputs through {@link Condition#dependencies()}. Memoized results are kept
+ * until any of their declared inputs change, which is signaled through {@link #invalidate(ConditionDependency...)}.
+ * Changes to the application's {@link org.dockbox.hartshorn.properties.PropertyRegistry property registry} are
+ * detected automatically through its {@link org.dockbox.hartshorn.properties.PropertyRegistry#revision() revision},
+ * and invalidate results depending on {@link ConditionDependency#PROPERTIES properties} or
+ * {@link ConditionDependency#PROFILES profiles}, as active profiles are contributed through properties. Conditions
+ * which depend on {@link ConditionDependency#RUNTIME runtime state} are evaluated on every match.
+ *
+ * <p>Memoized entries are keyed by the reflective element that is represented by a view, rather than by the view
+ * itself, so views which are recreated by the introspector share the same entries. As a result, the size of the
+ * memoized state is bounded by the number of distinct types, methods, fields and constructors that are matched.
+ * Conditions on elements without a reflective counterpart, such as parameters, are not memoized.
+ *
  * @see RequiresCondition
  * @see Condition
  * @see ConditionContext
@@ -50,6 +72,14 @@
  */
 public final class ConditionMatcher extends DefaultInjectionApplicationAwareContext {
 
+    private final Map<Object, Set<ConditionDeclaration>> declarations = new ConcurrentHashMap<>();
+    private final Map<ConditionCacheKey, CachedConditionResult> results = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final AtomicLong propertyRevision = new AtomicLong();
+
     private boolean includeEnclosingConditions = true;
 
     /**
@@ -57,6 +87,7 @@ public final class ConditionMatcher extends DefaultInjectionApplicationAwareCont
      */
     public ConditionMatcher(InjectionCapableApplication application) {
         super(application);
+        this.propertyRevision.set(this.currentPropertyRevision());
     }
 
     /**
@@ -109,12 +140,10 @@ public boolean match(AnnotatedElementView annotatedElementContext, ContextView..
         }
 
         for(AnnotatedElementView elementView : views) {
-            Set<ConditionDeclaration> declarations = elementView.annotations()
-                    .all(RequiresCondition.class)
-                    .stream()
-                    .map(AnnotationConditionDeclaration::new)
-                    .collect(Collectors.toSet());
-
+            Option<Object> elementKey = elementKey(elementView);
+            Set<ConditionDeclaration> declarations = elementKey.present()
+                    ? this.declarations.computeIfAbsent(elementKey.get(), key -> this.collectDeclarations(elementView))
+                    : this.collectDeclarations(elementView);
             if (!this.match(elementView, declarations, contexts)) {
                 return false;
             }
@@ -155,18 +184,120 @@ public boolean match(AnnotatedElementView annotatedElementContext, Set<Condition
      * @return {@code true} if the condition matches, {@code false} otherwise
      */
     public boolean match(AnnotatedElementView element, ConditionDeclaration declarationContext, ContextView... contexts) {
-        Condition condition = declarationContext.condition(this.application());
-        ConditionContext context = new ConditionContext(this.application(), element, declarationContext);
-        for(ContextView child : contexts) {
-            context.addContext(child);
+        this.invalidateIfPropertiesChanged();
+        Option<ConditionCacheKey> cacheKey = elementKey(element).map(key -> new ConditionCacheKey(key, declarationContext));
+        CachedConditionResult cachedResult = cacheKey.map(this.results::get).orNull();
+
+        Condition condition;
+        ConditionResult result;
+        if (cachedResult != null) {
+            this.hits.increment();
+            condition = cachedResult.condition();
+            result = cachedResult.result();
         }
-        ConditionResult result = condition.matches(context);
+        else {
+            this.misses.increment();
+            condition = declarationContext.condition(this.application());
+            ConditionContext context = new ConditionContext(this.application(), element, declarationContext);
+            for(ContextView child : contexts) {
+                context.addContext(child);
+            }
+            result = condition.matches(context);
+
+            Set<ConditionDependency> dependencies = condition.dependencies();
+            if (cacheKey.present() && !dependencies.contains(ConditionDependency.RUNTIME)) {
+                this.results.put(cacheKey.get(), new CachedConditionResult(condition, result, dependencies));
+            }
+        }
+
         if(!result.matches() && declarationContext.failOnNoMatch()) {
             throw new ConditionFailedException(condition, result);
         }
         return result.matches();
     }
 
+    /**
+     * Discards all memoized condition results that depend on any of the given inputs. This should be called
+     * whenever any of the given inputs changed, for example after properties were added to the application.
+     * Conditions that depend on the invalidated inputs will be evaluated again on their next match.
+     *
+     * @param dependencies the inputs that changed
+     */
+    public void invalidate(ConditionDependency... dependencies) {
+        Set<ConditionDependency> changed = Set.of(dependencies);
+        this.results.values().removeIf(cachedResult -> {
+            for (ConditionDependency dependency : cachedResult.dependencies()) {
+                if (changed.contains(dependency)) {
+                    this.invalidations.increment();
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Discards all memoized condition declarations and results.
+     */
+    public void invalidateAll() {
+        this.invalidations.add(this.results.size());
+        this.results.clear();
+        this.declarations.clear();
+    }
+
+    /**
+     * Returns a summary of the memoized condition results of this matcher, including the number of cache hits
+     * and misses since this matcher was created.
+     *
+     * @return a summary of the memoized condition results
+     */
+    public ConditionCacheStatistics statistics() {
+        return new ConditionCacheStatistics(
+                this.hits.sum(),
+                this.misses.sum(),
+                this.invalidations.sum(),
+                this.results.size()
+        );
+    }
+
+    private void invalidateIfPropertiesChanged() {
+        long revision = this.currentPropertyRevision();
+        long previousRevision = this.propertyRevision.getAndSet(revision);
+        if (previousRevision != revision) {
+            this.invalidate(ConditionDependency.PROPERTIES, ConditionDependency.PROFILES);
+        }
+    }
+
+    private long currentPropertyRevision() {
+        return this.application().environment().propertyRegistry().revision();
+    }
+
+    /**
+     * Returns the key under which memoized state of the given element is stored. This is the reflective element
+     * that is represented by the view, so recreated views of the same element resolve to the same key. Elements
+     * without a reflective counterpart yield an empty {@link Option}, and are not memoized.
+     *
+     * @param element the element to resolve the key for
+     * @return the key of the element, if it can be memoized
+     */
+    private static Option<Object> elementKey(AnnotatedElementView element) {
+        return switch(element) {
+            case TypeView<?> typeView -> Option.of(typeView.type());
+            case MethodView<?, ?> methodView -> methodView.method().map(Object.class::cast);
+            case FieldView<?, ?> fieldView -> fieldView.field().map(Object.class::cast);
+            case ConstructorView<?> constructorView -> constructorView.constructor().map(Object.class::cast);
+            default -> Option.empty();
+        };
+    }
+
+    private Set<ConditionDeclaration> collectDeclarations(AnnotatedElementView element) {
+        return element.annotations()
+                .all(RequiresCondition.class)
+                .stream()
+                .map(AnnotationConditionDeclaration::new)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     /**
      * Collects all {@link AnnotatedElementView annotated element views} that are enclosed by the given
      * {@link AnnotatedElementView}. The given element is included in the result, as well as all elements
@@ -199,4 +330,10 @@ private SequencedCollection<AnnotatedElementView> collectEnclosedViews(Annotated
 
         return elements;
     }
+
+    private record ConditionCacheKey(Object element, ConditionDeclaration declaration) {
+    }
+
+    private record CachedConditionResult(Condition condition, ConditionResult result, Set<ConditionDependency> dependencies) {
+    }
 }
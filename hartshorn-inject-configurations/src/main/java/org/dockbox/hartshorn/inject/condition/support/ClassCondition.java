@@ -16,8 +16,11 @@
 
 package org.dockbox.hartshorn.inject.condition.support;
 
+import java.util.Set;
+
 import org.dockbox.hartshorn.inject.condition.Condition;
 import org.dockbox.hartshorn.inject.condition.ConditionContext;
+import org.dockbox.hartshorn.inject.condition.ConditionDependency;
 import org.dockbox.hartshorn.inject.condition.ConditionResult;
 
 /**
@@ -47,4 +50,9 @@ public ConditionResult matches(ConditionContext context) {
             return ConditionResult.matched();
         }).orElse(ConditionResult.invalidCondition("class"));
     }
+
+    @Override
+    public Set<ConditionDependency> dependencies() {
+        return Set.of(ConditionDependency.CLASSPATH);
+    }
 }
@@ -16,8 +16,11 @@
 
 package org.dockbox.hartshorn.inject.condition.support;
 
+import java.util.Set;
+
 import org.dockbox.hartshorn.inject.condition.Condition;
 import org.dockbox.hartshorn.inject.condition.ConditionContext;
+import org.dockbox.hartshorn.inject.condition.ConditionDependency;
 import org.dockbox.hartshorn.inject.condition.ConditionResult;
 import org.dockbox.hartshorn.properties.ValueProperty;
 import org.dockbox.hartshorn.util.option.Option;
@@ -71,4 +74,9 @@ else if (value.absent()) {
             }
         }).orCompute(() -> ConditionResult.invalidCondition("property")).get();
     }
+
+    @Override
+    public Set<ConditionDependency> dependencies() {
+        return Set.of(ConditionDependency.PROPERTIES);
+    }
 }
@@ -51,14 +51,14 @@ public <T> boolean isCompatible(ComponentProcessingContext<T> processingContext)
 
     @Override
     public <T> void preConfigureComponent(InjectionCapableApplication application, @Nullable T instance, ComponentProcessingContext<T> processingContext) {
-        ComponentKey<T> key = processingContext.key();
-        Collection<MethodView<T, ?>> methods = this.modifiableMethods(application, key, instance);
-
         ProxyFactory<T> factory = processingContext.get(ProxyFactory.class);
         if (factory == null) {
             return;
         }
 
+        ComponentKey<T> key = processingContext.key();
+        Collection<MethodView<T, ?>> methods = this.modifiableMethods(application, key, instance);
+
         instance = this.processProxy(application, instance, processingContext, factory);
 
         for (MethodView<T, ?> method : methods) {
@@ -21,6 +21,7 @@
 import org.dockbox.hartshorn.inject.processing.ComponentPostProcessor;
 import org.dockbox.hartshorn.inject.processing.ComponentProcessingContext;
 import org.dockbox.hartshorn.proxy.ProxyFactory;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
 
 /**
  * TODO: #1060 Add documentation
@@ -35,6 +36,11 @@
 
     protected abstract Class<P> parentTarget();
 
+    @Override
+    public <T> boolean isApplicable(TypeView<T> type) {
+        return type.isChildOf(this.parentTarget());
+    }
+
     @Override
     public <T> boolean isCompatible(ComponentProcessingContext<T> processingContext) {
         return processingContext.permitsProxying();
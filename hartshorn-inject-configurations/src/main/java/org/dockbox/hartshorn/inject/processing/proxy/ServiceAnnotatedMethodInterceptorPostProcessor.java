@@ -21,6 +21,7 @@
 
 import org.dockbox.hartshorn.inject.processing.ComponentProcessingContext;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
 
 /**
  * TODO: #1060 Add documentation
@@ -35,7 +36,13 @@
 
     @Override
     public <T> boolean isCompatible(ComponentProcessingContext<T> processingContext) {
-        return !processingContext.type().methods().annotatedWith(this.annotation()).isEmpty();
+        // Annotated methods are already required by isApplicable, which is checked (and cached) before this method
+        return true;
+    }
+
+    @Override
+    public <T> boolean isApplicable(TypeView<T> type) {
+        return !type.methods().annotatedWith(this.annotation()).isEmpty();
     }
 
     public abstract Class<M> annotation();
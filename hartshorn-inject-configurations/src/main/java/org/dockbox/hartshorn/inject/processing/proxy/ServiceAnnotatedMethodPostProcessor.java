@@ -40,11 +40,13 @@
     public abstract Class<M> annotation();
 
     @Override
-    public <T> void preConfigureComponent(InjectionCapableApplication application, @Nullable T instance, ComponentProcessingContext<T> processingContext) {
-        if (processingContext.type().methods().annotatedWith(this.annotation()).isEmpty()) {
-            return;
-        }
+    public <T> boolean isApplicable(TypeView<T> type) {
+        return !type.methods().annotatedWith(this.annotation()).isEmpty();
+    }
 
+    @Override
+    public <T> void preConfigureComponent(InjectionCapableApplication application, @Nullable T instance, ComponentProcessingContext<T> processingContext) {
+        // Types without annotated methods are already excluded by isApplicable
         Collection<MethodView<T, ?>> methods = this.modifiableMethods(processingContext.type());
 
         for (MethodView<T, ?> method : methods) {
@@ -16,11 +16,15 @@
 
 package org.dockbox.hartshorn.inject.processing;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.dockbox.hartshorn.inject.InjectionCapableApplication;
 import org.dockbox.hartshorn.proxy.Proxy;
 import org.dockbox.hartshorn.util.ApplicationException;
 import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
 
 /**
  * A component post processor is responsible for processing a component after it has been created. This
@@ -35,6 +39,8 @@
  */
 public abstract non-sealed class ComponentPostProcessor implements ComponentProcessor {
 
+    private final Map<Class<?>, Boolean> applicableTypes = new ConcurrentHashMap<>();
+
     /**
      * Checks if the specified context can be processed by this component post processor. By default,
      * this method will always return {@code true}. Subclasses can override this method to provide
@@ -49,11 +55,51 @@ public <T> boolean isCompatible(ComponentProcessingContext<T> processingContext)
         return true;
     }
 
+    /**
+     * Checks if this component post processor applies to components of the specified type. Unlike {@link
+     * #isCompatible(ComponentProcessingContext)}, this check may only depend on the given type, and not on the
+     * component instance or any other processing state. This allows the result to be cached per component type,
+     * so processors which do not apply to a type are skipped entirely for all instances of that type.
+     *
+     * <p>By default, this method will always return {@code true}. Subclasses can override this method to exclude
+     * types they will never modify, for example types without methods annotated with a specific annotation. The
+     * check should be cheap, as it is performed at least once for each component type. Callers should use {@link
+     * #appliesTo(TypeView)}, which caches the result of this method.
+     *
+     * @param type The type of the component to be processed
+     * @param <T> The type of the component to be processed
+     *
+     * @return {@code true} if this processor may modify components of the given type, {@code false} otherwise
+     */
+    public <T> boolean isApplicable(TypeView<T> type) {
+        return true;
+    }
+
+    /**
+     * Checks if this component post processor applies to components of the specified type, as defined by {@link
+     * #isApplicable(TypeView)}. The result is computed once per component type, and cached for the lifetime of this
+     * processor.
+     *
+     * @param type The type of the component to be processed
+     * @param <T> The type of the component to be processed
+     *
+     * @return {@code true} if this processor may modify components of the given type, {@code false} otherwise
+     */
+    public final <T> boolean appliesTo(TypeView<T> type) {
+        Boolean applicable = this.applicableTypes.get(type.type());
+        if (applicable == null) {
+            // Not computed atomically, as evaluating the same type twice yields the same result
+            applicable = this.isApplicable(type);
+            this.applicableTypes.put(type.type(), applicable);
+        }
+        return applicable;
+    }
+
     @Override
     public final <T> T process(ComponentProcessingContext<T> processingContext) throws ApplicationException {
         T instance = processingContext.instance();
 
-        if (!this.isCompatible(processingContext)) {
+        if (!this.appliesTo(processingContext.type()) || !this.isCompatible(processingContext)) {
             return instance;
         }
 
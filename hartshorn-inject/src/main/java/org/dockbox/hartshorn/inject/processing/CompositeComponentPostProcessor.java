@@ -16,13 +16,16 @@
 
 package org.dockbox.hartshorn.inject.processing;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.dockbox.hartshorn.inject.InjectionCapableApplication;
 import org.dockbox.hartshorn.util.ApplicationException;
 import org.dockbox.hartshorn.util.collections.MultiMap;
-import org.dockbox.hartshorn.util.function.CheckedConsumer;
-import org.dockbox.hartshorn.util.function.CheckedFunction;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
 
 /**
  * A {@link ComponentPostProcessor} which delegates to a collection of other post processors. The post processors are
@@ -59,6 +62,10 @@
  *     <li>{@code B.postConfigureComponent()} will be called</li>
  * </ol>
  *
+ * <p>Post processors are only called for component types they apply to, as defined by {@link
+ * ComponentPostProcessor#isApplicable(TypeView)}. The ordered selection of applicable post processors is computed
+ * once per component type, so types which no post processor applies to skip the processing pipeline entirely.
+ *
  * <p>If no processors are provided, the {@link #preConfigureComponent(InjectionCapableApplication, Object, ComponentProcessingContext)}
  * and {@link #postConfigureComponent(InjectionCapableApplication, Object, ComponentProcessingContext)} methods are effectively no-ops,
  * and the {@link #initializeComponent(InjectionCapableApplication, Object, ComponentProcessingContext)} method will simply return the
@@ -74,6 +81,7 @@
 public class CompositeComponentPostProcessor extends ComponentPostProcessor {
 
     private final Supplier<MultiMap<Integer, ComponentPostProcessor>> postProcessors;
+    private volatile ProcessorPlans plans;
 
     public CompositeComponentPostProcessor(Supplier<MultiMap<Integer, ComponentPostProcessor>> postProcessors) {
         this.postProcessors = postProcessors;
@@ -85,9 +93,9 @@ public <T> void preConfigureComponent(
         @Nullable T instance,
         ComponentProcessingContext<T> processingContext
     ) throws ApplicationException {
-        this.withProcessors(processor -> {
+        for (ComponentPostProcessor processor : this.plan(processingContext.type())) {
             processor.preConfigureComponent(application, instance, processingContext);
-        });
+        }
     }
 
     @Override
@@ -96,11 +104,15 @@ public <T> T initializeComponent(
         @Nullable T instance,
         ComponentProcessingContext<T> processingContext
     ) throws ApplicationException {
-        MultiMap<Integer, ComponentPostProcessor> processors = this.postProcessors.get();
-        if (processors.isEmpty()) {
+        List<ComponentPostProcessor> plan = this.plan(processingContext.type());
+        if (plan.isEmpty()) {
             return instance;
         }
-        return this.withProcessors(processors, processor -> processor.initializeComponent(application, instance, processingContext));
+        T result = null;
+        for (ComponentPostProcessor processor : plan) {
+            result = processor.initializeComponent(application, instance, processingContext);
+        }
+        return result;
     }
 
     @Override
@@ -109,30 +121,51 @@ public <T> void postConfigureComponent(
         @Nullable T instance,
         ComponentProcessingContext<T> processingContext
     ) throws ApplicationException {
-        this.withProcessors(processor -> {
+        for (ComponentPostProcessor processor : this.plan(processingContext.type())) {
             processor.postConfigureComponent(application, instance, processingContext);
-        });
+        }
     }
 
-    private void withProcessors(CheckedConsumer<ComponentPostProcessor> consumer) throws ApplicationException {
-        this.withProcessors(this.postProcessors.get(), processor -> {
-            consumer.accept(processor);
-            return null;
-        });
+    /**
+     * Returns the ordered list of post processors that apply to the given type. The list is computed once per
+     * type, using {@link ComponentPostProcessor#appliesTo(TypeView)}, and cached for as long as the provided
+     * post processors remain the same. If the supplier provides a different collection of post processors, all
+     * cached plans are discarded.
+     *
+     * @param type the type of the component that is processed
+     * @param <T> the type of the component that is processed
+     * @return the ordered list of post processors that apply to the given type
+     */
+    protected <T> List<ComponentPostProcessor> plan(TypeView<T> type) {
+        MultiMap<Integer, ComponentPostProcessor> processors = this.postProcessors.get();
+        ProcessorPlans currentPlans = this.plans;
+        if (currentPlans == null || currentPlans.processors() != processors) {
+            currentPlans = new ProcessorPlans(processors, new ConcurrentHashMap<>());
+            this.plans = currentPlans;
+        }
+        return currentPlans.plans().computeIfAbsent(type.type(), key -> createPlan(processors, type));
     }
 
-    private <T> T withProcessors(MultiMap<Integer, ComponentPostProcessor> processors, CheckedFunction<ComponentPostProcessor, T> processor) throws ApplicationException {
-        T result = null;
+    private static <T> List<ComponentPostProcessor> createPlan(MultiMap<Integer, ComponentPostProcessor> processors, TypeView<T> type) {
+        List<ComponentPostProcessor> plan = new ArrayList<>();
         for (Integer priority : processors.keySet()) {
             for (ComponentPostProcessor postProcessor : processors.get(priority)) {
-                result = processor.apply(postProcessor);
+                if (postProcessor.appliesTo(type)) {
+                    plan.add(postProcessor);
+                }
             }
         }
-        return result;
+        return List.copyOf(plan);
     }
 
     @Override
     public int priority() {
         return ProcessingPriority.NORMAL_PRECEDENCE;
     }
+
+    private record ProcessorPlans(
+            MultiMap<Integer, ComponentPostProcessor> processors,
+            Map<Class<?>, List<ComponentPostProcessor>> plans
+    ) {
+    }
 }
@@ -16,20 +16,27 @@
 
 package org.dockbox.hartshorn.inject.processing;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
-import org.dockbox.hartshorn.util.CollectionUtilities;
 import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.collections.ConcurrentSetTreeMultiMap;
+import org.dockbox.hartshorn.util.collections.ImmutableMultiMap;
 import org.dockbox.hartshorn.util.collections.MultiMap;
-import org.dockbox.hartshorn.util.collections.UnmodifiableMultiMap;
 import org.dockbox.hartshorn.util.option.Option;
 
 /**
  * Default implementation of the {@link ComponentProcessorRegistry} interface. This implementation uses {@link MultiMap}s
  * to store the registered processors.
  *
+ * <p>Modifications to the registry are serialized, and publish an immutable {@link ProcessorSnapshot snapshot} of all
+ * registered processors. The snapshot holds the processors ordered by {@link ComponentProcessor#priority() priority},
+ * and indexes them by their type. All read operations are served from the current snapshot, and are therefore lock-free
+ * and do not allocate. This suits the typical usage of the registry, where processors are registered once during
+ * application startup, but looked up for each processed component.
+ *
  * @since 0.7.0
  *
  * @author Guus Lieben
@@ -38,17 +45,21 @@ public class MultiMapComponentProcessorRegistry implements ComponentProcessorReg
 
     private final MultiMap<Integer, ComponentPostProcessor> postProcessors = new ConcurrentSetTreeMultiMap<>();
     private final MultiMap<Integer, ComponentPreProcessor> preProcessors = new ConcurrentSetTreeMultiMap<>();
-    private final Set<Class<? extends ComponentPostProcessor>> uninitializedPostProcessors = ConcurrentHashMap.newKeySet();
+    private final Set<Class<? extends ComponentPostProcessor>> uninitializedPostProcessors = new HashSet<>();
+
+    private volatile ProcessorSnapshot snapshot = ProcessorSnapshot.EMPTY;
 
     @Override
-    public void register(ComponentProcessor processor) {
+    public synchronized void register(ComponentProcessor processor) {
         this.modifyProcessorRegistration(processor, MultiMap::put);
         this.uninitializedPostProcessors.remove(processor.getClass());
+        this.publishSnapshot();
     }
 
     @Override
-    public void unregister(ComponentProcessor processor) {
+    public synchronized void unregister(ComponentProcessor processor) {
         this.modifyProcessorRegistration(processor, MultiMap::remove);
+        this.publishSnapshot();
     }
 
     private <T extends ComponentProcessor> void modifyProcessorRegistration(T processor, RegistrationCallback callback) {
@@ -65,58 +76,96 @@ private <T extends ComponentProcessor> void modifyProcessorRegistration(T proces
         }
     }
 
+    private void publishSnapshot() {
+        Map<Class<?>, ComponentProcessor> processorsByType = new HashMap<>();
+        Set<ComponentProcessor> processors = new HashSet<>();
+        for (ComponentProcessor processor : this.preProcessors.allValues()) {
+            processorsByType.putIfAbsent(processor.getClass(), processor);
+            processors.add(processor);
+        }
+        for (ComponentProcessor processor : this.postProcessors.allValues()) {
+            processorsByType.putIfAbsent(processor.getClass(), processor);
+            processors.add(processor);
+        }
+        this.snapshot = new ProcessorSnapshot(
+                ImmutableMultiMap.copyOf(this.postProcessors),
+                ImmutableMultiMap.copyOf(this.preProcessors),
+                Set.copyOf(processors),
+                Map.copyOf(processorsByType),
+                Set.copyOf(this.uninitializedPostProcessors)
+        );
+    }
+
     @FunctionalInterface
     private interface RegistrationCallback {
         void process(MultiMap<Integer, ? super ComponentProcessor> map, int priority, ComponentProcessor processor);
     }
 
     @Override
-    public void registryLazy(Class<? extends ComponentPostProcessor> componentProcessor) {
-        boolean alreadyInitialized = this.postProcessors.allValues().stream()
-                .anyMatch(processor -> processor.getClass().equals(componentProcessor));
-        if (!alreadyInitialized) {
-            this.uninitializedPostProcessors.add(componentProcessor);
+    public synchronized void registryLazy(Class<? extends ComponentPostProcessor> componentProcessor) {
+        boolean alreadyInitialized = this.snapshot.processorsByType().get(componentProcessor) instanceof ComponentPostProcessor;
+        if (!alreadyInitialized && this.uninitializedPostProcessors.add(componentProcessor)) {
+            this.publishSnapshot();
         }
     }
 
     @Override
     public boolean isRegistered(Class<? extends ComponentProcessor> componentProcessor) {
-        if (this.uninitializedPostProcessors.contains(componentProcessor)) {
-            return true;
-        } else {
-            return this.processors().stream()
-                    .anyMatch(processor -> processor.getClass().equals(componentProcessor));
-        }
+        ProcessorSnapshot snapshot = this.snapshot;
+        return snapshot.uninitializedPostProcessors().contains(componentProcessor)
+                || snapshot.processorsByType().containsKey(componentProcessor);
     }
 
     @Override
     public <T extends ComponentProcessor> Option<T> lookup(Class<T> componentProcessor) {
-        return Option.of(this.processors().stream()
-                .filter(processor -> processor.getClass().equals(componentProcessor))
-                .map(componentProcessor::cast)
-                .findFirst());
+        ComponentProcessor processor = this.snapshot.processorsByType().get(componentProcessor);
+        return Option.of(componentProcessor.cast(processor));
     }
 
     @Override
     public Set<ComponentProcessor> processors() {
-        return CollectionUtilities.merge(
-                this.preProcessors.allValues(),
-                this.postProcessors.allValues()
-        );
+        return this.snapshot.processors();
     }
 
     @Override
     public MultiMap<Integer, ComponentPostProcessor> postProcessors() {
-        return new UnmodifiableMultiMap<>(this.postProcessors);
+        return this.snapshot.postProcessors();
     }
 
     @Override
     public Set<Class<? extends ComponentPostProcessor>> uninitializedPostProcessors() {
-        return Set.copyOf(this.uninitializedPostProcessors);
+        return this.snapshot.uninitializedPostProcessors();
     }
 
     @Override
     public MultiMap<Integer, ComponentPreProcessor> preProcessors() {
-        return new UnmodifiableMultiMap<>(this.preProcessors);
+        return this.snapshot.preProcessors();
+    }
+
+    /**
+     * Immutable point-in-time view of all processors known to the registry. A new snapshot is published after every
+     * modification of the registry, so snapshot identity can be used to detect changes to the registered processors.
+     *
+     * @param postProcessors the registered post processors, ordered by priority
+     * @param preProcessors the registered pre processors, ordered by priority
+     * @param processors all registered processors
+     * @param processorsByType all registered processors, indexed by their exact type
+     * @param uninitializedPostProcessors the post processor types that were registered lazily, but not yet initialized
+     */
+    private record ProcessorSnapshot(
+            MultiMap<Integer, ComponentPostProcessor> postProcessors,
+            MultiMap<Integer, ComponentPreProcessor> preProcessors,
+            Set<ComponentProcessor> processors,
+            Map<Class<?>, ComponentProcessor> processorsByType,
+            Set<Class<? extends ComponentPostProcessor>> uninitializedPostProcessors
+    ) {
+
+        private static final ProcessorSnapshot EMPTY = new ProcessorSnapshot(
+                ImmutableMultiMap.of(),
+                ImmutableMultiMap.of(),
+                Set.of(),
+                Map.of(),
+                Set.of()
+        );
     }
 }
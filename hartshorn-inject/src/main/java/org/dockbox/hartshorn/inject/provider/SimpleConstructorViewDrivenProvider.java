@@ -127,8 +127,8 @@ public Tristate defaultLazy() {
     }
 
     private Option<? extends ConstructorView<? extends C>> optimalConstructor(InjectionCapableApplication application) throws ApplicationException {
-        TypeView<? extends C> typeView = application.environment().introspector().introspect(this.type());
         if (this.optimalConstructor == null) {
+            TypeView<? extends C> typeView = application.environment().introspector().introspect(this.type());
             try {
                 this.optimalConstructor = ComponentConstructorResolver.create(application).findConstructor(typeView).orNull();
             }
@@ -24,13 +24,18 @@
 import org.dockbox.hartshorn.inject.condition.AnnotationConditionDeclaration;
 import org.dockbox.hartshorn.inject.condition.support.ClassCondition;
 import org.dockbox.hartshorn.inject.condition.Condition;
+import org.dockbox.hartshorn.inject.condition.ConditionCacheStatistics;
 import org.dockbox.hartshorn.inject.condition.ConditionContext;
+import org.dockbox.hartshorn.inject.condition.ConditionDependency;
 import org.dockbox.hartshorn.inject.condition.ConditionMatcher;
 import org.dockbox.hartshorn.inject.condition.ConditionResult;
 import org.dockbox.hartshorn.launchpad.condition.RequiresActivator;
 import org.dockbox.hartshorn.inject.condition.support.RequiresClass;
+import org.dockbox.hartshorn.inject.condition.support.RequiresProperty;
 import org.dockbox.hartshorn.inject.condition.RequiresCondition;
 import org.dockbox.hartshorn.inject.binding.BindingHierarchy;
+import org.dockbox.hartshorn.properties.PropertyRegistry;
+import org.dockbox.hartshorn.properties.SingleConfiguredProperty;
 import org.dockbox.hartshorn.test.annotations.TestComponents;
 import org.dockbox.hartshorn.test.annotations.TestProperties;
 import org.dockbox.hartshorn.test.junit.HartshornIntegrationTest;
@@ -146,6 +151,76 @@ void testEnclosedViewsIncludeParentCondition() {
         Assertions.assertFalse(matcher.match(methodView));
     }
 
+    @Test
+    void testClassConditionResultsAreMemoized() {
+        TypeView<ConditionTests> type = this.applicationContext.environment().introspector().introspect(ConditionTests.class);
+        MethodView<ConditionTests, ?> requiresClass = type.methods().named("requiresClass").get();
+        ConditionMatcher matcher = new ConditionMatcher(this.applicationContext);
+
+        Assertions.assertTrue(matcher.match(requiresClass));
+        Assertions.assertTrue(matcher.match(requiresClass));
+
+        ConditionCacheStatistics statistics = matcher.statistics();
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertTrue(statistics.hits() > 0);
+
+        matcher.invalidate(ConditionDependency.PROPERTIES);
+        Assertions.assertEquals(1, matcher.statistics().size());
+
+        matcher.invalidate(ConditionDependency.CLASSPATH);
+        Assertions.assertEquals(0, matcher.statistics().size());
+        Assertions.assertEquals(1, matcher.statistics().invalidations());
+    }
+
+    @Test
+    void testRuntimeConditionResultsAreNotMemoized() {
+        TypeView<ConditionTests> type = this.applicationContext.environment().introspector().introspect(ConditionTests.class);
+        MethodView<ConditionTests, ?> requiresRuntimeCondition = type.methods().named("requiresRuntimeCondition").get();
+        ConditionMatcher matcher = new ConditionMatcher(this.applicationContext);
+
+        Assertions.assertTrue(matcher.match(requiresRuntimeCondition));
+        Assertions.assertTrue(matcher.match(requiresRuntimeCondition));
+
+        ConditionCacheStatistics statistics = matcher.statistics();
+        Assertions.assertEquals(0, statistics.size());
+        Assertions.assertEquals(0, statistics.hits());
+    }
+
+    @RequiresCondition(condition = AlwaysMatchingCondition.class)
+    private void requiresRuntimeCondition() {}
+
+    @Test
+    void testPropertyConditionResultsAreInvalidatedWhenPropertiesChange() {
+        TypeView<ConditionTests> type = this.applicationContext.environment().introspector().introspect(ConditionTests.class);
+        MethodView<ConditionTests, ?> requiresProperty = type.methods().named("requiresProperty").get();
+        ConditionMatcher matcher = new ConditionMatcher(this.applicationContext);
+
+        Assertions.assertFalse(matcher.match(requiresProperty));
+        Assertions.assertFalse(matcher.match(requiresProperty));
+        Assertions.assertEquals(1, matcher.statistics().size());
+
+        PropertyRegistry propertyRegistry = this.applicationContext.environment().propertyRegistry();
+        propertyRegistry.register(new SingleConfiguredProperty("property.g", "g"));
+        try {
+            Assertions.assertTrue(matcher.match(requiresProperty));
+            Assertions.assertEquals(1, matcher.statistics().invalidations());
+        }
+        finally {
+            propertyRegistry.unregister("property.g");
+        }
+    }
+
+    @RequiresProperty(name = "property.g")
+    private void requiresProperty() {}
+
+    public static class AlwaysMatchingCondition implements Condition {
+
+        @Override
+        public ConditionResult matches(ConditionContext context) {
+            return ConditionResult.matched();
+        }
+    }
+
     @RequiresClass("java.gnal.String")
     public static class ParentClass {
         @RequiresClass("java.lang.String")
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dockbox.hartshorn.util.introspect.MethodInvoker;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A {@link MethodInvoker} that invokes methods through compiled {@link MethodHandle method handles}. Handles are
+ * created once per {@link Method}, and cached per declaring class. As the cache is backed by a {@link ClassValue},
+ * cached handles do not prevent the declaring class (and its class loader) from being unloaded. Whether a handle can
+ * be created depends on whether the method has been {@link Method#setAccessible(boolean) made accessible}, so handles
+ * are only shared between copies of a method with the same accessibility.
+ *
+ * <p>Invokers are typically owned by a single {@link MethodView}, so each invoker additionally remembers the last
+ * handle it resolved. Repeated invocations of the same method therefore do not consult the shared cache at all.
+ *
+ * <p>If a method cannot be represented by a handle, this invoker falls back to the given fallback invoker, which
+ * is typically a {@link ReflectionMethodInvoker}.
+ *
+ * @param <T> the return type of the method
+ * @param <P> the type of the instance on which the method is invoked
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class MethodHandleMethodInvoker<T, P> implements MethodInvoker<T, P> {
+
+    private static final ClassValue<Map<HandleKey, Option<MethodHandle>>> HANDLE_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<HandleKey, Option<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final MethodInvoker<T, P> fallback;
+
+    private volatile ResolvedHandle resolved;
+
+    public MethodHandleMethodInvoker() {
+        this(new ReflectionMethodInvoker<>());
+    }
+
+    public MethodHandleMethodInvoker(MethodInvoker<T, P> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Option<T> invoke(MethodView<P, T> method, P instance, Object[] args) throws Throwable {
+        Option<Method> jlrMethod = method.method();
+        if (jlrMethod.absent()) {
+            return this.fallback.invoke(method, instance, args);
+        }
+
+        Option<MethodHandle> handle = this.handle(jlrMethod.get());
+        if (handle.absent()) {
+            return this.fallback.invoke(method, instance, args);
+        }
+        try {
+            //noinspection unchecked
+            return Option.of((T) (Object) handle.get().invokeExact((Object) instance, args));
+        }
+        catch (ClassCastException | NullPointerException e) {
+            Method target = jlrMethod.get();
+            if (instance != null && !Modifier.isStatic(target.getModifiers()) && !target.getDeclaringClass().isInstance(instance)) {
+                IllegalArgumentException exception = new IllegalArgumentException("object is not an instance of declaring class");
+                exception.initCause(e);
+                throw exception;
+            }
+            throw ReflectiveHandles.adaptArgumentFailure(e, target.getParameterTypes(), args);
+        }
+    }
+
+    // Identity comparison is intended: the last resolved handle is only reused for the exact same Method instance,
+    // other (equal) copies are resolved through the shared cache.
+    @SuppressWarnings("ReferenceEquality")
+    private Option<MethodHandle> handle(Method method) {
+        boolean accessible = ReflectiveHandles.isAccessible(method);
+        ResolvedHandle resolved = this.resolved;
+        if (resolved == null || resolved.method() != method || resolved.accessible() != accessible) {
+            Option<MethodHandle> handle = HANDLE_CACHE.get(method.getDeclaringClass())
+                    .computeIfAbsent(new HandleKey(method, accessible), key -> ReflectiveHandles.methodHandle(key.method()));
+            resolved = new ResolvedHandle(method, accessible, handle);
+            this.resolved = resolved;
+        }
+        return resolved.handle();
+    }
+
+    private record HandleKey(Method method, boolean accessible) {
+    }
+
+    private record ResolvedHandle(Method method, boolean accessible, Option<MethodHandle> handle) {
+    }
+}
@@ -36,6 +36,11 @@
 /**
  * TODO: #1059 Add documentation
  *
+ * <p>Results of annotation lookups are cached per element. Besides the annotations which were found, the cache
+ * also records which annotations were looked up but are not present on the element, either directly or through
+ * the {@link AnnotationLookup}. As probing for absent annotations is the most common case when processing
+ * components, repeated checks for an absent annotation are constant-time and do not allocate.
+ *
  * @since 0.4.13
  *
  * @author Guus Lieben
@@ -45,7 +50,8 @@ public class ReflectionElementAnnotationsIntrospector implements ElementAnnotati
     private final Introspector introspector;
     private final AnnotatedElement element;
     private final AnnotationLookup annotationLookup;
-    private Map<Class<?>, Annotation> annotationCache;
+    private final Set<Class<?>> absentAnnotations = ConcurrentHashMap.newKeySet();
+    private volatile Map<Class<?>, Annotation> annotationCache;
 
     public ReflectionElementAnnotationsIntrospector(Introspector introspector, AnnotatedElement element) {
         this(introspector, element, introspector.annotations());
@@ -58,13 +64,15 @@ public ReflectionElementAnnotationsIntrospector(Introspector introspector, Annot
     }
 
     protected Map<Class<?>, Annotation> annotationCache() {
-        if (this.annotationCache == null) {
-            this.annotationCache = new ConcurrentHashMap<>();
+        Map<Class<?>, Annotation> annotationCache = this.annotationCache;
+        if (annotationCache == null) {
+            annotationCache = new ConcurrentHashMap<>();
             for (Annotation annotation : this.element.getAnnotations()) {
-                this.annotationCache.put(annotation.annotationType(), annotation);
+                annotationCache.put(annotation.annotationType(), annotation);
             }
+            this.annotationCache = annotationCache;
         }
-        return this.annotationCache;
+        return annotationCache;
     }
 
     @Override
@@ -83,41 +91,62 @@ public Set<Annotation> annotedWith(Class<? extends Annotation> annotation) {
 
     @Override
     public boolean has(Class<? extends Annotation> annotation) {
-        return this.get(annotation).present();
+        return this.find(annotation) != null;
     }
 
     @Override
     public boolean hasAny(Set<Class<? extends Annotation>> annotations) {
-        return annotations.stream().anyMatch(this::has);
+        for (Class<? extends Annotation> annotation : annotations) {
+            if (this.has(annotation)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public boolean hasAll(Set<Class<? extends Annotation>> annotations) {
-        return annotations.stream().allMatch(this::has);
+        for (Class<? extends Annotation> annotation : annotations) {
+            if (!this.has(annotation)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public <T extends Annotation> Option<T> get(Class<T> annotation) {
+        return Option.of(this.find(annotation));
+    }
+
+    private <T extends Annotation> T find(Class<T> annotation) {
+        Map<Class<?>, Annotation> annotations = this.annotationCache();
+        Annotation cached = annotations.get(annotation);
+        if (cached != null) {
+            return annotation.cast(cached);
+        }
+        if (this.absentAnnotations.contains(annotation)) {
+            return null;
+        }
+
         if (!TypeUtils.hasRetentionPolicy(annotation, RetentionPolicy.RUNTIME)) {
             // Cannot introspect annotations that are not retained at runtime, so don't waste
             // time looking for them.
             assert false : "Annotation " + annotation.getName() + " is not retained at runtime";
-            return Option.empty();
+            return null;
         }
         if (!annotation.isAnnotation()) {
-            return Option.empty();
-        }
-
-        Map<Class<?>, Annotation> annotations = this.annotationCache();
-        if (annotations.containsKey(annotation)) {
-            return Option.of(() -> annotation.cast(annotations.get(annotation)));
+            return null;
         }
 
         T virtual = this.annotationLookup.find(this.element, annotation);
         if (virtual != null) {
             annotations.put(annotation, virtual);
         }
-        return Option.of(virtual);
+        else {
+            this.absentAnnotations.add(annotation);
+        }
+        return virtual;
     }
 
     @Override
@@ -17,7 +17,9 @@
 package org.dockbox.hartshorn.util.introspect.reflect;
 
 import org.dockbox.hartshorn.util.Tristate;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
 import org.dockbox.hartshorn.util.introspect.IntrospectionEnvironment;
+import org.dockbox.hartshorn.util.introspect.MemberAccessStrategy;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -31,8 +33,24 @@
  */
 public class ReflectionIntrospectionEnvironment implements IntrospectionEnvironment {
 
+    private final MemberAccessStrategy memberAccessStrategy;
+    private final IntrospectionCachePolicy cachePolicy;
+
     private Tristate parameterNamesAvailable = Tristate.UNDEFINED;
 
+    public ReflectionIntrospectionEnvironment() {
+        this(MemberAccessStrategy.METHOD_HANDLES);
+    }
+
+    public ReflectionIntrospectionEnvironment(MemberAccessStrategy memberAccessStrategy) {
+        this(memberAccessStrategy, IntrospectionCachePolicy.RETAIN);
+    }
+
+    public ReflectionIntrospectionEnvironment(MemberAccessStrategy memberAccessStrategy, IntrospectionCachePolicy cachePolicy) {
+        this.memberAccessStrategy = memberAccessStrategy;
+        this.cachePolicy = cachePolicy;
+    }
+
     @Override
     public boolean parameterNamesAvailable() {
         if (this.parameterNamesAvailable == Tristate.UNDEFINED) {
@@ -52,6 +70,16 @@ public boolean parameterNamesAvailable() {
         return this.parameterNamesAvailable.booleanValue();
     }
 
+    @Override
+    public MemberAccessStrategy memberAccessStrategy() {
+        return this.memberAccessStrategy;
+    }
+
+    @Override
+    public IntrospectionCachePolicy cachePolicy() {
+        return this.cachePolicy;
+    }
+
     @SuppressWarnings({ "unused", "DollarSignInName" })
     private void $__hartshorn$__ignore(Object parameterCheck) {
         throw new UnsupportedOperationException("This method is a placeholder used to discover whether parameter names are available. It should never be called.");
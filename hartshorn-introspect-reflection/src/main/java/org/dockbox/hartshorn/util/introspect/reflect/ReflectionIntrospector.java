@@ -26,8 +26,11 @@
 
 import org.dockbox.hartshorn.util.GenericType;
 import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.introspect.AnnotatedMemberIndex;
 import org.dockbox.hartshorn.util.introspect.BatchCapableIntrospector;
+import org.dockbox.hartshorn.util.introspect.CacheReleasingIntrospector;
 import org.dockbox.hartshorn.util.introspect.ConcurrentIntrospectionViewCache;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
 import org.dockbox.hartshorn.util.introspect.IntrospectionEnvironment;
 import org.dockbox.hartshorn.util.introspect.ParameterizableType;
 import org.dockbox.hartshorn.util.introspect.ProxyLookup;
@@ -70,17 +73,25 @@
  * {@link ProxyLookup}. Note that {@link #introspect(Type)} and {@link #introspect(Class)} will
  * return the proxy type, to allow for introspection of proxy types.
  *
+ * <p>Methods and fields are accessed according to the {@link IntrospectionEnvironment#memberAccessStrategy() member
+ * access strategy} of the environment, which uses method handles by default. Note that views which are shared through
+ * batch mode use the strategy of the introspector which created them.
+ *
+ * <p>Cached views can be released through {@link #releaseCaches()}, which is typically done once the application has
+ * started if the environment uses the {@link IntrospectionCachePolicy#RELEASE_AFTER_STARTUP} policy. Only the caches of
+ * this introspector are released, the shared cache used in batch mode is retained for other applications.
+ *
  * @since 0.4.13
  *
  * @author Guus Lieben
  */
-public class ReflectionIntrospector implements BatchCapableIntrospector {
+public class ReflectionIntrospector implements BatchCapableIntrospector, CacheReleasingIntrospector {
 
     private static final ConcurrentIntrospectionViewCache SHARED_CACHE = new ConcurrentIntrospectionViewCache();
     private static final ClassLoader DEFAULT_CLASS_LOADER = Thread.currentThread().getContextClassLoader();
 
     private final ConcurrentIntrospectionViewCache viewCache = new ConcurrentIntrospectionViewCache();
-    private final IntrospectionEnvironment environment = new ReflectionIntrospectionEnvironment();
+    private final IntrospectionEnvironment environment;
     private final TypeView<?> voidType = new ReflectionTypeView<>(this, Void.class);
 
     private final ProxyLookup proxyLookup;
@@ -89,8 +100,13 @@ public class ReflectionIntrospector implements BatchCapableIntrospector {
     private boolean batchModeEnabled = false;
 
     public ReflectionIntrospector(ProxyLookup proxyLookup, AnnotationLookup annotationLookup) {
+        this(proxyLookup, annotationLookup, new ReflectionIntrospectionEnvironment());
+    }
+
+    public ReflectionIntrospector(ProxyLookup proxyLookup, AnnotationLookup annotationLookup, IntrospectionEnvironment environment) {
         this.proxyLookup = proxyLookup;
         this.annotationLookup = annotationLookup;
+        this.environment = environment;
     }
 
     @Override
@@ -103,10 +119,37 @@ public void enableBatchMode(boolean enable) {
         this.batchModeEnabled = enable;
     }
 
+    @Override
+    public void releaseCaches() {
+        this.viewCache.clear();
+    }
+
     protected ConcurrentIntrospectionViewCache viewCache() {
         return this.batchModeEnabled ? SHARED_CACHE : this.viewCache;
     }
 
+    /**
+     * Returns the {@link AnnotatedMemberIndex} for the methods of the given type. The index is held by the active
+     * {@link #viewCache() view cache}, so it is shared between all views of the same type.
+     *
+     * @param type the type of which the methods are indexed
+     * @return the method index of the type
+     */
+    public AnnotatedMemberIndex<MethodView<?, ?>> methodIndex(Class<?> type) {
+        return this.viewCache().methodIndex(type, AnnotatedMemberIndex::forMethods);
+    }
+
+    /**
+     * Returns the {@link AnnotatedMemberIndex} for the fields of the given type. The index is held by the active
+     * {@link #viewCache() view cache}, so it is shared between all views of the same type.
+     *
+     * @param type the type of which the fields are indexed
+     * @return the field index of the type
+     */
+    public AnnotatedMemberIndex<FieldView<?, ?>> fieldIndex(Class<?> type) {
+        return this.viewCache().fieldIndex(type, AnnotatedMemberIndex::forFields);
+    }
+
     private <T> TypeView<T> voidType() {
         return TypeUtils.unchecked(this.voidType, TypeView.class);
     }
@@ -149,8 +192,8 @@ public TypeView<?> introspect(Type type) {
 
     @Override
     public TypeView<?> introspect(ParameterizedType type) {
-        // Do not use cache here, as the type is parameterized
-        return new ReflectionTypeView<>(this, type);
+        // Parameterized types are cached by structure, so equivalent types share their resolved type parameters
+        return this.viewCache().computeIfAbsent(type, () -> new ReflectionTypeView<>(this, type));
     }
 
     @Override
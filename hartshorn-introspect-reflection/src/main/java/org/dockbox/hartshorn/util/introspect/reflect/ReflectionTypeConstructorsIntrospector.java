@@ -16,6 +16,7 @@
 
 package org.dockbox.hartshorn.util.introspect.reflect;
 
+import org.dockbox.hartshorn.util.function.SingleFlightSupplier;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.TypeConstructorsIntrospector;
 import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
@@ -41,19 +42,22 @@
     private final Class<T> type;
     private final Introspector introspector;
 
-    private Option<ConstructorView<T>> defaultConstructor;
-    private List<ConstructorView<T>> constructors;
+    private final SingleFlightSupplier<Option<ConstructorView<T>>> defaultConstructor;
+    private final SingleFlightSupplier<List<ConstructorView<T>>> constructors;
+
     public ReflectionTypeConstructorsIntrospector(Class<T> type, Introspector introspector) {
         this.type = type;
         this.introspector = introspector;
+        this.defaultConstructor = SingleFlightSupplier.of(() -> Option.of(() -> this.introspector.introspect(this.type.getDeclaredConstructor())));
+        this.constructors = SingleFlightSupplier.of(() -> Arrays.stream(this.type.getConstructors())
+                .map(constructor -> (Constructor<T>) constructor)
+                .map(this.introspector::introspect)
+                .toList());
     }
 
     @Override
     public Option<ConstructorView<T>> defaultConstructor() {
-        if (this.defaultConstructor == null) {
-            this.defaultConstructor = Option.of(() -> this.introspector.introspect(this.type.getDeclaredConstructor()));
-        }
-        return this.defaultConstructor;
+        return this.defaultConstructor.get();
     }
 
     @Override
@@ -73,13 +77,7 @@ public Option<ConstructorView<T>> withParameters(List<Class<?>> parameters) {
 
     @Override
     public List<ConstructorView<T>> all() {
-        if (this.constructors == null) {
-            this.constructors = Arrays.stream(this.type.getConstructors())
-                    .map(constructor -> (Constructor<T>) constructor)
-                    .map(this.introspector::introspect)
-                    .collect(Collectors.toList());
-        }
-        return this.constructors;
+        return this.constructors.get();
     }
 
     @Override
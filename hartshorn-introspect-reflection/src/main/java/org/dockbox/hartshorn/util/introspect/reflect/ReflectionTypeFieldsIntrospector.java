@@ -18,11 +18,14 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
+import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.function.SingleFlightSupplier;
+import org.dockbox.hartshorn.util.introspect.AnnotatedMemberIndex;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.TypeFieldsIntrospector;
 import org.dockbox.hartshorn.util.introspect.view.FieldView;
@@ -48,57 +51,67 @@
             "__$lineHits$__"
     );
 
-    private final Map<String, FieldView<T, ?>> fields = new ConcurrentHashMap<>();
-
     private final Introspector introspector;
     private final TypeView<T> type;
+    private final AnnotatedMemberIndex<FieldView<?, ?>> index;
+
+    private final SingleFlightSupplier<CollectedFields<T>> collected = SingleFlightSupplier.of(this::collect);
 
     public ReflectionTypeFieldsIntrospector(Introspector introspector, TypeView<T> type) {
+        this(introspector, type, AnnotatedMemberIndex.forFields());
+    }
+
+    public ReflectionTypeFieldsIntrospector(Introspector introspector, TypeView<T> type, AnnotatedMemberIndex<FieldView<?, ?>> index) {
         this.introspector = introspector;
         this.type = type;
+        this.index = index;
     }
 
-    private void collect() {
-        if (this.fields.isEmpty()) {
-            for (Field declared : this.type.type().getDeclaredFields()) {
-                if (EXCLUDED_FIELDS.contains(declared.getName())) {
-                    continue;
-                }
+    private CollectedFields<T> collected() {
+        return this.collected.get();
+    }
 
-                this.fields.put(declared.getName(), (FieldView<T, ?>) this.introspector.introspect(declared));
+    private CollectedFields<T> collect() {
+        Map<String, FieldView<T, ?>> fields = new HashMap<>();
+        for (Field declared : this.type.type().getDeclaredFields()) {
+            if (EXCLUDED_FIELDS.contains(declared.getName())) {
+                continue;
             }
-            if (!(this.type.superClass().isVoid() || Object.class.equals(this.type.superClass().type()))) {
-                for (FieldView<?, ?> field : this.type.superClass().fields().all()) {
-                    this.fields.put(field.name(), (FieldView<T, ?>) field);
-                }
+
+            fields.put(declared.getName(), (FieldView<T, ?>) this.introspector.introspect(declared));
+        }
+        if (!(this.type.superClass().isVoid() || Object.class.equals(this.type.superClass().type()))) {
+            for (FieldView<?, ?> field : this.type.superClass().fields().all()) {
+                fields.put(field.name(), (FieldView<T, ?>) field);
             }
         }
+        return new CollectedFields<>(Map.copyOf(fields), List.copyOf(fields.values()));
     }
 
     @Override
     public Option<FieldView<T, ?>> named(String name) {
-        this.collect();
-        if (this.fields.containsKey(name)) {
-            return Option.of(this.fields.get(name));
+        FieldView<T, ?> field = this.collected().fields().get(name);
+        if (field != null) {
+            return Option.of(field);
         }
         else if (!this.type.superClass().isVoid()) {
             return this.type.superClass().fields().named(name)
-                    .map(field -> (FieldView<T, ?>) field);
+                    .map(superField -> (FieldView<T, ?>) superField);
         }
         return Option.empty();
     }
 
     @Override
     public List<FieldView<T, ?>> all() {
-        this.collect();
-        return List.copyOf(this.fields.values());
+        return this.collected().all();
     }
 
     @Override
     public List<FieldView<T, ?>> annotatedWith(Class<? extends Annotation> annotation) {
-        return this.all().stream()
-                .filter(field -> field.annotations().has(annotation))
-                .toList();
+        List<FieldView<?, ?>> fields = this.index.annotatedWith(annotation, () -> TypeUtils.unchecked(this.all(), List.class));
+        return TypeUtils.unchecked(fields, List.class);
     }
 
+    private record CollectedFields<T>(Map<String, FieldView<T, ?>> fields, List<FieldView<T, ?>> all) {
+    }
 }
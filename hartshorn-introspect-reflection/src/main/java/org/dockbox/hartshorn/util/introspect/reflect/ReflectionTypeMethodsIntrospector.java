@@ -16,8 +16,12 @@
 
 package org.dockbox.hartshorn.util.introspect.reflect;
 
+import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.collections.ArrayListMultiMap;
+import org.dockbox.hartshorn.util.collections.ImmutableMultiMap;
 import org.dockbox.hartshorn.util.collections.MultiMap;
-import org.dockbox.hartshorn.util.collections.SynchronizedArrayListMultiMap;
+import org.dockbox.hartshorn.util.function.SingleFlightSupplier;
+import org.dockbox.hartshorn.util.introspect.AnnotatedMemberIndex;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.TypeMethodsIntrospector;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
@@ -45,18 +49,28 @@
 
     private final Introspector introspector;
     private final TypeView<T> type;
+    private final AnnotatedMemberIndex<MethodView<?, ?>> index;
 
-    private MultiMap<String, MethodView<T, ?>> methods;
-    private List<MethodView<T, ?>> declaredAndInheritedMethods;
-    private List<MethodView<T, ?>> bridgeMethods;
-    private List<MethodView<T, ?>> declaredMethods;
+    // Collecting methods introspects all methods in the hierarchy, so this is only done once, even when requested
+    // concurrently
+    private final SingleFlightSupplier<CollectedMethods<T>> collected = SingleFlightSupplier.of(this::collect);
+    private final SingleFlightSupplier<MultiMap<String, MethodView<T, ?>>> methodsByName = SingleFlightSupplier.of(this::indexByName);
 
     public ReflectionTypeMethodsIntrospector(Introspector introspector, TypeView<T> type) {
+        this(introspector, type, AnnotatedMemberIndex.forMethods());
+    }
+
+    public ReflectionTypeMethodsIntrospector(Introspector introspector, TypeView<T> type, AnnotatedMemberIndex<MethodView<?, ?>> index) {
         this.introspector = introspector;
         this.type = type;
+        this.index = index;
+    }
+
+    private CollectedMethods<T> collected() {
+        return this.collected.get();
     }
 
-    private void collect() {
+    private CollectedMethods<T> collect() {
         Set<Method> allMethods = new HashSet<>();
         List<Method> declaredMethods = List.of(this.type.type().getDeclaredMethods());
         List<Method> methods = List.of(this.type.type().getMethods());
@@ -80,31 +94,26 @@ private void collect() {
                 .filter(method -> method.method().present())
                 .toList();
 
-        this.declaredMethods = definedMethods.stream()
+        List<MethodView<T, ?>> declared = definedMethods.stream()
                 .filter(method -> declaredMethods.contains(method.method().get()))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
 
-        this.declaredAndInheritedMethods = definedMethods.stream()
+        List<MethodView<T, ?>> declaredAndInherited = definedMethods.stream()
                 .filter(method -> !method.method().get().isBridge())
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
 
-        this.bridgeMethods = definedMethods.stream()
+        List<MethodView<T, ?>> bridges = definedMethods.stream()
                 .filter(method -> method.method().get().isBridge())
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+
+        return new CollectedMethods<>(declaredAndInherited, declared, bridges);
     }
 
     @Override
     public Option<MethodView<T, ?>> named(String name, Collection<Class<?>> parameterTypes) {
-        if (this.methods == null) {
-            // Organizing the methods by name and arguments isn't worth the additional overhead for list comparisons,
-            // so instead we only link it by name and perform the list comparison on request.
-            this.methods = new SynchronizedArrayListMultiMap<>();
-            for (MethodView<T, ?> method : this.all()) {
-                this.methods.put(method.name(), method);
-            }
-        }
-        if (this.methods.containsKey(name)) {
-            Collection<MethodView<T, ?>> overloadingMethods = this.methods.get(name);
+        MultiMap<String, MethodView<T, ?>> methods = this.methodsByName.get();
+        if (methods.containsKey(name)) {
+            Collection<MethodView<T, ?>> overloadingMethods = methods.get(name);
             for (MethodView<T, ?> method : overloadingMethods) {
                 if (method.parameters().matches(List.copyOf(parameterTypes))) {
                     return Option.of(method);
@@ -114,48 +123,58 @@ private void collect() {
         return Option.empty();
     }
 
+    private MultiMap<String, MethodView<T, ?>> indexByName() {
+        // Organizing the methods by name and arguments isn't worth the additional overhead for list comparisons,
+        // so instead we only link it by name and perform the list comparison on request.
+        MultiMap<String, MethodView<T, ?>> methodsByName = new ArrayListMultiMap<>();
+        for (MethodView<T, ?> method : this.all()) {
+            methodsByName.put(method.name(), method);
+        }
+        return ImmutableMultiMap.copyOf(methodsByName);
+    }
+
     @Override
     public List<MethodView<T, ?>> all() {
-        if (this.declaredAndInheritedMethods == null) {
-            this.collect();
-        }
-        return this.declaredAndInheritedMethods;
+        return this.collected().declaredAndInherited();
     }
 
     @Override
     public List<MethodView<T, ?>> declared() {
-        if (this.declaredMethods == null) {
-            this.collect();
-        }
-        return this.declaredMethods;
+        return this.collected().declared();
     }
 
     @Override
     public List<MethodView<T, ?>> annotatedWith(Class<? extends Annotation> annotation) {
-        return this.all().stream()
-                .filter(method -> method.annotations().has(annotation))
-                .toList();
+        return this.adjust(this.index.annotatedWith(annotation, this::members));
     }
 
     @Override
     public List<MethodView<T, ?>> annotatedWithAny(Set<Class<? extends Annotation>> annotations) {
-        return this.all().stream()
-                .filter(method -> method.annotations().hasAny(annotations))
-                .toList();
+        return this.adjust(this.index.annotatedWithAny(annotations, this::members));
     }
 
     @Override
     public List<MethodView<T, ?>> annotatedWithAll(Set<Class<? extends Annotation>> annotations) {
-        return this.all().stream()
-                .filter(method -> method.annotations().hasAll(annotations))
-                .toList();
+        return this.adjust(this.index.annotatedWithAll(annotations, this::members));
     }
 
     @Override
     public List<MethodView<T, ?>> bridges() {
-        if (this.bridgeMethods == null) {
-            this.collect();
-        }
-        return this.bridgeMethods;
+        return this.collected().bridges();
+    }
+
+    private List<MethodView<?, ?>> members() {
+        return TypeUtils.unchecked(this.all(), List.class);
+    }
+
+    private List<MethodView<T, ?>> adjust(List<MethodView<?, ?>> methods) {
+        return TypeUtils.unchecked(methods, List.class);
+    }
+
+    private record CollectedMethods<T>(
+            List<MethodView<T, ?>> declaredAndInherited,
+            List<MethodView<T, ?>> declared,
+            List<MethodView<T, ?>> bridges
+    ) {
     }
 }
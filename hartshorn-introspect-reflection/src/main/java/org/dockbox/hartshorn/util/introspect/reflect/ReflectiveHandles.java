@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * Utility class to compile reflective members into {@link MethodHandle method handles} and {@link VarHandle variable
+ * handles}. Handles are adapted to a generic ({@code Object}-based) signature once, so they can be invoked exactly
+ * without further adaptation on every call. This allows the JIT to inline member access, which is not possible for {@link Constructor#newInstance(Object...)},
+ * {@link Field#set(Object, Object)} and {@link Method#invoke(Object, Object...)}.
+ *
+ * <p>All factory methods return an empty {@link Option} if the member cannot be represented by a handle, for
+ * example because it is not accessible. Callers are expected to fall back to plain reflection in that case. Handles
+ * are subject to the same access checks as reflection: members which have not been made {@link
+ * AccessibleObject#setAccessible(boolean) accessible} are checked against this class.
+ *
+ * <p>Compiled members report invalid arguments as {@link IllegalArgumentException}s, the same as core reflection does.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ReflectiveHandles {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CONSTRUCTOR_CALL_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType METHOD_CALL_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType FIELD_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private ReflectiveHandles() {
+        // Utility class
+    }
+
+    /**
+     * Compiles the given constructor into a {@link ReflectiveConstructorCall}, which is backed by a spreading {@link
+     * MethodHandle}.
+     *
+     * <p>Constructors of abstract classes and enums are never compiled, so the reflective behavior (and exceptions)
+     * for these types are retained.
+     *
+     * @param constructor the constructor to compile
+     * @param <T> the type of the instance created by the constructor
+     * @return the compiled constructor call, or an empty {@link Option} if the constructor cannot be compiled
+     */
+    public static <T> Option<ReflectiveConstructorCall<T>> constructorCall(Constructor<T> constructor) {
+        Class<T> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isAbstract(declaringClass.getModifiers()) || declaringClass.isEnum()) {
+            return Option.empty();
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(CONSTRUCTOR_CALL_TYPE);
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            return Option.of(args -> {
+                try {
+                    //noinspection unchecked
+                    return (T) (Object) handle.invokeExact(args);
+                }
+                catch (ClassCastException | NullPointerException e) {
+                    throw adaptArgumentFailure(e, parameterTypes, args);
+                }
+            });
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    /**
+     * Compiles the given method into a {@link MethodHandle} with the generic signature {@code (Object, Object[])Object}.
+     * The first argument is the receiver of the method call, which is ignored for static methods. The second argument
+     * holds the method arguments, which are spread over the method's parameters. Methods without a return value
+     * yield {@code null}.
+     *
+     * @param method the method to compile
+     * @return the compiled method handle, or an empty {@link Option} if the method cannot be compiled
+     */
+    public static Option<MethodHandle> methodHandle(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return Option.of(handle
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(METHOD_CALL_TYPE));
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    /**
+     * Compiles the given field into a {@link ReflectiveFieldAccess} that reads the field through a {@link VarHandle}.
+     * If no variable handle can be obtained for the field, the field is read through a getter {@link MethodHandle}
+     * instead. The instance passed to the access is ignored for static fields.
+     *
+     * @param field the field to compile
+     * @param <T> the type of the field
+     * @param <P> the type of the instance declaring the field
+     * @return the compiled field access, or an empty {@link Option} if the field cannot be compiled
+     */
+    public static <T, P> Option<ReflectiveFieldAccess<T, P>> fieldAccess(Field field) {
+        try {
+            Option<VarHandle> varHandle = varHandle(field);
+            MethodHandle getter = varHandle.present()
+                    ? varHandle.get().toMethodHandle(AccessMode.GET)
+                    : LOOKUP.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            MethodHandle handle = getter.asType(FIELD_GETTER_TYPE);
+            //noinspection unchecked
+            return Option.of(instance -> Option.of((T) (Object) handle.invokeExact((Object) instance)));
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    /**
+     * Compiles the given field into a {@link ReflectiveFieldWriter} that writes the field through a {@link VarHandle}.
+     * As variable handles do not support writing final fields, final fields and fields for which no variable handle can
+     * be obtained are written through a setter {@link MethodHandle} instead. The instance passed to the writer is ignored
+     * for static fields. Final fields can only be compiled if they are non-static and have been made accessible.
+     *
+     * @param field the field to compile
+     * @param <T> the type of the field
+     * @param <P> the type of the instance declaring the field
+     * @return the compiled field writer, or an empty {@link Option} if the field cannot be compiled
+     */
+    public static <T, P> Option<ReflectiveFieldWriter<T, P>> fieldWriter(Field field) {
+        try {
+            Option<VarHandle> varHandle = Modifier.isFinal(field.getModifiers())
+                    ? Option.empty()
+                    : varHandle(field);
+            MethodHandle setter = varHandle.present()
+                    ? varHandle.get().toMethodHandle(AccessMode.SET)
+                    : LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            MethodHandle handle = setter.asType(FIELD_SETTER_TYPE);
+            Class<?>[] parameterTypes = { field.getType() };
+            return Option.of((instance, value) -> {
+                try {
+                    handle.invokeExact((Object) instance, (Object) value);
+                }
+                catch (ClassCastException | NullPointerException e) {
+                    throw adaptArgumentFailure(e, parameterTypes, new Object[] { value });
+                }
+            });
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    private static Option<VarHandle> varHandle(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (declaringClass.isHidden()) {
+            return Option.empty();
+        }
+        try {
+            if (!isAccessible(field)) {
+                // Variable handles are always access checked against the lookup class, so fields which were not
+                // made accessible are only available if this class can access them.
+                return Option.of(LOOKUP.unreflectVarHandle(field));
+            }
+            // Accessible fields may be accessed regardless of their visibility, which for variable handles requires
+            // a private lookup.
+            Lookup lookup = MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+            return Option.of(lookup.unreflectVarHandle(field));
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    /**
+     * Returns whether the accessibility checks of the given member are suppressed, which is the case if it has been
+     * {@link AccessibleObject#setAccessible(boolean) made accessible}. Handles which are created from a member depend on
+     * this flag, so it needs to be taken into account when handles are shared between copies of the same member.
+     *
+     * @param member the member to check
+     * @return {@code true} if access checks are suppressed for the member, {@code false} otherwise
+     */
+    @SuppressWarnings("deprecation")
+    static boolean isAccessible(AccessibleObject member) {
+        // AccessibleObject#canAccess performs an access check for a given receiver, while only the override flag is
+        // relevant here, and that is only exposed through the deprecated accessor.
+        return member.isAccessible();
+    }
+
+    /**
+     * Adapts a failure of an invocation through a compiled handle to the exception core reflection would have thrown.
+     * Handles report a {@code null} primitive argument as a {@link NullPointerException}, and an argument of the wrong
+     * type as a {@link ClassCastException}, where reflection rejects these arguments with an {@link
+     * IllegalArgumentException} before the member is invoked. If all arguments are valid, the failure originates from
+     * the member itself, and is returned unchanged.
+     *
+     * @param failure the failure of the invocation
+     * @param parameterTypes the parameter types of the invoked member
+     * @param arguments the arguments of the invocation
+     * @return the exception to throw
+     */
+    static RuntimeException adaptArgumentFailure(RuntimeException failure, Class<?>[] parameterTypes, Object[] arguments) {
+        if (arguments == null || arguments.length != parameterTypes.length) {
+            return failure;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Object argument = arguments[i];
+            if (argument == null
+                    ? parameterTypes[i].isPrimitive()
+                    : !TypeUtils.isAssignable(argument.getClass(), parameterTypes[i])) {
+                IllegalArgumentException exception = new IllegalArgumentException("argument type mismatch");
+                exception.initCause(failure);
+                return exception;
+            }
+        }
+        return failure;
+    }
+}
@@ -29,6 +29,7 @@
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospector;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionTypeVariablesIntrospector;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectiveConstructorCall;
+import org.dockbox.hartshorn.util.introspect.reflect.ReflectiveHandles;
 import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
 import org.dockbox.hartshorn.util.introspect.view.ParameterView;
 import org.dockbox.hartshorn.util.introspect.view.TypeView;
@@ -61,7 +62,7 @@ public ReflectionConstructorView(ReflectionIntrospector introspector, Constructo
 
     protected ReflectiveConstructorCall<T> invoker() {
         if (this.invoker == null) {
-            this.invoker = args -> {
+            this.invoker = ReflectiveHandles.constructorCall(this.constructor).orElseGet(() -> args -> {
                 try {
                     return this.constructor.newInstance(args);
                 } catch (InvocationTargetException e) {
@@ -70,7 +71,7 @@ protected ReflectiveConstructorCall<T> invoker() {
                     }
                     throw e;
                 }
-            };
+            });
         }
         return this.invoker;
     }
@@ -24,11 +24,13 @@
 import org.dockbox.hartshorn.util.introspect.ElementModifiersIntrospector;
 import org.dockbox.hartshorn.util.introspect.IllegalIntrospectionException;
 import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.introspect.MemberAccessStrategy;
 import org.dockbox.hartshorn.util.introspect.annotations.Property;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionElementModifiersIntrospector;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospector;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectiveFieldAccess;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectiveFieldWriter;
+import org.dockbox.hartshorn.util.introspect.reflect.ReflectiveHandles;
 import org.dockbox.hartshorn.util.introspect.view.EnclosableView;
 import org.dockbox.hartshorn.util.introspect.view.FieldView;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
@@ -87,7 +89,7 @@ public void set(Object instance, Object value) throws Throwable {
                     methodView.invoke(this.declaredBy().cast(instance), propertyValue).cast(this.type().type());
                 };
             } else {
-                this.setter = (object, propertyValue) -> {
+                ReflectiveFieldWriter<FieldType, Parent> reflectiveSetter = (object, propertyValue) -> {
                     try {
                         this.field.set(object, propertyValue);
                     }
@@ -95,6 +97,9 @@ public void set(Object instance, Object value) throws Throwable {
                         throw new IllegalIntrospectionException(this, e.getMessage());
                     }
                 };
+                this.setter = this.useHandles()
+                        ? ReflectiveHandles.<FieldType, Parent>fieldWriter(this.field).orElse(reflectiveSetter)
+                        : reflectiveSetter;
             }
         }
         this.setter.set(this.declaredBy().cast(instance), this.type().cast(value));
@@ -111,7 +116,7 @@ public Option<FieldType> get(Object instance) throws Throwable {
                 this.getter = object -> methodContext.invoke(instance)
                         .map(result -> this.type().cast(result));
             } else {
-                this.getter = object -> {
+                ReflectiveFieldAccess<FieldType, Parent> reflectiveGetter = object -> {
                     try {
                         return Option.of(this.type().cast(this.field.get(object)));
                     }
@@ -119,11 +124,20 @@ public Option<FieldType> get(Object instance) throws Throwable {
                         throw new IllegalIntrospectionException(this, e.getMessage());
                     }
                 };
+                this.getter = this.useHandles()
+                        ? ReflectiveHandles.<FieldType, Parent>fieldAccess(this.field)
+                                .<ReflectiveFieldAccess<FieldType, Parent>>map(access -> object -> access.get(object).map(this.type()::cast))
+                                .orElse(reflectiveGetter)
+                        : reflectiveGetter;
             }
         }
         return this.getter.get(this.declaredBy().cast(instance)).orCompute(() -> this.type().defaultOrNull());
     }
 
+    private boolean useHandles() {
+        return this.introspector.environment().memberAccessStrategy() == MemberAccessStrategy.METHOD_HANDLES;
+    }
+
     @Override
     public Option<FieldType> getStatic() throws Throwable {
         if (!this.modifiers().isStatic()) {
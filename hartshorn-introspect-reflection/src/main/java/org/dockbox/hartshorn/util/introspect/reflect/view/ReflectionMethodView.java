@@ -26,6 +26,7 @@
 import org.dockbox.hartshorn.util.introspect.IllegalIntrospectionException;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.MethodInvoker;
+import org.dockbox.hartshorn.util.introspect.reflect.MethodHandleMethodInvoker;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospector;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionMethodInvoker;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
@@ -64,13 +65,25 @@ public Option<Method> method() {
         return Option.of(this.method);
     }
 
+    @Override
+    public Option<ReturnType> invoke(Object instance, Object... arguments) throws Throwable {
+        // Neither invoker retains the arguments, so the array can be passed as-is without an intermediate copy
+        return this.invoker().invoke(this, this.declaredBy().cast(instance), arguments);
+    }
+
     @Override
     public Option<ReturnType> invoke(Object instance, Collection<?> arguments) throws Throwable {
+        return this.invoker().invoke(this, this.declaredBy().cast(instance), arguments.toArray());
+    }
+
+    private MethodInvoker<ReturnType, Parent> invoker() {
         if (this.invoker == null) {
-            this.invoker = new ReflectionMethodInvoker<>();
+            this.invoker = switch (this.introspector.environment().memberAccessStrategy()) {
+                case REFLECTION -> new ReflectionMethodInvoker<>();
+                case METHOD_HANDLES -> new MethodHandleMethodInvoker<>();
+            };
         }
-        Parent checkedInstance = this.declaredBy().cast(instance);
-        return this.invoker.invoke(this, checkedInstance, arguments.toArray());
+        return this.invoker;
     }
 
     @Override
@@ -33,7 +33,6 @@
 import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.collections.BiMap;
 import org.dockbox.hartshorn.util.introspect.ElementModifiersIntrospector;
-import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.TypeConstructorsIntrospector;
 import org.dockbox.hartshorn.util.introspect.TypeFieldsIntrospector;
 import org.dockbox.hartshorn.util.introspect.TypeMethodsIntrospector;
@@ -85,7 +84,7 @@
             Map.entry(short.class, 0)
     );
 
-    private final Introspector introspector;
+    private final ReflectionIntrospector introspector;
     private final Class<T> type;
     private final ParameterizedType parameterizedType;
 
@@ -97,9 +96,10 @@
     private List<TypeView<? extends T>> permittedSubclasses;
     private Option<TypeView<?>> elementType;
 
-    private TypeMethodsIntrospector<T> methodsIntrospector;
-    private TypeFieldsIntrospector<T> fieldsIntrospector;
-    private TypeConstructorsIntrospector<T> constructorsIntrospector;
+    // Member introspectors hold the collected members of this type, so only a single instance of each may be published
+    private volatile TypeMethodsIntrospector<T> methodsIntrospector;
+    private volatile TypeFieldsIntrospector<T> fieldsIntrospector;
+    private volatile TypeConstructorsIntrospector<T> constructorsIntrospector;
     private TypeParametersIntrospector typeParametersIntrospector;
 
     public ReflectionTypeView(ReflectionIntrospector introspector, Class<T> type) {
@@ -282,26 +282,47 @@ public TypeView<?> genericSuperClass() {
 
     @Override
     public TypeMethodsIntrospector<T> methods() {
-        if (this.methodsIntrospector == null) {
-            this.methodsIntrospector = new ReflectionTypeMethodsIntrospector<>(this.introspector, this);
+        TypeMethodsIntrospector<T> methodsIntrospector = this.methodsIntrospector;
+        if (methodsIntrospector == null) {
+            synchronized (this) {
+                methodsIntrospector = this.methodsIntrospector;
+                if (methodsIntrospector == null) {
+                    methodsIntrospector = new ReflectionTypeMethodsIntrospector<>(this.introspector, this, this.introspector.methodIndex(this.type));
+                    this.methodsIntrospector = methodsIntrospector;
+                }
+            }
         }
-        return this.methodsIntrospector;
+        return methodsIntrospector;
     }
 
     @Override
     public TypeFieldsIntrospector<T> fields() {
-        if (this.fieldsIntrospector == null) {
-            this.fieldsIntrospector = new ReflectionTypeFieldsIntrospector<>(this.introspector, this);
+        TypeFieldsIntrospector<T> fieldsIntrospector = this.fieldsIntrospector;
+        if (fieldsIntrospector == null) {
+            synchronized (this) {
+                fieldsIntrospector = this.fieldsIntrospector;
+                if (fieldsIntrospector == null) {
+                    fieldsIntrospector = new ReflectionTypeFieldsIntrospector<>(this.introspector, this, this.introspector.fieldIndex(this.type));
+                    this.fieldsIntrospector = fieldsIntrospector;
+                }
+            }
         }
-        return this.fieldsIntrospector;
+        return fieldsIntrospector;
     }
 
     @Override
     public TypeConstructorsIntrospector<T> constructors() {
-        if (this.constructorsIntrospector == null) {
-            this.constructorsIntrospector = new ReflectionTypeConstructorsIntrospector<>(this.type, this.introspector);
+        TypeConstructorsIntrospector<T> constructorsIntrospector = this.constructorsIntrospector;
+        if (constructorsIntrospector == null) {
+            synchronized (this) {
+                constructorsIntrospector = this.constructorsIntrospector;
+                if (constructorsIntrospector == null) {
+                    constructorsIntrospector = new ReflectionTypeConstructorsIntrospector<>(this.type, this.introspector);
+                    this.constructorsIntrospector = constructorsIntrospector;
+                }
+            }
         }
-        return this.constructorsIntrospector;
+        return constructorsIntrospector;
     }
 
     @Override
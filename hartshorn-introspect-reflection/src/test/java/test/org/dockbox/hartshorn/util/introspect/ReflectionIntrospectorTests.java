@@ -16,10 +16,24 @@
 
 package test.org.dockbox.hartshorn.util.introspect;
 
+import java.util.List;
+import java.util.Set;
+
+import org.dockbox.hartshorn.util.introspect.AnnotatedMemberIndex;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
+import org.dockbox.hartshorn.util.introspect.MemberAccessStrategy;
 import org.dockbox.hartshorn.util.introspect.NativeProxyLookup;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.annotations.VirtualHierarchyAnnotationLookup;
+import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospectionEnvironment;
 import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospector;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.introspect.view.TypeView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import test.org.dockbox.hartshorn.util.introspect.support.annotations.MultipleElementAnnotation;
+import test.org.dockbox.hartshorn.util.introspect.support.basic.ConcreteTestType;
 
 public class ReflectionIntrospectorTests extends IntrospectorTests {
 
@@ -27,4 +41,60 @@ public class ReflectionIntrospectorTests extends IntrospectorTests {
     protected Introspector introspector() {
         return new ReflectionIntrospector(new NativeProxyLookup(), new VirtualHierarchyAnnotationLookup());
     }
+
+    private ReflectionIntrospector releasingIntrospector() {
+        return new ReflectionIntrospector(
+                new NativeProxyLookup(),
+                new VirtualHierarchyAnnotationLookup(),
+                new ReflectionIntrospectionEnvironment(MemberAccessStrategy.METHOD_HANDLES, IntrospectionCachePolicy.RELEASE_AFTER_STARTUP)
+        );
+    }
+
+    @Test
+    void testReleasedCachesCreateNewViews() {
+        ReflectionIntrospector introspector = this.releasingIntrospector();
+        Assertions.assertEquals(IntrospectionCachePolicy.RELEASE_AFTER_STARTUP, introspector.environment().cachePolicy());
+
+        TypeView<ConcreteTestType> type = introspector.introspect(ConcreteTestType.class);
+        MethodView<ConcreteTestType, ?> method = type.methods().all().getFirst();
+        Assertions.assertSame(type, introspector.introspect(ConcreteTestType.class));
+
+        introspector.releaseCaches();
+
+        TypeView<ConcreteTestType> released = introspector.introspect(ConcreteTestType.class);
+        Assertions.assertNotSame(type, released);
+        Assertions.assertSame(released, introspector.introspect(ConcreteTestType.class));
+        Assertions.assertSame(type.type(), released.type());
+
+        // Views obtained before the release remain usable
+        Assertions.assertSame(method, type.methods().all().getFirst());
+        Assertions.assertEquals(type.methods().all().size(), released.methods().all().size());
+    }
+
+    @Test
+    void testReleasingCachesRetainsSharedBatchCache() {
+        ReflectionIntrospector introspector = this.releasingIntrospector();
+        introspector.enableBatchMode(true);
+
+        TypeView<ConcreteTestType> type = introspector.introspect(ConcreteTestType.class);
+        introspector.releaseCaches();
+        Assertions.assertSame(type, introspector.introspect(ConcreteTestType.class));
+    }
+
+    @Test
+    void testAnnotatedMemberIndexResolvesRecreatedViews() {
+        AnnotatedMemberIndex<MethodView<?, ?>> index = AnnotatedMemberIndex.forMethods();
+        List<MethodView<?, ?>> methods = List.copyOf(this.introspector().introspect(ConcreteTestType.class).methods().all());
+        List<MethodView<?, ?>> recreated = List.copyOf(this.introspector().introspect(ConcreteTestType.class).methods().all());
+
+        List<MethodView<?, ?>> annotated = index.annotatedWith(MultipleElementAnnotation.class, () -> methods);
+        Assertions.assertFalse(annotated.isEmpty());
+
+        // Indexed members are matched by their underlying method, so views of another introspector are resolved as well
+        List<MethodView<?, ?>> resolved = index.annotatedWithAll(Set.of(MultipleElementAnnotation.class), () -> recreated);
+        Assertions.assertEquals(annotated.size(), resolved.size());
+        for (MethodView<?, ?> method : resolved) {
+            Assertions.assertTrue(recreated.stream().anyMatch(view -> view == method));
+        }
+    }
 }
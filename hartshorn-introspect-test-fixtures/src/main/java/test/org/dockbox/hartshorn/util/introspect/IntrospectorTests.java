@@ -19,8 +19,17 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.dockbox.hartshorn.util.CollectionUtilities;
@@ -185,6 +194,30 @@ void testAnnotatedMethodsReturnsAllModifiers() {
         Assertions.assertTrue(names.contains("privateAnnotatedMethod"));
     }
 
+    @Test
+    void testAnnotatedMethodQueriesAreConsistent() {
+        TypeView<ConcreteTestType> type = this.introspector().introspect(ConcreteTestType.class);
+        List<MethodView<ConcreteTestType, ?>> methods = type.methods().annotatedWith(MultipleElementAnnotation.class);
+
+        Assertions.assertEquals(methods, type.methods().annotatedWith(MultipleElementAnnotation.class));
+        Assertions.assertEquals(methods, type.methods().annotatedWithAll(Set.of(MultipleElementAnnotation.class)));
+        Assertions.assertEquals(methods, type.methods().annotatedWithAny(Set.of(MultipleElementAnnotation.class, AnyElementAnnotation.class)));
+        Assertions.assertTrue(type.methods().annotatedWithAll(Set.of(MultipleElementAnnotation.class, AnyElementAnnotation.class)).isEmpty());
+        Assertions.assertTrue(type.methods().annotatedWithAny(Set.of()).isEmpty());
+    }
+
+    @Test
+    void testAbsentAnnotationLookupsAreConsistent() {
+        TypeView<ConcreteTestType> type = this.introspector().introspect(ConcreteTestType.class);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertFalse(type.annotations().has(AnyElementAnnotation.class));
+            Assertions.assertTrue(type.annotations().get(AnyElementAnnotation.class).absent());
+            Assertions.assertTrue(type.annotations().has(MultipleElementAnnotation.class));
+            Assertions.assertTrue(type.annotations().hasAny(Set.of(AnyElementAnnotation.class, MultipleElementAnnotation.class)));
+            Assertions.assertFalse(type.annotations().hasAll(Set.of(AnyElementAnnotation.class, MultipleElementAnnotation.class)));
+        }
+    }
+
     @Test
     void testStaticFieldsReturnsAllModifiers() {
         List<FieldView<ConcreteTestType, ?>> fields = this.introspector().introspect(ConcreteTestType.class).fields().all().stream()
@@ -348,6 +381,64 @@ void testSetFieldUpdatesNormalField() throws Throwable {
         Assertions.assertEquals("newValue", instance.publicField);
     }
 
+    @Test
+    void testSetFieldUpdatesPrivateField() throws Throwable {
+        Field fieldRef = ConcreteTestType.class.getDeclaredField("privateField");
+        FieldView<?, ?> field = this.introspector().introspect(fieldRef);
+        ConcreteTestType instance = new ConcreteTestType();
+        field.set(instance, "newValue");
+
+        Assertions.assertEquals("newValue", field.get(instance).orNull());
+    }
+
+    @Test
+    void testSetFieldUpdatesStaticField() throws Throwable {
+        Field fieldRef = ConcreteTestType.class.getDeclaredField("privateStaticField");
+        FieldView<?, ?> field = this.introspector().introspect(fieldRef);
+        try {
+            field.set(null, "newValue");
+            Assertions.assertEquals("newValue", field.getStatic().orNull());
+        }
+        finally {
+            field.set(null, "privateStaticField");
+        }
+    }
+
+    @Test
+    void testDefaultConstructorCreatesInstance() throws Throwable {
+        ConstructorView<ConcreteTestType> constructor = this.introspector().introspect(ConcreteTestType.class)
+                .constructors()
+                .defaultConstructor()
+                .get();
+        ConcreteTestType instance = constructor.create();
+
+        Assertions.assertNotNull(instance);
+        Assertions.assertTrue(instance.activatedConstructor());
+        Assertions.assertNotSame(instance, constructor.create());
+    }
+
+    @Test
+    void testInvalidMethodArgumentsAreRejectedAsIllegalArguments() throws Throwable {
+        MethodView<?, ?> charAt = this.introspector().introspect(String.class.getMethod("charAt", int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> charAt.invoke("value", (Object) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> charAt.invoke("value", "0"));
+        Assertions.assertEquals('v', charAt.invoke("value", 0).orNull());
+    }
+
+    @Test
+    void testExceptionsThrownByMethodAreNotAdapted() throws NoSuchMethodException {
+        MethodView<?, ?> requireNonNull = this.introspector().introspect(Objects.class.getMethod("requireNonNull", Object.class));
+        Assertions.assertThrows(NullPointerException.class, () -> requireNonNull.invokeStatic((Object) null));
+    }
+
+    @Test
+    void testInvalidConstructorArgumentsAreRejectedAsIllegalArguments() throws Throwable {
+        ConstructorView<StringBuilder> constructor = this.introspector().introspect(StringBuilder.class.getConstructor(int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> constructor.create(Collections.singletonList(null)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> constructor.create(List.of("16")));
+        Assertions.assertEquals(16, constructor.create(List.of(16)).capacity());
+    }
+
     @Test
     void testAnnotatedFieldsIncludesStatic() {
         List<FieldView<ConcreteTestType, ?>> fields = this.introspector().introspect(ConcreteTestType.class).fields().annotatedWith(
@@ -554,4 +645,82 @@ void testParameterizableTypeCanBeIntrospected() {
 
         Assertions.assertTrue(argumentView.is(String.class));
     }
+
+    @SuppressWarnings("unused") // Used by testEquivalentParameterizedTypesShareView
+    private final List<String> stringList = new ArrayList<>();
+
+    @Test
+    void testEquivalentParameterizedTypesShareView() throws NoSuchFieldException {
+        ParameterizableType collectionType = ParameterizableType.builder(List.class)
+                .parameters(ParameterizableType.create(String.class))
+                .build();
+        Introspector introspector = this.introspector();
+        TypeView<?> parameterizableView = introspector.introspect(collectionType);
+        Assertions.assertSame(parameterizableView, introspector.introspect(collectionType));
+
+        Field field = IntrospectorTests.class.getDeclaredField("stringList");
+        TypeView<?> reflectedView = introspector.introspect(field.getGenericType());
+        Assertions.assertSame(parameterizableView, reflectedView);
+        Assertions.assertSame(
+                parameterizableView.typeParameters().allInput(),
+                reflectedView.typeParameters().allInput()
+        );
+    }
+
+    @Test
+    void testConcurrentMemberAccessIsSingleFlight() throws InterruptedException, ExecutionException {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Use a fresh introspector per round, so every round races on the construction of uncached views
+            for (int round = 0; round < 25; round++) {
+                Introspector introspector = this.introspector();
+                List<TypeView<ConcreteTestType>> types = this.hammer(executor, threads, introspector, target -> target.introspect(ConcreteTestType.class));
+                TypeView<ConcreteTestType> type = types.getFirst();
+                types.forEach(view -> Assertions.assertSame(type, view));
+
+                List<List<MethodView<ConcreteTestType, ?>>> methods = this.hammer(executor, threads, introspector, target -> target.introspect(ConcreteTestType.class).methods().all());
+                List<List<FieldView<ConcreteTestType, ?>>> fields = this.hammer(executor, threads, introspector, target -> target.introspect(ConcreteTestType.class).fields().all());
+                List<List<ConstructorView<ConcreteTestType>>> constructors = this.hammer(executor, threads, introspector, target -> target.introspect(ConcreteTestType.class).constructors().all());
+
+                for (int index = 0; index < threads; index++) {
+                    Assertions.assertSame(type.methods().all(), methods.get(index));
+                    Assertions.assertSame(type.fields().all(), fields.get(index));
+                    Assertions.assertSame(type.constructors().all(), constructors.get(index));
+                }
+                Assertions.assertThrows(UnsupportedOperationException.class, () -> type.methods().all().clear());
+                Assertions.assertThrows(UnsupportedOperationException.class, () -> type.fields().all().clear());
+                Assertions.assertThrows(UnsupportedOperationException.class, () -> type.constructors().all().clear());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Invokes the given action on all threads of the given executor at the same time, and returns the results in the
+     * order in which the tasks were submitted.
+     */
+    private <T> List<T> hammer(ExecutorService executor, int threads, Introspector introspector, Function<Introspector, T> action)
+            throws InterruptedException, ExecutionException {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return action.apply(introspector);
+            }));
+        }
+        Assertions.assertTrue(ready.await(10, TimeUnit.SECONDS));
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
 }
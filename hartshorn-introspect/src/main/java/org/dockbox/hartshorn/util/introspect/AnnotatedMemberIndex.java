@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.dockbox.hartshorn.util.introspect.view.AnnotatedElementView;
+import org.dockbox.hartshorn.util.introspect.view.FieldView;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+
+/**
+ * A lazily built index of the members of a single type, organized by the annotations that are present on them. The
+ * index is populated on demand, so each annotation is only evaluated once for all members of the type. Subsequent
+ * queries for the same annotation are served from the index.
+ *
+ * <p>Members are indexed based on {@link AnnotatedElementView#annotations()}, which means members which are annotated
+ * with an annotation that is meta-annotated with the requested annotation are included in the index as well.
+ *
+ * <p>The index does not hold on to member views. Instead, it records the keys of the annotated members, typically the
+ * underlying {@link java.lang.reflect.Method} or {@link java.lang.reflect.Field}, and resolves these against the members
+ * that are provided on each query. This keeps the index valid when views are recreated, for example after the caches
+ * of an {@link Introspector} were released.
+ *
+ * <p>This index is thread-safe. Concurrent queries for the same annotation may evaluate the members more than once,
+ * but will always observe the same effective result. Indexes are typically shared through an {@link
+ * IntrospectionViewCache}, so all views of the same type use the same index.
+ *
+ * @param <E> the type of the indexed members
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class AnnotatedMemberIndex<E extends AnnotatedElementView> {
+
+    private final Map<Class<? extends Annotation>, Set<Object>> index = new ConcurrentHashMap<>();
+    private final Function<E, Object> keyFunction;
+
+    /**
+     * Creates a new index which identifies members through the given key function. Keys should be equal for all
+     * views of the same member.
+     *
+     * @param keyFunction the function to obtain the key of a member
+     */
+    public AnnotatedMemberIndex(Function<E, Object> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Creates a new index for methods, which identifies methods by their underlying {@link java.lang.reflect.Method}.
+     *
+     * @return a new method index
+     */
+    public static AnnotatedMemberIndex<MethodView<?, ?>> forMethods() {
+        return new AnnotatedMemberIndex<>(method -> method.method().map(Object.class::cast).orElse(method));
+    }
+
+    /**
+     * Creates a new index for fields, which identifies fields by their underlying {@link java.lang.reflect.Field}.
+     *
+     * @return a new field index
+     */
+    public static AnnotatedMemberIndex<FieldView<?, ?>> forFields() {
+        return new AnnotatedMemberIndex<>(field -> field.field().map(Object.class::cast).orElse(field));
+    }
+
+    /**
+     * Returns all members that are annotated with the given annotation, in the order in which they are provided by
+     * the given supplier. The supplier is not used if the annotation is known to be absent on all members.
+     *
+     * @param annotation the annotation to look up
+     * @param members the supplier of all members of the type
+     * @return the annotated members
+     */
+    public List<E> annotatedWith(Class<? extends Annotation> annotation, Supplier<List<E>> members) {
+        Set<Object> annotated = this.index.get(annotation);
+        if (annotated == null) {
+            List<E> matches = members.get().stream()
+                    .filter(member -> member.annotations().has(annotation))
+                    .toList();
+            this.index.putIfAbsent(annotation, matches.stream()
+                    .map(this.keyFunction)
+                    .collect(Collectors.toUnmodifiableSet()));
+            return matches;
+        }
+        return this.resolve(annotated, members);
+    }
+
+    /**
+     * Returns all members that are annotated with at least one of the given annotations, in the order in which they
+     * are provided by the given supplier.
+     *
+     * @param annotations the annotations to look up
+     * @param members the supplier of all members of the type
+     * @return the annotated members
+     */
+    public List<E> annotatedWithAny(Set<Class<? extends Annotation>> annotations, Supplier<List<E>> members) {
+        Set<Object> matches = new HashSet<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            matches.addAll(this.keys(annotation, members));
+        }
+        return this.resolve(matches, members);
+    }
+
+    /**
+     * Returns all members that are annotated with all of the given annotations, in the order in which they are
+     * provided by the given supplier.
+     *
+     * @param annotations the annotations to look up
+     * @param members the supplier of all members of the type
+     * @return the annotated members
+     */
+    public List<E> annotatedWithAll(Set<Class<? extends Annotation>> annotations, Supplier<List<E>> members) {
+        if (annotations.isEmpty()) {
+            return members.get();
+        }
+        Set<Object> matches = null;
+        for (Class<? extends Annotation> annotation : annotations) {
+            Set<Object> annotated = this.keys(annotation, members);
+            if (matches == null) {
+                matches = new HashSet<>(annotated);
+            }
+            else {
+                matches.retainAll(annotated);
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+        return this.resolve(matches, members);
+    }
+
+    private Set<Object> keys(Class<? extends Annotation> annotation, Supplier<List<E>> members) {
+        Set<Object> annotated = this.index.get(annotation);
+        if (annotated == null) {
+            this.annotatedWith(annotation, members);
+            annotated = this.index.get(annotation);
+        }
+        return annotated;
+    }
+
+    private List<E> resolve(Set<Object> keys, Supplier<List<E>> members) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return members.get().stream()
+                .filter(member -> keys.contains(this.keyFunction.apply(member)))
+                .toList();
+    }
+}
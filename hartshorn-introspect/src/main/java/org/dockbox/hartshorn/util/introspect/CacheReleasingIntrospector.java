@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect;
+
+/**
+ * An {@link Introspector} which caches the views it creates, and which is able to release those caches on request.
+ * This is typically done once the application has started, if the {@link IntrospectionEnvironment#cachePolicy() cache
+ * policy} of the introspector's environment allows it.
+ *
+ * @see IntrospectionCachePolicy
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public interface CacheReleasingIntrospector extends Introspector {
+
+    /**
+     * Releases all views which are cached by this introspector. Views which are still referenced elsewhere remain
+     * usable, but requesting the view of the same element again will create a new view. Caches which are shared with
+     * other introspectors, for example in batch mode, are not released.
+     */
+    void releaseCaches();
+
+}
@@ -20,11 +20,13 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.function.SingleFlightSupplier;
 import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
 import org.dockbox.hartshorn.util.introspect.view.FieldView;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
@@ -36,10 +38,10 @@
  * Concurrent implementation of {@link IntrospectionViewCache}. This implementation is thread-safe and performs well in
  * batch mode. It is recommended to use this implementation in multi-threaded environments, or when batch mode is enabled.
  *
- * <p>Note that it is not guaranteed that the same instance is returned for concurrent calls to the same method. This is
- * because the cache is not synchronized, and the cache may be overwritten by concurrent calls. This is typically not an
- * issue, as the cache is populated with the same effective value. If this is not the case, it is recommended to use a
- * synchronized cache.
+ * <p>Views are constructed single-flight per key: when multiple threads request the view of the same element at the
+ * same time, only one thread constructs it, while the other threads wait for and receive the same instance. Views are
+ * constructed outside the locks of the underlying maps, so constructing a view may look up the views of other elements
+ * (e.g. a supertype) without blocking unrelated keys, or failing due to recursive map updates.
  *
  * @since 0.5.0
  *
@@ -47,40 +49,80 @@
  */
 public class ConcurrentIntrospectionViewCache implements IntrospectionViewCache {
 
-    private final Map<Class<?>, TypeView<?>> typeViewCache = new ConcurrentHashMap<>();
-    private final Map<Method, MethodView<?, ?>> methodViewCache = new ConcurrentHashMap<>();
-    private final Map<Field, FieldView<?, ?>> fieldViewCache = new ConcurrentHashMap<>();
-    private final Map<Parameter, ParameterView<?>> parameterViewCache = new ConcurrentHashMap<>();
-    private final Map<Constructor<?>, ConstructorView<?>> constructorViewCache = new ConcurrentHashMap<>();
-    private final Map<Package, PackageView> packageViewCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, SingleFlightSupplier<TypeView<?>>> typeViewCache = new ConcurrentHashMap<>();
+    private final Map<ParameterizedTypeKey, SingleFlightSupplier<TypeView<?>>> parameterizedTypeViewCache = new ConcurrentHashMap<>();
+    private final Map<Method, SingleFlightSupplier<MethodView<?, ?>>> methodViewCache = new ConcurrentHashMap<>();
+    private final Map<Field, SingleFlightSupplier<FieldView<?, ?>>> fieldViewCache = new ConcurrentHashMap<>();
+    private final Map<Parameter, SingleFlightSupplier<ParameterView<?>>> parameterViewCache = new ConcurrentHashMap<>();
+    private final Map<Constructor<?>, SingleFlightSupplier<ConstructorView<?>>> constructorViewCache = new ConcurrentHashMap<>();
+    private final Map<Package, SingleFlightSupplier<PackageView>> packageViewCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AnnotatedMemberIndex<MethodView<?, ?>>> methodIndexCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AnnotatedMemberIndex<FieldView<?, ?>>> fieldIndexCache = new ConcurrentHashMap<>();
 
     @Override
     public <T> TypeView<T> computeIfAbsent(Class<T> type, Supplier<TypeView<T>> viewSupplier) {
-        return TypeUtils.unchecked(this.typeViewCache.computeIfAbsent(type, key0 -> viewSupplier.get()), TypeView.class);
+        return TypeUtils.unchecked(computeSingleFlight(this.typeViewCache, type, viewSupplier), TypeView.class);
+    }
+
+    @Override
+    public TypeView<?> computeIfAbsent(ParameterizedType type, Supplier<TypeView<?>> viewSupplier) {
+        return computeSingleFlight(this.parameterizedTypeViewCache, ParameterizedTypeKey.of(type), viewSupplier);
     }
 
     @Override
     public MethodView<?, ?> computeIfAbsent(Method method, Supplier<MethodView<?, ?>> viewSupplier) {
-        return this.methodViewCache.computeIfAbsent(method, key0 -> viewSupplier.get());
+        return computeSingleFlight(this.methodViewCache, method, viewSupplier);
     }
 
     @Override
     public FieldView<?, ?> computeIfAbsent(Field field, Supplier<FieldView<?, ?>> viewSupplier) {
-        return this.fieldViewCache.computeIfAbsent(field, key0 -> viewSupplier.get());
+        return computeSingleFlight(this.fieldViewCache, field, viewSupplier);
     }
 
     @Override
     public ParameterView<?> computeIfAbsent(Parameter parameter, Supplier<ParameterView<?>> viewSupplier) {
-        return this.parameterViewCache.computeIfAbsent(parameter, key0 -> viewSupplier.get());
+        return computeSingleFlight(this.parameterViewCache, parameter, viewSupplier);
     }
 
     @Override
     public <T> ConstructorView<T> computeIfAbsent(Constructor<T> constructor, Supplier<ConstructorView<T>> viewSupplier) {
-        return TypeUtils.unchecked(this.constructorViewCache.computeIfAbsent(constructor, key0 -> viewSupplier.get()), ConstructorView.class);
+        return TypeUtils.unchecked(computeSingleFlight(this.constructorViewCache, constructor, viewSupplier), ConstructorView.class);
     }
 
     @Override
     public PackageView computeIfAbsent(Package pkg, Supplier<PackageView> viewSupplier) {
-        return this.packageViewCache.computeIfAbsent(pkg, key0 -> viewSupplier.get());
+        return computeSingleFlight(this.packageViewCache, pkg, viewSupplier);
+    }
+
+    @Override
+    public AnnotatedMemberIndex<MethodView<?, ?>> methodIndex(Class<?> type, Supplier<AnnotatedMemberIndex<MethodView<?, ?>>> indexSupplier) {
+        return this.methodIndexCache.computeIfAbsent(type, key0 -> indexSupplier.get());
+    }
+
+    @Override
+    public AnnotatedMemberIndex<FieldView<?, ?>> fieldIndex(Class<?> type, Supplier<AnnotatedMemberIndex<FieldView<?, ?>>> indexSupplier) {
+        return this.fieldIndexCache.computeIfAbsent(type, key0 -> indexSupplier.get());
+    }
+
+    @Override
+    public void clear() {
+        this.typeViewCache.clear();
+        this.parameterizedTypeViewCache.clear();
+        this.methodViewCache.clear();
+        this.fieldViewCache.clear();
+        this.parameterViewCache.clear();
+        this.constructorViewCache.clear();
+        this.packageViewCache.clear();
+        this.methodIndexCache.clear();
+        this.fieldIndexCache.clear();
+    }
+
+    private static <K, V> V computeSingleFlight(Map<K, SingleFlightSupplier<V>> cache, K key, Supplier<? extends V> supplier) {
+        SingleFlightSupplier<V> entry = cache.get(key);
+        if (entry == null) {
+            // Only the placeholder is created while the map is locked, the view itself is constructed afterward
+            entry = cache.computeIfAbsent(key, key0 -> SingleFlightSupplier.of(supplier));
+        }
+        return entry.get();
     }
 }
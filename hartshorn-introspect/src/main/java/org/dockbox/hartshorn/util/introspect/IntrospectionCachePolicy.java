@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect;
+
+/**
+ * Policies which determine how long an {@link Introspector} retains the views it creates. The active policy is provided
+ * by the {@link IntrospectionEnvironment}.
+ *
+ * <p>Most views are only requested while the application is starting, when components are discovered and processed.
+ * Releasing the cached views once the application has started allows views which are no longer referenced by the
+ * application to be garbage collected. Views which are requested after the caches were released are created again on
+ * demand, so they may not be the same instance as views which were obtained before.
+ *
+ * <p>Caches which outlive a release should therefore not rely on the identity of views. Memoized condition results,
+ * annotated member indexes and compiled member handles are keyed by the underlying {@link Class}, {@link
+ * java.lang.reflect.Method}, {@link java.lang.reflect.Field} or {@link java.lang.reflect.Constructor}, so they remain
+ * valid for recreated views. Contexts which were attached to a view are not carried over to its recreated
+ * counterpart. Note that releasing the caches only allows views to be collected once nothing else refers
+ * to them. Views which are held by long-lived objects, such as the component containers of the component registry,
+ * the providers of bindings and the interceptor pipelines of proxies, remain in memory for as long as these objects
+ * do.
+ *
+ * @see IntrospectionEnvironment#cachePolicy()
+ * @see CacheReleasingIntrospector
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public enum IntrospectionCachePolicy {
+
+    /**
+     * Views are retained for the lifetime of the introspector. This guarantees that the same element always yields
+     * the same view instance, at the cost of keeping all views in memory.
+     */
+    RETAIN,
+
+    /**
+     * Views are retained while the application is starting, and released once the application has started. This
+     * reduces the memory footprint of applications which introspect many types during startup, but only few
+     * afterward.
+     */
+    RELEASE_AFTER_STARTUP,
+}
@@ -18,7 +18,8 @@
 
 /**
  * An interface that defines the environment in which introspection is performed. This is used to
- * determine whether certain information is available, such as parameter names.
+ * determine whether certain information is available, such as parameter names, and how members are
+ * accessed.
  *
  * @since 0.5.0
  *
@@ -35,4 +36,24 @@ public interface IntrospectionEnvironment {
      */
     boolean parameterNamesAvailable();
 
+    /**
+     * Returns the strategy which is used to invoke methods and to read and write fields. By default, members are
+     * accessed through {@link MemberAccessStrategy#METHOD_HANDLES method handles}.
+     *
+     * @return the member access strategy
+     */
+    default MemberAccessStrategy memberAccessStrategy() {
+        return MemberAccessStrategy.METHOD_HANDLES;
+    }
+
+    /**
+     * Returns the policy which determines how long introspectors retain the views they create. By default, views are
+     * {@link IntrospectionCachePolicy#RETAIN retained} for the lifetime of the introspector.
+     *
+     * @return the cache policy
+     */
+    default IntrospectionCachePolicy cachePolicy() {
+        return IntrospectionCachePolicy.RETAIN;
+    }
+
 }
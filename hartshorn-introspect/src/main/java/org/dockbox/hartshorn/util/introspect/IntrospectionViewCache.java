@@ -20,6 +20,7 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.util.function.Supplier;
 
 import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
@@ -32,11 +33,13 @@
 /**
  * A cache for {@link TypeView}, {@link MethodView}, {@link FieldView}, {@link ParameterView} and {@link ConstructorView}
  * instances. This cache can be used by {@link Introspector introspectors} to avoid creating multiple instances of the
- * same view, which can happen when introspecting types repeatedly.
+ * same view, which can happen when introspecting types repeatedly. Additionally, this cache holds the {@link
+ * AnnotatedMemberIndex annotation indexes} of types, so these can be shared between all views of the same type.
  *
  * <p>The implementation may decide to support concurrent access, but this is not required. If concurrent access is
- * supported, it is not guaranteed that the same instance is returned for concurrent calls to the same method. Note that
- * batch mode may affect the behavior of specific implementations.
+ * supported, views should be constructed single-flight per key: concurrent calls for the same element construct the
+ * view only once, and all callers receive the same, safely published instance. Note that batch mode may affect the
+ * behavior of specific implementations.
  *
  * @since 0.5.0
  *
@@ -55,6 +58,21 @@ public interface IntrospectionViewCache {
      */
     <T> TypeView<T> computeIfAbsent(Class<T> type, Supplier<TypeView<T>> viewSupplier);
 
+    /**
+     * Returns the {@link TypeView} for the provided {@link ParameterizedType}. Parameterized types are cached by their
+     * structure, so equivalent types share the same view even if they are represented by different {@link
+     * ParameterizedType} implementations. If the view is not yet cached, the provided {@link Supplier} is used to
+     * create a new instance, which is then cached and returned. By default, parameterized types are not cached, and a
+     * new view is created on every call.
+     *
+     * @param type the parameterized type to introspect
+     * @param viewSupplier the supplier to create a new view instance
+     * @return the cached view instance
+     */
+    default TypeView<?> computeIfAbsent(ParameterizedType type, Supplier<TypeView<?>> viewSupplier) {
+        return viewSupplier.get();
+    }
+
     /**
      * Returns the {@link MethodView} for the provided {@link Method}. If the view is not yet cached, the provided
      * {@link Supplier} is used to create a new instance, which is then cached and returned.
@@ -105,4 +123,39 @@ public interface IntrospectionViewCache {
      * @return the cached view instance
      */
     PackageView computeIfAbsent(Package pkg, Supplier<PackageView> viewSupplier);
+
+    /**
+     * Returns the {@link AnnotatedMemberIndex} for the methods of the provided {@link Class}. If the index is not yet
+     * cached, the provided {@link Supplier} is used to create a new instance, which is then cached and returned. By
+     * default, indexes are not cached, and a new index is created on every call.
+     *
+     * @param type the type of which the methods are indexed
+     * @param indexSupplier the supplier to create a new index instance
+     * @return the cached index instance
+     */
+    default AnnotatedMemberIndex<MethodView<?, ?>> methodIndex(Class<?> type, Supplier<AnnotatedMemberIndex<MethodView<?, ?>>> indexSupplier) {
+        return indexSupplier.get();
+    }
+
+    /**
+     * Returns the {@link AnnotatedMemberIndex} for the fields of the provided {@link Class}. If the index is not yet
+     * cached, the provided {@link Supplier} is used to create a new instance, which is then cached and returned. By
+     * default, indexes are not cached, and a new index is created on every call.
+     *
+     * @param type the type of which the fields are indexed
+     * @param indexSupplier the supplier to create a new index instance
+     * @return the cached index instance
+     */
+    default AnnotatedMemberIndex<FieldView<?, ?>> fieldIndex(Class<?> type, Supplier<AnnotatedMemberIndex<FieldView<?, ?>>> indexSupplier) {
+        return indexSupplier.get();
+    }
+
+    /**
+     * Removes all views and indexes from this cache. Views which are still referenced elsewhere remain usable, but
+     * requesting the view of the same element again will create a new view. By default, this does nothing, which is
+     * only appropriate for caches which do not retain views.
+     */
+    default void clear() {
+        // Nothing to release by default
+    }
 }
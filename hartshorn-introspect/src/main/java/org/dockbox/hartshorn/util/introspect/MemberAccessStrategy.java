@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect;
+
+import org.dockbox.hartshorn.util.introspect.view.FieldView;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+
+/**
+ * Strategies which can be used by introspectors to access members, such as invoking a {@link MethodView method} or
+ * reading and writing a {@link FieldView field}. The active strategy is provided by the {@link IntrospectionEnvironment}.
+ *
+ * @see IntrospectionEnvironment#memberAccessStrategy()
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public enum MemberAccessStrategy {
+
+    /**
+     * Members are accessed through core reflection, for example through {@link java.lang.reflect.Method#invoke(Object, Object...)}
+     * and {@link java.lang.reflect.Field#set(Object, Object)}. This strategy has no setup cost, but each access is
+     * checked and dispatched reflectively.
+     */
+    REFLECTION,
+
+    /**
+     * Members are accessed through cached {@link java.lang.invoke.MethodHandle method handles} and {@link
+     * java.lang.invoke.VarHandle variable handles}, which are adapted to a generic signature once. This has a small
+     * setup cost per member, but allows the JIT to inline member access afterward. Members which cannot be represented
+     * by a handle are accessed through core reflection instead.
+     */
+    METHOD_HANDLES,
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A structural key for {@link ParameterizedType}s, which can be used to cache views of parameterized types. Two keys
+ * are equal if their raw types, generic owner types and type arguments are structurally equal, regardless of the specific
+ * {@link ParameterizedType} implementations they were created from. This allows e.g. a {@link ParameterizedType} that
+ * is obtained through reflection to share its view with an equivalent {@link ParameterizableType}.
+ *
+ * @param rawType the key of the raw type
+ * @param ownerType the key of the owner type, or {@code null} if the type has no owner
+ * @param arguments the keys of the type arguments
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+record ParameterizedTypeKey(Object rawType, Object ownerType, List<Object> arguments) {
+
+    /**
+     * Creates a structural key for the given parameterized type.
+     *
+     * @param type the parameterized type
+     * @return the structural key
+     */
+    static ParameterizedTypeKey of(ParameterizedType type) {
+        Type[] typeArguments = type.getActualTypeArguments();
+        List<Object> arguments = new ArrayList<>(typeArguments.length);
+        for (Type argument : typeArguments) {
+            arguments.add(keyOf(argument));
+        }
+        // A non-generic owner is implied by the raw type, and is not always provided by ParameterizedType implementations
+        Type ownerType = type.getOwnerType();
+        Object ownerKey = ownerType instanceof Class<?> ? null : keyOf(ownerType);
+        return new ParameterizedTypeKey(keyOf(type.getRawType()), ownerKey, List.copyOf(arguments));
+    }
+
+    private static Object keyOf(Type type) {
+        return switch(type) {
+            case null -> null;
+            // Parameterized types without arguments are equivalent to their raw type
+            case ParameterizedType parameterizedType when parameterizedType.getActualTypeArguments().length == 0 -> keyOf(parameterizedType.getRawType());
+            case ParameterizedType parameterizedType -> of(parameterizedType);
+            case GenericArrayType arrayType -> new ArrayTypeKey(keyOf(arrayType.getGenericComponentType()));
+            case WildcardType wildcardType -> new WildcardTypeKey(keysOf(wildcardType.getUpperBounds()), keysOf(wildcardType.getLowerBounds()));
+            // Classes and type variables already define structural equality
+            default -> type;
+        };
+    }
+
+    private static List<Object> keysOf(Type[] types) {
+        List<Object> keys = new ArrayList<>(types.length);
+        for (Type type : types) {
+            keys.add(keyOf(type));
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * A structural key for {@link GenericArrayType}s.
+     *
+     * @param componentType the key of the component type
+     */
+    private record ArrayTypeKey(Object componentType) {
+    }
+
+    /**
+     * A structural key for {@link WildcardType}s.
+     *
+     * @param upperBounds the keys of the upper bounds
+     * @param lowerBounds the keys of the lower bounds
+     */
+    private record WildcardTypeKey(List<Object> upperBounds, List<Object> lowerBounds) {
+    }
+}
@@ -20,6 +20,7 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,7 +35,9 @@
 
 /**
  * Synchronization wrapper for {@link IntrospectionViewCache}. This implementation is thread-safe, but does not guarantee
- * optimal performance, especially when used in batch mode.
+ * optimal performance, especially when used in batch mode. Views are constructed while the cache of their kind is
+ * locked, so construction is single-flight, but concurrent lookups of unrelated views of the same kind are blocked
+ * until construction completes. Prefer {@link ConcurrentIntrospectionViewCache} in multi-threaded environments.
  *
  * @since 0.5.0
  *
@@ -43,11 +46,14 @@
 public class SynchronizedIntrospectionViewCache implements IntrospectionViewCache {
 
     private final Map<Class<?>, TypeView<?>> typeViewCache = Collections.synchronizedMap(new HashMap<>());
+    private final Map<ParameterizedTypeKey, TypeView<?>> parameterizedTypeViewCache = Collections.synchronizedMap(new HashMap<>());
     private final Map<Method, MethodView<?, ?>> methodViewCache = Collections.synchronizedMap(new HashMap<>());
     private final Map<Field, FieldView<?, ?>> fieldViewCache = Collections.synchronizedMap(new HashMap<>());
     private final Map<Parameter, ParameterView<?>> parameterViewCache = Collections.synchronizedMap(new HashMap<>());
     private final Map<Constructor<?>, ConstructorView<?>> constructorViewCache = Collections.synchronizedMap(new HashMap<>());
     private final Map<Package, PackageView> packageViewCache = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Class<?>, AnnotatedMemberIndex<MethodView<?, ?>>> methodIndexCache = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Class<?>, AnnotatedMemberIndex<FieldView<?, ?>>> fieldIndexCache = Collections.synchronizedMap(new HashMap<>());
 
     @Override
     public <T> TypeView<T> computeIfAbsent(Class<T> type, Supplier<TypeView<T>> viewSupplier) {
@@ -56,6 +62,14 @@ public <T> TypeView<T> computeIfAbsent(Class<T> type, Supplier<TypeView<T>> view
         }
     }
 
+    @Override
+    public TypeView<?> computeIfAbsent(ParameterizedType type, Supplier<TypeView<?>> viewSupplier) {
+        ParameterizedTypeKey key = ParameterizedTypeKey.of(type);
+        synchronized(this.parameterizedTypeViewCache) {
+            return this.parameterizedTypeViewCache.computeIfAbsent(key, key0 -> viewSupplier.get());
+        }
+    }
+
     @Override
     public MethodView<?, ?> computeIfAbsent(Method method, Supplier<MethodView<?, ?>> viewSupplier) {
         synchronized(this.methodViewCache) {
@@ -90,4 +104,31 @@ public PackageView computeIfAbsent(Package pkg, Supplier<PackageView> viewSuppli
             return this.packageViewCache.computeIfAbsent(pkg, key0 -> viewSupplier.get());
         }
     }
+
+    @Override
+    public AnnotatedMemberIndex<MethodView<?, ?>> methodIndex(Class<?> type, Supplier<AnnotatedMemberIndex<MethodView<?, ?>>> indexSupplier) {
+        synchronized(this.methodIndexCache) {
+            return this.methodIndexCache.computeIfAbsent(type, key0 -> indexSupplier.get());
+        }
+    }
+
+    @Override
+    public AnnotatedMemberIndex<FieldView<?, ?>> fieldIndex(Class<?> type, Supplier<AnnotatedMemberIndex<FieldView<?, ?>>> indexSupplier) {
+        synchronized(this.fieldIndexCache) {
+            return this.fieldIndexCache.computeIfAbsent(type, key0 -> indexSupplier.get());
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.typeViewCache.clear();
+        this.parameterizedTypeViewCache.clear();
+        this.methodViewCache.clear();
+        this.fieldViewCache.clear();
+        this.parameterViewCache.clear();
+        this.constructorViewCache.clear();
+        this.packageViewCache.clear();
+        this.methodIndexCache.clear();
+        this.fieldIndexCache.clear();
+    }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.annotations;
+
+import org.dockbox.hartshorn.util.ApplicationRuntimeException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.SequencedSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precomputed plan to adapt annotations of a given source type to a target annotation type in its virtual
+ * hierarchy. Plans are shared by all {@link AnnotationAdapterProxy adapters} for the same pair of annotation
+ * types, and resolve each attribute of the target hierarchy only once. Attributes are resolved to an {@link
+ * AttributeAccessor} which either reads an attribute (or {@link AttributeAlias alias}) of the source annotation
+ * directly, or yields a constant value that is provided by a default value or a meta-annotation. Constant array
+ * values are copied on each read, so callers cannot modify the value that is observed by other callers.
+ *
+ * <p>Attributes are resolved lazily, so an attribute which cannot be resolved only fails when it is accessed.
+ * Failed resolutions are not retained.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+final class AnnotationAdapterPlan {
+
+    private final Class<? extends Annotation> sourceType;
+    private final Class<? extends Annotation> targetAnnotationClass;
+    private final SequencedSet<Class<? extends Annotation>> hierarchy;
+    private final Class<?>[] proxyInterfaces;
+    private final Map<Method, AttributeAccessor> accessors = new ConcurrentHashMap<>();
+
+    AnnotationAdapterPlan(Class<? extends Annotation> sourceType, Class<? extends Annotation> targetAnnotationClass,
+            SequencedSet<Class<? extends Annotation>> hierarchy) {
+        this.sourceType = sourceType;
+        this.targetAnnotationClass = targetAnnotationClass;
+        this.hierarchy = hierarchy;
+
+        Set<Class<?>> proxyInterfaces = new HashSet<>(hierarchy);
+        proxyInterfaces.add(AnnotationAdapter.class);
+        this.proxyInterfaces = proxyInterfaces.toArray(Class[]::new);
+    }
+
+    Class<? extends Annotation> targetAnnotationClass() {
+        return this.targetAnnotationClass;
+    }
+
+    SequencedSet<Class<? extends Annotation>> hierarchy() {
+        return this.hierarchy;
+    }
+
+    /**
+     * Creates a new adapter for the given annotation, which is expected to be of this plan's source type.
+     *
+     * @param actual the annotation to adapt
+     * @param targetAnnotationClass the target annotation type of this plan
+     * @param owner the lookup which created the adapter
+     * @param <A> the target annotation type
+     * @return the adapted annotation
+     */
+    <A extends Annotation> A adapt(Annotation actual, Class<A> targetAnnotationClass, AnnotationLookup owner) {
+        if (targetAnnotationClass != this.targetAnnotationClass) {
+            throw new IllegalArgumentException("Plan targets " + this.targetAnnotationClass.getName() + ", but " + targetAnnotationClass.getName() + " was requested");
+        }
+        AnnotationAdapterProxy<A> adapter = new AnnotationAdapterProxy<>(actual, this, owner);
+        Object proxy = Proxy.newProxyInstance(
+                VirtualHierarchyAnnotationLookup.class.getClassLoader(),
+                this.proxyInterfaces,
+                adapter);
+        return targetAnnotationClass.cast(proxy);
+    }
+
+    /**
+     * Returns the accessor for the given attribute method of the target hierarchy. If the attribute was not
+     * resolved before, it is resolved against the source annotation type and its hierarchy.
+     *
+     * @param proxyMethod the attribute method that is invoked on the adapter
+     * @return the accessor for the attribute
+     */
+    AttributeAccessor accessor(Method proxyMethod) {
+        AttributeAccessor accessor = this.accessors.get(proxyMethod);
+        if (accessor == null) {
+            accessor = this.resolve(proxyMethod);
+            this.accessors.putIfAbsent(proxyMethod, accessor);
+        }
+        return accessor;
+    }
+
+    private AttributeAccessor resolve(Method proxyMethod) {
+        String name = proxyMethod.getName();
+        try {
+            Method method = this.sourceType.getMethod(name);
+            checkAliasType(proxyMethod, method);
+            return sourceAttribute(method);
+        }
+        catch (NoSuchMethodException e) {
+            // search for AliasFor in same annotation type
+            AttributeAccessor alias = this.searchAlias(proxyMethod, name);
+            if (alias != null) {
+                return alias;
+            }
+
+            // search in super annotation type
+            AttributeAccessor defaultValue = this.searchSuper(proxyMethod, name);
+            if (defaultValue != null) {
+                return defaultValue;
+            }
+
+            try {
+                Method targetAnnotationMethod = this.targetAnnotationClass.getMethod(name);
+                checkAliasType(proxyMethod, targetAnnotationMethod);
+                return constant(targetAnnotationMethod.getDefaultValue());
+            }
+            catch (NoSuchMethodException noSuchMethodException) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private AttributeAccessor searchSuper(Method proxyMethod, String name) {
+        Collection<Class<? extends Annotation>> hierarchy = this.hierarchy;
+        for (Class<? extends Annotation> klass : hierarchy) {
+            try {
+                Method klassMethod = klass.getMethod(name);
+                checkAliasType(proxyMethod, klassMethod);
+                Object defaultValue = klassMethod.getDefaultValue();
+                if (defaultValue != null) {
+                    return constant(defaultValue);
+                }
+            } catch (NoSuchMethodException ignored) {
+                // Do not break yet, we might find it in a super class
+            }
+
+            Annotation[] annotationsOnCurrentAnnotationClass = klass.getAnnotations();
+            for (Annotation annotationOnCurrentAnnotationClass : annotationsOnCurrentAnnotationClass) {
+                if (hierarchy.contains(annotationOnCurrentAnnotationClass.annotationType())) {
+                    try {
+                        Method method = annotationOnCurrentAnnotationClass.annotationType().getMethod(name);
+                        checkAliasType(proxyMethod, method);
+                        // Meta-annotations are constant, so their values can be resolved once
+                        return constant(invokeAnnotationMethod(method, annotationOnCurrentAnnotationClass));
+                    }
+                    catch (NoSuchMethodException ignored) {
+                        break;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private AttributeAccessor searchAlias(Method proxyMethod, String name) {
+        for (Method method : this.sourceType.getMethods()) {
+            AttributeAlias attributeAlias = method.getAnnotation(AttributeAlias.class);
+            if (attributeAlias == null) {
+                continue;
+            }
+
+            if ((attributeAlias.target() == Void.class || attributeAlias.target() == this.targetAnnotationClass) && name.equals(attributeAlias.value())) {
+                checkAliasType(proxyMethod, method);
+                return sourceAttribute(method);
+            }
+        }
+        return null;
+    }
+
+    private static void checkAliasType(Method expected, Method actual) {
+        if (expected.getReturnType() != actual.getReturnType()) {
+            throw new IllegalArgumentException("Attribute " + actual.getName() + " in " + actual.getDeclaringClass().getSimpleName() + " has different return type than " + expected.getName() + " in " + expected.getDeclaringClass().getSimpleName());
+        }
+    }
+
+    private static AttributeAccessor sourceAttribute(Method method) {
+        // Annotation types are not required to be public, so the attribute may need to be made accessible once.
+        // This is done up-front, as toggling accessibility on every read is not thread-safe.
+        method.trySetAccessible();
+        return annotation -> invokeAnnotationMethod(method, annotation);
+    }
+
+    private static AttributeAccessor constant(Object value) {
+        if (value != null && value.getClass().isArray()) {
+            // Arrays are mutable, so each read yields a copy, consistent with JDK annotation instances
+            return annotation -> copyArray(value);
+        }
+        return annotation -> value;
+    }
+
+    /**
+     * Creates a shallow copy of the given array, which may be an array of primitives.
+     *
+     * @param array the array to copy
+     * @return the copy of the array
+     */
+    static Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static Object invokeAnnotationMethod(Method method, Annotation annotation) {
+        try {
+            return method.invoke(annotation);
+        }
+        catch (InvocationTargetException e) {
+            throw new ApplicationRuntimeException(e.getCause());
+        }
+        catch (Exception e) {
+            throw new ApplicationRuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the value of a single attribute from an adapted annotation.
+     *
+     * @since 0.7.0
+     *
+     * @author Guus Lieben
+     */
+    @FunctionalInterface
+    interface AttributeAccessor {
+
+        /**
+         * Reads the attribute value from the given source annotation.
+         *
+         * @param annotation the source annotation
+         * @return the attribute value
+         */
+        Object read(Annotation annotation);
+    }
+}
@@ -16,14 +16,12 @@
 
 package org.dockbox.hartshorn.util.introspect.annotations;
 
-import org.checkerframework.checker.nullness.qual.NonNull;
-import org.dockbox.hartshorn.util.ApplicationRuntimeException;
+import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.option.Option;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SequencedSet;
@@ -36,6 +34,12 @@
  * provided. If multiple annotations provide the same value, the first one is
  * used.
  *
+ * <p>Attribute resolution is described by an {@link AnnotationAdapterPlan}, which is
+ * shared by all proxies adapting the same source annotation type to the same target
+ * annotation type. This means the hierarchy of annotations is only searched once per
+ * attribute, while resolved values are cached per proxy. Array values are copied
+ * whenever they are returned, so callers cannot modify cached values.
+ *
  * <p>Implementation note: this class is an internal implementation detail of
  * {@link VirtualHierarchyAnnotationLookup}, and is not intended for direct use.
  * It is public so that it can be used for inspection of the composite annotation,
@@ -53,13 +57,19 @@
     private final Class<A> targetAnnotationClass;
     private final SequencedSet<Class<? extends Annotation>> actualAnnotationHierarchy;
     private final AnnotationLookup owner;
+    private final AnnotationAdapterPlan plan;
     private final Map<String, Option<Object>> methodsCache = new ConcurrentHashMap<>();
 
     AnnotationAdapterProxy(Annotation actual, Class<A> targetAnnotationClass, SequencedSet<Class<? extends Annotation>> actualAnnotationHierarchy, AnnotationLookup owner) {
+        this(actual, new AnnotationAdapterPlan(actual.annotationType(), targetAnnotationClass, actualAnnotationHierarchy), owner);
+    }
+
+    AnnotationAdapterProxy(Annotation actual, AnnotationAdapterPlan plan, AnnotationLookup owner) {
         this.actual = actual;
-        this.targetAnnotationClass = targetAnnotationClass;
-        this.actualAnnotationHierarchy = actualAnnotationHierarchy;
+        this.targetAnnotationClass = TypeUtils.unchecked(plan.targetAnnotationClass(), Class.class);
+        this.actualAnnotationHierarchy = plan.hierarchy();
         this.owner = owner;
+        this.plan = plan;
     }
 
     @Override
@@ -86,10 +96,12 @@ public Object invoke(Object proxy, Method method, Object[] args) {
 
         Option<Object> cachedField = this.methodsCache.get(method.getName());
         if (cachedField == null) {
-            cachedField = this.searchInHierarchy(this.actual, this.targetAnnotationClass, this.actualAnnotationHierarchy, method);
+            cachedField = Option.of(this.plan.accessor(method).read(this.actual));
             this.methodsCache.put(method.getName(), cachedField);
         }
-        return cachedField.orNull();
+        Object value = cachedField.orNull();
+        // Cached arrays are never exposed directly, as callers may modify them
+        return value != null && value.getClass().isArray() ? AnnotationAdapterPlan.copyArray(value) : value;
     }
 
     /**
@@ -117,112 +129,6 @@ public AnnotationLookup owner() {
         return this.owner;
     }
 
-    private Option<Object> searchInHierarchy(Annotation actual, Class<? extends Annotation> targetAnnotationClass, Collection<Class<? extends Annotation>> hierarchy, Method proxyMethod) {
-        String name = proxyMethod.getName();
-        try {
-            Method method = actual.annotationType().getMethod(name);
-            this.checkAliasType(proxyMethod, method);
-            return Option.of(this.safeInvokeAnnotationMethod(method, actual));
-        }
-        catch (NoSuchMethodException e) {
-            // search for AliasFor in same annotation type
-            Option<Object> method = this.searchAlias(actual, targetAnnotationClass, proxyMethod, name);
-            if (method.present()) {
-                return method;
-            }
-
-            // search in super annotation type
-            Option<Object> defaultValue = this.searchSuper(hierarchy, proxyMethod, name);
-            if (defaultValue.present()) {
-                return defaultValue;
-            }
-
-            try {
-                Method targetAnnotationMethod = targetAnnotationClass.getMethod(name);
-                this.checkAliasType(proxyMethod, targetAnnotationMethod);
-                return Option.of(targetAnnotationMethod.getDefaultValue());
-            }
-            catch (NoSuchMethodException noSuchMethodException) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
-
-    @NonNull
-    private Option<Object> searchSuper(Collection<Class<? extends Annotation>> hierarchy, Method proxyMethod, String name) {
-        for (Class<? extends Annotation> klass : hierarchy) {
-            try {
-                Method klassMethod = klass.getMethod(name);
-                this.checkAliasType(proxyMethod, klassMethod);
-                Object defaultValue = klassMethod.getDefaultValue();
-                if (defaultValue != null) {
-                    return Option.of(defaultValue);
-                }
-            } catch (NoSuchMethodException ignored) {
-                // Do not break yet, we might find it in a super class
-            }
-
-            Annotation[] annotationsOnCurrentAnnotationClass = klass.getAnnotations();
-            for (Annotation annotationOnCurrentAnnotationClass : annotationsOnCurrentAnnotationClass) {
-                if (hierarchy.contains(annotationOnCurrentAnnotationClass.annotationType())) {
-                    try {
-                        Method method = annotationOnCurrentAnnotationClass.annotationType().getMethod(name);
-                        this.checkAliasType(proxyMethod, method);
-                        return Option.of(this.safeInvokeAnnotationMethod(method, annotationOnCurrentAnnotationClass));
-                    }
-                    catch (NoSuchMethodException ignored) {
-                        break;
-                    }
-                }
-            }
-        }
-        return Option.empty();
-    }
-
-    @NonNull
-    private Option<Object> searchAlias(Annotation actual, Class<? extends Annotation> targetAnnotationClass, Method proxyMethod, String name) {
-        for (Method method : actual.annotationType().getMethods()) {
-            Option<Object> result = this.searchAttributeAlias(actual, targetAnnotationClass, proxyMethod, name, method);
-
-            if(result.present()) {
-                return result;
-            }
-        }
-        return Option.empty();
-    }
-
-    private Option<Object> searchAttributeAlias(Annotation actual, Class<? extends Annotation> targetAnnotationClass, Method proxyMethod, String name,
-            Method method) {
-        AttributeAlias attributeAlias = method.getAnnotation(AttributeAlias.class);
-        if (attributeAlias == null) {
-            return Option.empty();
-        }
-
-        if ((attributeAlias.target() == Void.class || attributeAlias.target() == targetAnnotationClass) && name.equals(attributeAlias.value())) {
-            this.checkAliasType(proxyMethod, method);
-            return Option.of(this.safeInvokeAnnotationMethod(method, actual));
-        }
-        return Option.empty();
-    }
-
-    private void checkAliasType(Method expected, Method actual) {
-        if (expected.getReturnType() != actual.getReturnType()) {
-            throw new IllegalArgumentException("Attribute " + actual.getName() + " in " + actual.getDeclaringClass().getSimpleName() + " has different return type than " + expected.getName() + " in " + expected.getDeclaringClass().getSimpleName());
-        }
-    }
-
-    private Object safeInvokeAnnotationMethod(Method method, Annotation annotation) {
-        try {
-            method.setAccessible(true);
-            Object out = method.invoke(annotation);
-            method.setAccessible(false);
-            return out;
-        }
-        catch (Exception e) {
-            throw new ApplicationRuntimeException(e);
-        }
-    }
-
     @Override
     public Annotation actualAnnotation() {
         return this.actual;
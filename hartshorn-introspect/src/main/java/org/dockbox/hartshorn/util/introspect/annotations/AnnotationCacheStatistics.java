@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.annotations;
+
+/**
+ * A point-in-time summary of the cached annotation lookups of a {@link VirtualHierarchyAnnotationLookup}.
+ *
+ * @param hits the number of lookups that were served from the cache
+ * @param misses the number of lookups that required the annotation hierarchy of an element to be examined
+ * @param evictions the number of cached lookups that were discarded to stay within the maximum cache size
+ * @param size the number of lookups that are currently cached
+ *
+ * @see VirtualHierarchyAnnotationLookup#statistics()
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public record AnnotationCacheStatistics(long hits, long misses, long evictions, int size) {
+}
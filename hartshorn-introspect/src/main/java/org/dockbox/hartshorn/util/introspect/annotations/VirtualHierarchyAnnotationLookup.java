@@ -16,21 +16,25 @@
 
 package org.dockbox.hartshorn.util.introspect.annotations;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.SequencedSet;
-import java.util.Set;
 import org.dockbox.hartshorn.util.option.Option;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
@@ -60,13 +64,57 @@
  * for requested attributes. In this example, the {@code name} attribute will be resolved to
  * {@code "meta"}, and the {@code id} attribute will be resolved to {@code "foo"}.
  *
+ * <p>Results are cached per lookup instance. Cached results are stored with the class that owns the
+ * element, which is the class itself, or the declaring class of a member or parameter. This means
+ * cached results never prevent a class (and its class loader) from being unloaded. Results for
+ * elements without an owning class, such as packages, are not cached. The cache is bounded by a
+ * maximum size, and evicts the oldest results first once this size is exceeded. The effectiveness
+ * of the cache can be observed through {@link #statistics()}.
+ *
+ * <p>Proxies share an {@link AnnotationAdapterPlan} for each pair of source and target annotation
+ * types, so the resolution of attributes and aliases is only performed once for each pair, rather
+ * than once for each proxy.
+ *
  * @since 0.4.13
  *
  * @author Guus Lieben
  */
 public class VirtualHierarchyAnnotationLookup implements AnnotationLookup {
 
-    private static final Map<HierarchyKey, Option<Object>> cache = new ConcurrentHashMap<>();
+    /**
+     * The default maximum number of cached lookups per {@link VirtualHierarchyAnnotationLookup}.
+     */
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 8192;
+
+    private final ClassValue<Map<HierarchyKey, Option<Object>>> cache = new ClassValue<>() {
+        @Override
+        protected Map<HierarchyKey, Option<Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final ClassValue<Map<Class<? extends Annotation>, AnnotationAdapterPlan>> adapterPlans = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, AnnotationAdapterPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final Queue<CachedEntry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maximumCacheSize;
+
+    public VirtualHierarchyAnnotationLookup() {
+        this(DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+
+    public VirtualHierarchyAnnotationLookup(int maximumCacheSize) {
+        if (maximumCacheSize < 0) {
+            throw new IllegalArgumentException("Maximum cache size cannot be negative, but was " + maximumCacheSize);
+        }
+        this.maximumCacheSize = maximumCacheSize;
+    }
 
     @Override
     public <A extends Annotation> A find(AnnotatedElement element, Class<A> annotationType) throws DuplicateAnnotationCompositeException {
@@ -84,14 +132,84 @@ public <A extends Annotation> List<A> findAll(AnnotatedElement element, Class<A>
     }
 
     protected <T> T fromCache(HierarchyKey key, Supplier<T> supplier) {
-        Option<Object> ret = cache.get(key);
-        if (ret == null) {
+        Class<?> owner = ownerOf(key.element());
+        if (owner == null || this.maximumCacheSize == 0) {
+            this.misses.increment();
+            return supplier.get();
+        }
+
+        Map<HierarchyKey, Option<Object>> entries = this.cache.get(owner);
+        Option<Object> ret = entries.get(key);
+        if (ret != null) {
+            this.hits.increment();
+        }
+        else {
+            this.misses.increment();
             ret = Option.of(supplier::get);
-            cache.put(key, ret);
+            Option<Object> existing = entries.putIfAbsent(key, ret);
+            if (existing != null) {
+                ret = existing;
+            }
+            else {
+                this.insertionOrder.add(new CachedEntry(new WeakReference<>(owner), new WeakReference<>(key)));
+                if (this.size.incrementAndGet() > this.maximumCacheSize) {
+                    this.evict();
+                }
+            }
         }
         return (T) ret.get();
     }
 
+    private void evict() {
+        while (this.size.get() > this.maximumCacheSize) {
+            CachedEntry entry = this.insertionOrder.poll();
+            if (entry == null) {
+                return;
+            }
+            this.size.decrementAndGet();
+            Class<?> owner = entry.owner().get();
+            HierarchyKey key = entry.key().get();
+            // If either reference was cleared, the owning class was unloaded and the entry is already gone
+            if (owner != null && key != null) {
+                this.cache.get(owner).remove(key);
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results of this lookup. Statistics are not reset.
+     */
+    public void clear() {
+        CachedEntry entry;
+        while ((entry = this.insertionOrder.poll()) != null) {
+            this.size.decrementAndGet();
+            Class<?> owner = entry.owner().get();
+            if (owner != null) {
+                this.cache.remove(owner);
+            }
+        }
+    }
+
+    /**
+     * Returns a point-in-time summary of the cached results of this lookup.
+     *
+     * @return the cache statistics
+     */
+    public AnnotationCacheStatistics statistics() {
+        return new AnnotationCacheStatistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), Math.max(0, this.size.get()));
+    }
+
+    private static Class<?> ownerOf(AnnotatedElement element) {
+        return switch (element) {
+            case Class<?> type -> type;
+            case Member member -> member.getDeclaringClass();
+            case Parameter parameter -> parameter.getDeclaringExecutable().getDeclaringClass();
+            case RecordComponent component -> component.getDeclaringRecord();
+            default -> null;
+        };
+    }
+
     /**
      * Returns all annotations compatible with the given annotation type on the given element. This
      * includes the annotation itself, and all annotations that are annotated with the given
@@ -125,23 +243,17 @@ protected <A extends Annotation> List<A> annotationsOnElement(AnnotatedElement e
      */
     protected <A extends Annotation> A examineAnnotation(Annotation actual, Class<A> targetAnnotationClass) {
         actual = this.unproxy(actual);
-        SequencedSet<Class<? extends Annotation>> hierarchy = this.annotationHierarchy(actual.annotationType());
+        Class<? extends Annotation> actualType = actual.annotationType();
+        SequencedSet<Class<? extends Annotation>> hierarchy = this.annotationHierarchy(actualType);
 
         if (!hierarchy.contains(targetAnnotationClass)) {
             // Cannot safely cast the annotation to the target annotation type
             return null;
         }
 
-        InvocationHandler adapter = new AnnotationAdapterProxy<>(actual, targetAnnotationClass, hierarchy, this);
-        Set<Class<?>> parentInterfaces = new HashSet<>(hierarchy);
-        parentInterfaces.add(AnnotationAdapter.class);
-
-        Object proxy = Proxy.newProxyInstance(
-                VirtualHierarchyAnnotationLookup.class.getClassLoader(),
-                parentInterfaces.toArray(Class[]::new),
-                adapter);
-
-        return targetAnnotationClass.cast(proxy);
+        AnnotationAdapterPlan plan = this.adapterPlans.get(actual.annotationType())
+                .computeIfAbsent(targetAnnotationClass, target -> new AnnotationAdapterPlan(actualType, targetAnnotationClass, hierarchy));
+        return plan.adapt(actual, targetAnnotationClass, this);
     }
 
     @Override
@@ -170,4 +282,7 @@ private static Class<? extends Annotation> superAnnotationOrNull(Class<? extends
         Extends extendsAnnotation = currentClass.getAnnotation(Extends.class);
         return extendsAnnotation == null ? null : extendsAnnotation.value();
     }
+
+    private record CachedEntry(WeakReference<Class<?>> owner, WeakReference<HierarchyKey> key) {
+    }
 }
@@ -18,12 +18,13 @@
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.dockbox.hartshorn.util.CollectionUtilities;
 import org.dockbox.hartshorn.util.collections.ConcurrentSetMultiMap;
 import org.dockbox.hartshorn.util.collections.MultiMap;
 
@@ -37,6 +38,11 @@
  * cases, if multiple converters are found, it is expected that they implement {@link ConditionalConverter} to
  * narrow the match.
  *
+ * <p>The candidate converters for each combination of source class and target type are resolved once, and
+ * cached until a new converter is added. This includes combinations for which no converter exists. As the
+ * conditions of {@link ConditionalConverter}s may depend on the source value, these are still evaluated for
+ * every lookup, but only for the cached candidates.
+ *
  * @since 0.5.0
  *
  * @author Guus Lieben
@@ -45,6 +51,7 @@ public class GenericConverters implements ConverterCache {
 
     private final Set<ConditionalConverter> globalConverters = ConcurrentHashMap.newKeySet();
     private final MultiMap<ConvertibleTypePair, GenericConverter> converters = new ConcurrentSetMultiMap<>();
+    private final Map<ConvertibleTypePair, ConverterResolution> resolutions = new ConcurrentHashMap<>();
 
     @Override
     public void addConverter(GenericConverter converter) {
@@ -62,19 +69,16 @@ public void addConverter(GenericConverter converter) {
                 this.converters.put(convertibleType, converter);
             }
         }
+        this.resolutions.clear();
     }
 
     @Nullable
     @Override
     public GenericConverter getConverter(Object source, Class<?> targetType) {
-        GenericConverter converter = this.getTypeMatchingConverter(source, targetType);
-        if (converter == null) {
-            converter = this.getGlobalConverter(source, targetType);
-        }
-        if (converter == null) {
-            converter = this.getClosestMatchingConverter(source, targetType);
+        if (source == null) {
+            throw new IllegalArgumentException("Source type must not be null");
         }
-        return converter;
+        return this.resolution(source.getClass(), targetType).converter(source, targetType);
     }
 
     @Override
@@ -86,30 +90,72 @@ public Set<GenericConverter> converters() {
         return converters;
     }
 
-    @Nullable
-    private GenericConverter getClosestMatchingConverter(Object source, Class<?> targetType) {
-        Set<GenericConverter> matchingConverters = new HashSet<>();
+    private ConverterResolution resolution(Class<?> sourceType, Class<?> targetType) {
+        return this.resolutions.computeIfAbsent(
+                new ConvertibleTypePair(sourceType, targetType),
+                pair -> this.resolve(pair.sourceType(), pair.targetType())
+        );
+    }
+
+    private ConverterResolution resolve(Class<?> sourceType, Class<?> targetType) {
+        List<GenericConverter> typeMatchingConverters = List.copyOf(this.converters.get(new ConvertibleTypePair(sourceType, targetType)));
+
+        List<GenericConverter> globalConverters = new ArrayList<>();
+        for (ConditionalConverter converter : this.globalConverters) {
+            globalConverters.add((GenericConverter) converter);
+        }
+
+        Set<GenericConverter> closestMatchingConverters = new LinkedHashSet<>();
         for (ConvertibleTypePair typePair : this.converters.keySet()) {
-            Class<?> inputType = source.getClass();
-            Class<?> sourceType = typePair.sourceType();
-            if (inputType.isArray() && sourceType.isArray()) {
+            Class<?> inputType = sourceType;
+            Class<?> pairSourceType = typePair.sourceType();
+            if (inputType.isArray() && pairSourceType.isArray()) {
                 inputType = inputType.getComponentType();
-                sourceType = sourceType.getComponentType();
+                pairSourceType = pairSourceType.getComponentType();
             }
 
             // Recursive solution to iterate super classes first, then interfaces
-            if (sourceType.isAssignableFrom(inputType) && typePair.targetType().isAssignableFrom(targetType)) {
+            if (pairSourceType.isAssignableFrom(inputType) && typePair.targetType().isAssignableFrom(targetType)) {
                 // distance is the amount of classes in the hierarchy between the typePair sourceType and the source class
                 // the closer the distance, the more specific the typePair sourceType is
                 // the more specific the typePair sourceType is, the more likely it is that the converter can convert the source
                 // to the target type
-                int distance = this.hierarchyDistance(inputType, sourceType);
+                int distance = this.hierarchyDistance(inputType, pairSourceType);
                 if (distance >= 0) {
-                    matchingConverters.addAll(this.converters.get(typePair));
+                    closestMatchingConverters.addAll(this.converters.get(typePair));
                 }
             }
         }
-        return this.findMatchingConverter(source, targetType, matchingConverters);
+
+        return new ConverterResolution(
+                typeMatchingConverters,
+                this.rank(sourceType, globalConverters),
+                this.rank(sourceType, closestMatchingConverters)
+        );
+    }
+
+    private List<RankedConverter> rank(Class<?> sourceType, Iterable<GenericConverter> candidateConverters) {
+        List<RankedConverter> rankedConverters = new ArrayList<>();
+        for (GenericConverter candidateConverter : candidateConverters) {
+            Set<ConvertibleTypePair> convertibleTypes = candidateConverter.convertibleTypes();
+            if (convertibleTypes == null) {
+                if (candidateConverter instanceof ConverterFactoryAdapter adapter) {
+                    convertibleTypes = Set.of(adapter.typePair());
+                }
+                else {
+                    // Still retained, as conditional converters may be selected without a known distance
+                    rankedConverters.add(new RankedConverter(candidateConverter, -1));
+                    continue;
+                }
+            }
+
+            int distance = convertibleTypes.stream()
+                    .mapToInt(pair -> this.hierarchyDistance(sourceType, pair.sourceType()))
+                    .min()
+                    .orElse(-1);
+            rankedConverters.add(new RankedConverter(candidateConverter, distance));
+        }
+        return List.copyOf(rankedConverters);
     }
 
     private int hierarchyDistance(Class<?> inputType, Class<?> sourceType) {
@@ -153,93 +199,110 @@ private int hierarchyDistance(Class<?> inputType, Class<?> sourceType) {
     }
 
     @Nullable
-    private GenericConverter getGlobalConverter(Object source, Class<?> targetType) {
-        Set<GenericConverter> candidateConverters = new HashSet<>();
-        for (ConditionalConverter converter : this.globalConverters) {
-            if (converter.canConvert(source, targetType)) {
-                candidateConverters.add((GenericConverter) converter);
-            }
-        }
-        if (candidateConverters.size() == 1) {
-            return CollectionUtilities.first(candidateConverters);
-        }
-        else if (candidateConverters.size() > 1) {
-            return this.findMatchingConverter(source, targetType, candidateConverters);
-        }
-        return null;
+    protected GenericConverter getTypeMatchingConverter(Object source, Class<?> targetType) {
+        ConvertibleTypePair pair = new ConvertibleTypePair(source == null ? null : source.getClass(), targetType);
+        return typeMatchingConverter(source, targetType, List.copyOf(this.converters.get(pair)));
     }
 
     @Nullable
-    private GenericConverter findMatchingConverter(Object source, Class<?> targetType, Set<GenericConverter> candidateConverters) {
-        if (candidateConverters.isEmpty()) {
-            return null;
+    private static GenericConverter typeMatchingConverter(Object source, Class<?> targetType, List<GenericConverter> candidateConverters) {
+        GenericConverter match = null;
+        for (GenericConverter converter : candidateConverters) {
+            if (canConvert(converter, source, targetType)) {
+                if (match != null) {
+                    List<GenericConverter> matchingConverters = new ArrayList<>();
+                    for (GenericConverter candidateConverter : candidateConverters) {
+                        if (canConvert(candidateConverter, source, targetType)) {
+                            matchingConverters.add(candidateConverter);
+                        }
+                    }
+                    throw new AmbiguousConverterException("Ambiguous converters found for source type [" + source.getClass().getName() + "] and target type [" + targetType.getName() + "]: " + matchingConverters);
+                }
+                match = converter;
+            }
         }
+        return match;
+    }
 
+    private static boolean canConvert(GenericConverter converter, Object source, Class<?> targetType) {
+        return !(converter instanceof ConditionalConverter conditionalConverter) || conditionalConverter.canConvert(source, targetType);
+    }
+
+    @Nullable
+    private static GenericConverter closestMatchingConverter(Object source, Class<?> targetType, List<RankedConverter> candidateConverters) {
         int bestDistance = -1;
         GenericConverter bestConverter = null;
 
-        for (GenericConverter candidateConverter : candidateConverters) {
-            if (candidateConverter instanceof ConditionalConverter conditionalConverter) {
-                if (!conditionalConverter.canConvert(source, targetType)) {
-                    continue;
-                }
+        for (RankedConverter candidate : candidateConverters) {
+            GenericConverter candidateConverter = candidate.converter();
+            int distance = candidate.distance();
+            if (distance < 0 || !canConvert(candidateConverter, source, targetType)) {
+                continue;
             }
 
-            Set<ConvertibleTypePair> convertibleTypes = candidateConverter.convertibleTypes();
-            if (convertibleTypes == null) {
-                if (candidateConverter instanceof ConverterFactoryAdapter adapter) {
-                    convertibleTypes = Set.of(adapter.typePair());
-                }
-                else {
-                    continue;
-                }
+            if (bestConverter != null && distance == bestDistance) {
+                throw new AmbiguousConverterException("Ambiguous converters found for source type [" + source.getClass().getName() + "] and target type [" + targetType.getName() + "]: " + bestConverter + ", " + candidateConverter);
             }
 
-            int distance = convertibleTypes.stream()
-                    .mapToInt(pair -> this.hierarchyDistance(source.getClass(), pair.sourceType()))
-                    .min()
-                    .orElse(-1);
-
-            if (distance >= 0) {
-                if (bestConverter != null && distance == bestDistance) {
-                    throw new AmbiguousConverterException("Ambiguous converters found for source type [" + source.getClass().getName() + "] and target type [" + targetType.getName() + "]: " + bestConverter + ", " + candidateConverter);
-                }
-
-                if (bestConverter == null || distance < bestDistance) {
-                    bestDistance = distance;
-                    bestConverter = candidateConverter;
-                }
+            if (bestConverter == null || distance < bestDistance) {
+                bestDistance = distance;
+                bestConverter = candidateConverter;
             }
         }
 
         return bestConverter;
     }
 
-    @Nullable
-    protected GenericConverter getTypeMatchingConverter(Object source, Class<?> targetType) {
-        ConvertibleTypePair pair = new ConvertibleTypePair(source == null ? null : source.getClass(), targetType);
-        return this.getConverterForPair(source, targetType, pair);
+    /**
+     * A candidate converter, combined with the distance between the source class it was resolved for and the
+     * closest source type it declares. A negative distance indicates the converter cannot be ranked.
+     *
+     * @param converter the candidate converter
+     * @param distance the hierarchy distance, or {@code -1} if unknown
+     */
+    private record RankedConverter(GenericConverter converter, int distance) {
     }
 
-    @Nullable
-    private GenericConverter getConverterForPair(Object source, Class<?> targetType, ConvertibleTypePair pair) {
-        List<GenericConverter> matchingConverters = new ArrayList<>();
-        for (GenericConverter converter : this.converters.get(pair)) {
-            if (converter instanceof ConditionalConverter conditionalConverter) {
-                if (conditionalConverter.canConvert(source, targetType)) {
-                    matchingConverters.add(converter);
-                }
+    /**
+     * The resolved candidate converters for a single combination of source class and target type. Only the
+     * conditions of {@link ConditionalConverter}s are evaluated when a converter is requested, so requesting a
+     * converter from a resolution does not allocate.
+     *
+     * @param typeMatchingConverters the converters registered for the exact source class and target type
+     * @param globalConverters the converters registered without explicit convertible types
+     * @param closestMatchingConverters the converters registered for a supertype of the source class
+     */
+    private record ConverterResolution(
+            List<GenericConverter> typeMatchingConverters,
+            List<RankedConverter> globalConverters,
+            List<RankedConverter> closestMatchingConverters
+    ) {
+
+        @Nullable
+        GenericConverter converter(Object source, Class<?> targetType) {
+            GenericConverter converter = typeMatchingConverter(source, targetType, this.typeMatchingConverters);
+            if (converter == null) {
+                converter = this.globalConverter(source, targetType);
             }
-            else {
-                matchingConverters.add(converter);
+            if (converter == null) {
+                converter = closestMatchingConverter(source, targetType, this.closestMatchingConverters);
             }
+            return converter;
         }
-        if (matchingConverters.size() == 1) {
-            return matchingConverters.getFirst();
-        }
-        else if (matchingConverters.size() > 1) {
-            throw new AmbiguousConverterException("Ambiguous converters found for source type [" + source.getClass().getName() + "] and target type [" + targetType.getName() + "]: " + matchingConverters);
+
+        @Nullable
+        private GenericConverter globalConverter(Object source, Class<?> targetType) {
+            GenericConverter candidate = null;
+            for (RankedConverter globalConverter : this.globalConverters) {
+                if (canConvert(globalConverter.converter(), source, targetType)) {
+                    if (candidate != null) {
+                        // Multiple candidates, select the most specific one
+                        return closestMatchingConverter(source, targetType, this.globalConverters);
+                    }
+                    candidate = globalConverter.converter();
+                }
+            }
+            return candidate;
         }
-        return null;
     }
 }
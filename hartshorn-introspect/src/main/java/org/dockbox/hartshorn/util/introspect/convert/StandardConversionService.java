@@ -149,8 +149,11 @@ public <I, O> O convert(I input, Class<O> targetType) {
     private <I, O> O tryConvert(I input, Class<O> targetType) {
         GenericConverter converter = this.converterCache.getConverter(input, targetType);
         if (converter != null) {
-            TypeView<O> targetTypeView = this.introspector.introspect(targetType);
             Object converted = converter.convert(input, input.getClass(), targetType);
+            if (targetType.isInstance(converted)) {
+                return targetType.cast(converted);
+            }
+            TypeView<O> targetTypeView = this.introspector.introspect(targetType);
             if (converted == null) {
                 // Ensure we don't return null if the target type is a primitive, or a wrapper for a primitive
                 return targetTypeView.defaultOrNull();
@@ -18,6 +18,7 @@
 
 import org.dockbox.hartshorn.reporting.DiagnosticsPropertyCollector;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -70,6 +71,18 @@ public static PredefinedSetTypeReferenceCollector of(Class<?>... references) {
                 .collect(Collectors.toSet()));
     }
 
+    /**
+     * Creates a new instance of {@link PredefinedSetTypeReferenceCollector} that provides the provided set of
+     * {@link TypeReference}s. This is useful when the references are known up front, but should not be loaded
+     * until they are collected, for example when the references are read from a pre-computed index.
+     *
+     * @param references The references to provide
+     * @return A new instance of {@link PredefinedSetTypeReferenceCollector}
+     */
+    public static PredefinedSetTypeReferenceCollector ofReferences(Collection<? extends TypeReference> references) {
+        return new PredefinedSetTypeReferenceCollector(Set.copyOf(references));
+    }
+
     @Override
     public void report(DiagnosticsPropertyCollector collector) {
         String[] typeNames = this.references.stream()
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.classfile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dockbox.hartshorn.util.introspect.annotations.Extends;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * An index of class annotations which is based on the raw class files of classes, rather than the loaded classes
+ * themselves. This allows callers to determine whether a class carries a given annotation without loading, linking
+ * or defining the class. Class files are located as resources of a {@link ClassLoader}, and read using a {@link
+ * ClassFileReader}. The metadata of each class is read at most once.
+ *
+ * <p>Annotations are matched using the same rules as the {@link
+ * org.dockbox.hartshorn.util.introspect.annotations.VirtualHierarchyAnnotationLookup}, so an annotation is also
+ * considered present if it is {@link Extends extended} by an annotation that is present on the class. Annotations that
+ * are {@link Inherited} are also considered present if they are present on a superclass.
+ *
+ * <p>Metadata which is already known, for example because it was recorded in a {@link
+ * org.dockbox.hartshorn.util.introspect.scan.index.TypeIndex}, can be {@link #register(ClassFileMetadata) registered}
+ * so the class file does not need to be read.
+ *
+ * <p>This index is intended to be used as a pre-filter. If the class file of a class (or of one of its annotations)
+ * cannot be read, the index conservatively reports that the annotation may be present, so the caller can fall back to
+ * inspecting the loaded class.
+ *
+ * @see ClassFileReader
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class ClassFileAnnotationIndex {
+
+    private static final String INHERITED = Inherited.class.getName();
+
+    private final ClassLoader classLoader;
+    private final Map<String, Option<ClassFileMetadata>> metadata = new ConcurrentHashMap<>();
+
+    public ClassFileAnnotationIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns whether the class with the given name may carry the given annotation. This is {@code false} only if
+     * the class is known to not carry the annotation.
+     *
+     * @param className the binary name of the class
+     * @param annotation the annotation type to look for
+     * @return {@code false} if the class does not carry the annotation, {@code true} otherwise
+     */
+    public boolean mayBeAnnotatedWith(String className, Class<? extends Annotation> annotation) {
+        return this.mayBeAnnotatedWith(className, annotation.getName());
+    }
+
+    /**
+     * Returns whether the class with the given name may carry the annotation with the given name. This is {@code
+     * false} only if the class is known to not carry the annotation.
+     *
+     * @param className the binary name of the class
+     * @param annotationName the binary name of the annotation type to look for
+     * @return {@code false} if the class does not carry the annotation, {@code true} otherwise
+     */
+    public boolean mayBeAnnotatedWith(String className, String annotationName) {
+        boolean inheritedOnly = false;
+        Set<String> visitedClasses = new HashSet<>();
+        String currentClass = className;
+        while (currentClass != null && visitedClasses.add(currentClass)) {
+            Option<ClassFileMetadata> classMetadata = this.metadata(currentClass);
+            if (classMetadata.absent()) {
+                return true;
+            }
+            for (String presentAnnotation : classMetadata.get().annotations()) {
+                Match match = this.matches(presentAnnotation, annotationName);
+                if (match == Match.UNKNOWN) {
+                    return true;
+                }
+                if (match == Match.MATCH && (!inheritedOnly || this.isInherited(presentAnnotation))) {
+                    return true;
+                }
+            }
+            // Only annotations that are marked as @Inherited can be obtained from superclasses
+            inheritedOnly = true;
+            currentClass = classMetadata.get().superClassName();
+        }
+        return false;
+    }
+
+    private Match matches(String presentAnnotation, String annotationName) {
+        Set<String> visitedAnnotations = new HashSet<>();
+        String currentAnnotation = presentAnnotation;
+        while (currentAnnotation != null && visitedAnnotations.add(currentAnnotation)) {
+            if (currentAnnotation.equals(annotationName)) {
+                return Match.MATCH;
+            }
+            Option<ClassFileMetadata> annotationMetadata = this.metadata(currentAnnotation);
+            if (annotationMetadata.absent()) {
+                return Match.UNKNOWN;
+            }
+            currentAnnotation = annotationMetadata.get().extendedAnnotation();
+        }
+        return Match.NO_MATCH;
+    }
+
+    private boolean isInherited(String annotation) {
+        // Absent metadata is already reported as an unknown match before this is checked
+        return this.metadata(annotation)
+                .map(metadata -> metadata.hasDirectAnnotation(INHERITED))
+                .orElse(true);
+    }
+
+    /**
+     * Registers the known metadata of a class, so its class file does not need to be read when the class is inspected.
+     * If metadata of the class was already read or registered, the existing metadata is retained.
+     *
+     * @param classMetadata the metadata of the class
+     */
+    public void register(ClassFileMetadata classMetadata) {
+        this.metadata.putIfAbsent(classMetadata.className(), Option.of(classMetadata));
+    }
+
+    /**
+     * Returns the metadata of the class with the given name, if its class file can be read.
+     *
+     * @param className the binary name of the class
+     * @return the metadata of the class, if it is available
+     */
+    public Option<ClassFileMetadata> metadata(String className) {
+        Option<ClassFileMetadata> classMetadata = this.metadata.get(className);
+        if (classMetadata == null) {
+            classMetadata = this.readMetadata(className);
+            this.metadata.putIfAbsent(className, classMetadata);
+        }
+        return classMetadata;
+    }
+
+    private Option<ClassFileMetadata> readMetadata(String className) {
+        String resourceName = className.replace('.', '/') + ".class";
+        try (InputStream inputStream = this.classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return Option.empty();
+            }
+            return Option.of(ClassFileReader.read(inputStream));
+        }
+        catch (IOException e) {
+            return Option.empty();
+        }
+    }
+
+    private enum Match {
+        MATCH,
+        NO_MATCH,
+        UNKNOWN,
+    }
+}
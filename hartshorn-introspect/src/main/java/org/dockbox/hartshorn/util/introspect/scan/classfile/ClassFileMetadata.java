@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.classfile;
+
+import java.util.Set;
+
+/**
+ * Metadata of a single class, as read from its class file by the {@link ClassFileReader}. All class names are binary
+ * names, as accepted by {@link Class#forName(String)}.
+ *
+ * @param className the name of the class
+ * @param superClassName the name of the direct superclass, or {@code null} if the class has no superclass
+ * @param annotations the names of the runtime-visible annotations that are directly present on the class
+ * @param extendedAnnotation the name of the annotation that is {@link org.dockbox.hartshorn.util.introspect.annotations.Extends extended}
+ *                           by this class if it is an annotation type, or {@code null}
+ *
+ * @see ClassFileReader
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public record ClassFileMetadata(String className, String superClassName, Set<String> annotations, String extendedAnnotation) {
+
+    public ClassFileMetadata {
+        annotations = Set.copyOf(annotations);
+    }
+
+    /**
+     * Returns whether the class carries the annotation with the given name directly.
+     *
+     * @param annotationName the name of the annotation
+     * @return {@code true} if the annotation is directly present, {@code false} otherwise
+     */
+    public boolean hasDirectAnnotation(String annotationName) {
+        return this.annotations.contains(annotationName);
+    }
+}
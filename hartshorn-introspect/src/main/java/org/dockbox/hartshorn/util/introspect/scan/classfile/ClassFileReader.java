@@ -0,0 +1,266 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.classfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.dockbox.hartshorn.util.introspect.annotations.Extends;
+
+/**
+ * A minimal reader for class files, which extracts the {@link ClassFileMetadata} of a class without loading or
+ * defining it. Only the constant pool, the class header and the {@code RuntimeVisibleAnnotations} attribute of the
+ * class are interpreted. Fields, methods and all other attributes are skipped without being decoded.
+ *
+ * <p>Constant pool entries are not decoded up-front. Only the entries that are referenced by the class header and
+ * the class annotations are decoded into strings, so reading a class file allocates little more than the names it
+ * returns.
+ *
+ * @see ClassFileMetadata
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String EXTENDS_DESCRIPTOR = 'L' + Extends.class.getName().replace('.', '/') + ';';
+
+    private final byte[] bytes;
+    private final int[] constantOffsets;
+    private int position;
+
+    private ClassFileReader(byte[] bytes) throws IOException {
+        this.bytes = bytes;
+        if (this.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        this.position += 4; // minor_version, major_version
+
+        int constantPoolCount = this.readUnsignedShort();
+        this.constantOffsets = new int[constantPoolCount];
+        for (int index = 1; index < constantPoolCount; index++) {
+            this.constantOffsets[index] = this.position + 1;
+            int tag = this.readUnsignedByte();
+            switch (tag) {
+                case 1 -> {
+                    // Utf8
+                    int length = this.readUnsignedShort();
+                    this.position += length;
+                }
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> this.position += 4; // Integer, Float, (Field|Method|InterfaceMethod)ref, NameAndType, (Invoke)Dynamic
+                case 5, 6 -> {
+                    // Long and Double take up two entries in the constant pool
+                    this.position += 8;
+                    index++;
+                }
+                case 7, 8, 16, 19, 20 -> this.position += 2; // Class, String, MethodType, Module, Package
+                case 15 -> this.position += 3; // MethodHandle
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at entry " + index);
+            }
+        }
+    }
+
+    /**
+     * Reads the metadata of the class file contained in the given stream. The stream is read fully, but not closed.
+     *
+     * @param inputStream the stream containing the class file
+     * @return the metadata of the class
+     * @throws IOException if the stream could not be read, or does not contain a valid class file
+     */
+    public static ClassFileMetadata read(InputStream inputStream) throws IOException {
+        return read(inputStream.readAllBytes());
+    }
+
+    /**
+     * Reads the metadata of the given class file.
+     *
+     * @param bytes the contents of the class file
+     * @return the metadata of the class
+     * @throws IOException if the bytes do not represent a valid class file
+     */
+    public static ClassFileMetadata read(byte[] bytes) throws IOException {
+        try {
+            return new ClassFileReader(bytes).readMetadata();
+        }
+        catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated class file", e);
+        }
+    }
+
+    private ClassFileMetadata readMetadata() throws IOException {
+        this.position += 2; // access_flags
+        String className = this.className(this.readUnsignedShort());
+        int superClassIndex = this.readUnsignedShort();
+        String superClassName = superClassIndex == 0 ? null : this.className(superClassIndex);
+
+        int interfacesCount = this.readUnsignedShort();
+        this.position += 2 * interfacesCount;
+
+        this.skipMembers(); // fields
+        this.skipMembers(); // methods
+
+        Set<String> annotations = new HashSet<>();
+        String extendedAnnotation = null;
+        int attributesCount = this.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            int nameIndex = this.readUnsignedShort();
+            int length = this.readInt();
+            int end = this.position + length;
+            if (this.utf8Equals(nameIndex, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                int annotationsCount = this.readUnsignedShort();
+                for (int j = 0; j < annotationsCount; j++) {
+                    String extended = this.readAnnotation(annotations);
+                    if (extended != null) {
+                        extendedAnnotation = extended;
+                    }
+                }
+            }
+            this.position = end;
+        }
+        return new ClassFileMetadata(className, superClassName, annotations, extendedAnnotation);
+    }
+
+    private void skipMembers() {
+        int membersCount = this.readUnsignedShort();
+        for (int i = 0; i < membersCount; i++) {
+            this.position += 6; // access_flags, name_index, descriptor_index
+            this.skipAttributes();
+        }
+    }
+
+    private void skipAttributes() {
+        int attributesCount = this.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            this.position += 2; // attribute_name_index
+            int length = this.readInt();
+            this.position += length;
+        }
+    }
+
+    /**
+     * Reads a single annotation, and adds its type to the given set. If the annotation is {@link Extends}, the name
+     * of the extended annotation is returned.
+     */
+    private String readAnnotation(Set<String> annotations) throws IOException {
+        int typeIndex = this.readUnsignedShort();
+        boolean isExtends = this.utf8Equals(typeIndex, EXTENDS_DESCRIPTOR);
+        annotations.add(descriptorToClassName(this.utf8(typeIndex)));
+
+        String extendedAnnotation = null;
+        int pairsCount = this.readUnsignedShort();
+        for (int i = 0; i < pairsCount; i++) {
+            int nameIndex = this.readUnsignedShort();
+            if (isExtends && this.bytes[this.position] == 'c' && this.utf8Equals(nameIndex, "value")) {
+                this.position++;
+                extendedAnnotation = descriptorToClassName(this.utf8(this.readUnsignedShort()));
+            }
+            else {
+                this.skipElementValue();
+            }
+        }
+        return extendedAnnotation;
+    }
+
+    private void skipElementValue() throws IOException {
+        int tag = this.readUnsignedByte();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> this.position += 2;
+            case 'e' -> this.position += 4;
+            case '@' -> {
+                this.position += 2; // type_index
+                int pairsCount = this.readUnsignedShort();
+                for (int i = 0; i < pairsCount; i++) {
+                    this.position += 2; // element_name_index
+                    this.skipElementValue();
+                }
+            }
+            case '[' -> {
+                int valuesCount = this.readUnsignedShort();
+                for (int i = 0; i < valuesCount; i++) {
+                    this.skipElementValue();
+                }
+            }
+            default -> throw new IOException("Unknown element value tag " + (char) tag);
+        }
+    }
+
+    private String className(int classIndex) throws IOException {
+        int nameIndex = this.unsignedShortAt(this.constantOffsets[classIndex]);
+        return this.utf8(nameIndex).replace('/', '.');
+    }
+
+    private static String descriptorToClassName(String descriptor) {
+        // Descriptors of annotation types are always object types, in the form 'Lpackage/Type;'
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private boolean utf8Equals(int index, String value) {
+        int offset = this.constantOffsets[index];
+        int length = this.unsignedShortAt(offset);
+        if (length != value.length()) {
+            return false;
+        }
+        // Only ASCII values are compared, which are encoded identically in modified UTF-8
+        for (int i = 0; i < length; i++) {
+            if (this.bytes[offset + 2 + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String utf8(int index) throws IOException {
+        int offset = this.constantOffsets[index];
+        int length = this.unsignedShortAt(offset);
+        int start = offset + 2;
+        for (int i = start; i < start + length; i++) {
+            if (this.bytes[i] < 0) {
+                // Non-ASCII content, fall back to the modified UTF-8 decoder of DataInputStream
+                return new DataInputStream(new ByteArrayInputStream(this.bytes, offset, length + 2)).readUTF();
+            }
+        }
+        return new String(this.bytes, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private int readUnsignedByte() {
+        return this.bytes[this.position++] & 0xFF;
+    }
+
+    private int readUnsignedShort() {
+        int value = this.unsignedShortAt(this.position);
+        this.position += 2;
+        return value;
+    }
+
+    private int readInt() {
+        int value = (this.unsignedShortAt(this.position) << 16) | this.unsignedShortAt(this.position + 2);
+        this.position += 4;
+        return value;
+    }
+
+    private int unsignedShortAt(int offset) {
+        return ((this.bytes[offset] & 0xFF) << 8) | (this.bytes[offset + 1] & 0xFF);
+    }
+}
@@ -22,18 +22,28 @@
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile.ZipEntryNameFilter;
 
 /**
  * A classpath scanner that can be used to scan the classpath for resources. This scanner is capable of scanning both
@@ -52,6 +62,12 @@
  * each file to a given {@link ResourceHandler}. The scanner will only process files that are compatible with the
  * configured scan settings.
  *
+ * <p>By default, classpath roots are scanned one after another on the calling thread. When {@link #parallel() parallel
+ * scanning} is enabled, classpath roots are scanned concurrently, and large jar files are split into ranges of entries
+ * which are processed concurrently as well. Resources are still delivered to the {@link ResourceHandler} on the calling
+ * thread, and in the same order as they would be delivered when scanning sequentially. This means handlers do not need
+ * to be thread-safe, and the scan result remains stable between runs.
+ *
  * <p>Typically, {@link ClassPathScanner} should not be used directly, but rather be used through the {@link
  * ClassPathScannerTypeReferenceCollector}.
  *
@@ -61,8 +77,16 @@
  */
 public final class ClassPathScanner {
 
+    /**
+     * The minimum number of entries in a jar file before its entries are split into ranges when scanning in parallel.
+     */
+    private static final int PARALLEL_JAR_ENTRY_THRESHOLD = 2048;
+
+    private static final byte[] CLASS_FILE_EXTENSION = ".class".getBytes(StandardCharsets.US_ASCII);
+
     private final Set<String> classNames = new HashSet<>();
-    private final Set<URLClassLoader> classLoaders = new HashSet<>();
+    // Retain insertion order, so classpath roots are always scanned in a predictable order
+    private final Set<URLClassLoader> classLoaders = new LinkedHashSet<>();
     private final Set<String> prefixFilters = new HashSet<>();
 
     private boolean resourcesOnly = false;
@@ -70,6 +94,7 @@ public final class ClassPathScanner {
     private boolean excludeInnerClasses = false;
     private boolean excludePackageInfo = true;
     private long scanTime = -1;
+    private ForkJoinPool pool;
 
     private ClassPathScanner() {
         // Private constructor to prevent instantiation outside of #create()
@@ -158,8 +183,18 @@ public synchronized ClassPathScanner scan(ResourceHandler handler) throws ClassP
         this.classNames.clear();
 
         long start = System.currentTimeMillis();
+        List<ClassPathRoot> roots = new ArrayList<>();
         for (URLClassLoader classLoader : this.classLoaders) {
-            this.scanClassLoaderResources(handler, classLoader);
+            this.collectClassLoaderRoots(classLoader, roots);
+        }
+
+        if (this.pool == null) {
+            for (ClassPathRoot root : roots) {
+                this.processRoot(handler, root);
+            }
+        }
+        else {
+            this.processRootsInParallel(handler, roots);
         }
 
         this.scanTime = System.currentTimeMillis() - start;
@@ -167,15 +202,14 @@ public synchronized ClassPathScanner scan(ResourceHandler handler) throws ClassP
     }
 
     /**
-     * Scans the given {@link URLClassLoader} for resources. The scanner will delegate the processing of each file to
-     * the provided {@link ResourceHandler}. The scanner will only process files that are compatible with the configured
-     * scan settings.
+     * Collects the classpath roots of the given {@link URLClassLoader}. Each root is either a directory or a jar
+     * file.
      *
-     * @param handler The handler that will consume the file if it is compatible
      * @param classLoader The classloader to scan
-     * @throws ClassPathWalkingException When an error occurs while scanning the classpath
+     * @param roots The list to which the roots are added
+     * @throws ClassPathWalkingException When the classloader contains an unsupported classpath resource
      */
-    private void scanClassLoaderResources(ResourceHandler handler, URLClassLoader classLoader) throws ClassPathWalkingException {
+    private void collectClassLoaderRoots(URLClassLoader classLoader, List<ClassPathRoot> roots) throws ClassPathWalkingException {
         for (URL url : classLoader.getURLs()) {
             if (url.getFile() != null && !url.getFile().isEmpty()) {
 
@@ -185,11 +219,8 @@ private void scanClassLoaderResources(ResourceHandler handler, URLClassLoader cl
                 String decodedUrl = URLDecoder.decode(url.getFile(), Charset.defaultCharset());
                 File file = new File(decodedUrl);
                 if (file.exists()) {
-                    if (file.isDirectory()) {
-                        this.processDirectoryResource(handler, classLoader, file);
-                    }
-                    else if (file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(".jar")) {
-                        this.processJarFileResource(handler, classLoader, file);
+                    if (file.isDirectory() || (file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(".jar"))) {
+                        roots.add(new ClassPathRoot(classLoader, file));
                     }
                 }
                 else {
@@ -199,6 +230,93 @@ else if (file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(".jar
         }
     }
 
+    /**
+     * Processes a single classpath root. The scanner will delegate the processing of each file to the provided {@link
+     * ResourceHandler}. The scanner will only process files that are compatible with the configured scan settings.
+     *
+     * @param handler The handler that will consume the file if it is compatible
+     * @param root The classpath root to scan
+     * @throws ClassPathWalkingException When an error occurs while scanning the classpath
+     */
+    private void processRoot(ResourceHandler handler, ClassPathRoot root) throws ClassPathWalkingException {
+        if (root.file().isDirectory()) {
+            this.processDirectoryResource(handler, root.classLoader(), root.file());
+        }
+        else {
+            this.processJarFileResource(handler, root.classLoader(), root.file());
+        }
+    }
+
+    /**
+     * Processes all classpath roots concurrently on the configured {@link ForkJoinPool}. The resources of each root
+     * are collected first, and delivered to the provided {@link ResourceHandler} on the calling thread once all
+     * preceding roots have been delivered. This ensures resources are delivered in the same order as they would be
+     * when scanning sequentially.
+     *
+     * @param handler The handler that will consume the file if it is compatible
+     * @param roots The classpath roots to scan
+     * @throws ClassPathWalkingException When an error occurs while scanning the classpath
+     */
+    private void processRootsInParallel(ResourceHandler handler, List<ClassPathRoot> roots) throws ClassPathWalkingException {
+        if (handler == null) {
+            return;
+        }
+
+        List<ForkJoinTask<List<ClassPathResource>>> tasks = new ArrayList<>();
+        for (ClassPathRoot root : roots) {
+            tasks.add(this.pool.submit(() -> this.collectRootResources(root)));
+        }
+
+        try {
+            for (ForkJoinTask<List<ClassPathResource>> task : tasks) {
+                for (ClassPathResource resource : task.get()) {
+                    handler.handle(resource);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClassPathWalkingException("Interrupted while scanning the classpath", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof ClassPathWalkingException walkingException) {
+                throw walkingException;
+            }
+            throw new ClassPathWalkingException("Could not scan the classpath", e.getCause());
+        }
+        finally {
+            for (ForkJoinTask<List<ClassPathResource>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Collects all compatible resources of a single classpath root. Jar files with many entries are split into ranges
+     * of entries, which are processed as separate tasks.
+     *
+     * @param root The classpath root to scan
+     * @return The compatible resources, in the order in which they were found
+     * @throws ClassPathWalkingException When an error occurs while scanning the classpath
+     */
+    private List<ClassPathResource> collectRootResources(ClassPathRoot root) throws ClassPathWalkingException {
+        List<ClassPathResource> resources = new ArrayList<>();
+        if (root.file().isDirectory()) {
+            this.processDirectoryResource(resources::add, root.classLoader(), root.file());
+            return resources;
+        }
+
+        List<String> entryNames;
+        try {
+            entryNames = this.jarEntryNames(root.file());
+        }
+        catch(IOException e) {
+            // Handle exception
+            return resources;
+        }
+        return new JarEntryRangeTask(root, entryNames, 0, entryNames.size()).invoke();
+    }
+
     /**
      * Processes a jar file resource. This will only process files that are compatible with the configured scan
      * settings. Any file that is compatible will be delegated to the provided {@link ResourceHandler}.
@@ -208,19 +326,117 @@ else if (file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(".jar
      * @param jarFile The jar file
      */
     private void processJarFileResource(ResourceHandler handler, URLClassLoader classLoader, File jarFile) {
+        try {
+            for (String name : this.jarEntryNames(jarFile)) {
+                this.processPathResource(handler, classLoader, name, jarFile.toPath());
+            }
+        }
+        catch(IOException e) {
+            // Handle exception
+        }
+    }
+
+    /**
+     * Returns the names of all file entries in the given jar file which may be compatible with the configured scan
+     * settings. The central directory of the jar file is read through a shared {@link MappedZipFile}, so entries are
+     * pre-filtered on their raw names, and names are only created for entries which pass the pre-filter. If the jar
+     * file is not supported by {@link MappedZipFile}, all entries are read through a {@link JarFile} instead.
+     *
+     * <p>Entries that are returned are not guaranteed to be compatible, and should still be processed through {@link
+     * #processPathResource(ResourceHandler, URLClassLoader, String, Path)}.
+     *
+     * @param jarFile The jar file
+     * @return The names of the entries which may be compatible, in the order in which they appear in the jar file
+     * @throws IOException When the jar file could not be read
+     */
+    private List<String> jarEntryNames(File jarFile) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        MappedZipFile zipFile;
+        try {
+            zipFile = MappedZipFile.open(jarFile.toPath());
+        }
+        catch(IOException e) {
+            zipFile = null;
+        }
+
+        if (zipFile != null) {
+            zipFile.forEachEntryName(this.entryNameFilter(), entryNames::add);
+            return entryNames;
+        }
+
         try(JarFile file = new JarFile(jarFile)) {
             Enumeration<JarEntry> entries = file.entries();
             while(entries.hasMoreElements()) {
                 JarEntry entry = entries.nextElement();
                 if(!entry.isDirectory()) {
-                    String name = entry.getName();
-                    this.processPathResource(handler, classLoader, name, jarFile.toPath());
+                    entryNames.add(entry.getName());
                 }
             }
         }
-        catch(IOException e) {
-            // Handle exception
+        return entryNames;
+    }
+
+    /**
+     * Creates a pre-filter for the raw names of jar entries. When scanning for classes only, entries are rejected if
+     * they are not class files, or if their name cannot match any of the configured prefixes. As class names are
+     * derived from entry names by replacing path separators with dots, separators are compared as dots. The pre-filter
+     * is conservative, and never rejects entries which would be accepted by {@link #shouldProcessResource(boolean,
+     * String)}.
+     *
+     * @return The pre-filter for jar entry names
+     */
+    private ZipEntryNameFilter entryNameFilter() {
+        if (!this.classesOnly) {
+            return ZipEntryNameFilter.all();
         }
+
+        List<byte[]> prefixes = new ArrayList<>();
+        for (String prefix : this.scannedPrefixes()) {
+            prefixes.add(prefix.getBytes(StandardCharsets.UTF_8));
+        }
+        return (buffer, offset, length) -> {
+            if (!hasClassFileExtension(buffer, offset, length)) {
+                return false;
+            }
+            for (byte[] prefix : prefixes) {
+                if (!hasClassNamePrefix(buffer, offset, length, prefix)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean hasClassFileExtension(ByteBuffer buffer, int offset, int length) {
+        int extensionLength = CLASS_FILE_EXTENSION.length;
+        if (length < extensionLength) {
+            return false;
+        }
+        int extensionOffset = offset + length - extensionLength;
+        for (int index = 0; index < extensionLength; index++) {
+            // Extensions are matched case-insensitively, consistent with #processPathResource
+            int character = Character.toLowerCase(buffer.get(extensionOffset + index) & 0xFF);
+            if (character != CLASS_FILE_EXTENSION[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasClassNamePrefix(ByteBuffer buffer, int offset, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int index = 0; index < prefix.length; index++) {
+            byte character = buffer.get(offset + index);
+            if (character == '/' || character == '\\') {
+                character = '.';
+            }
+            if (character != prefix[index]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -348,6 +564,17 @@ public synchronized Set<String> filteredPrefixes() {
         return this.prefixFilters;
     }
 
+    /**
+     * Returns the set of prefixes that are used while scanning. Unlike {@link #filteredPrefixes()}, this does not
+     * acquire the scanner's lock, so it can be used by tasks that run while {@link #scan(ResourceHandler)} holds the
+     * lock. Filters cannot be modified while a scan is in progress.
+     *
+     * @return The set of prefixes
+     */
+    Set<String> scannedPrefixes() {
+        return this.prefixFilters;
+    }
+
     /**
      * Includes the default classpath in the scanner. The default classpath is determined by the value of the {@code
      * java.class.path} system property.
@@ -402,6 +629,44 @@ public synchronized ClassPathScanner includePackageInfo() {
         return this;
     }
 
+    /**
+     * Configures the scanner to scan classpath roots in parallel, using the {@link ForkJoinPool#commonPool() common
+     * pool}. Resources are still delivered to the {@link ResourceHandler} on the thread that invokes {@link
+     * #scan(ResourceHandler)}, in the same order as when scanning sequentially.
+     *
+     * @return The scanner instance
+     */
+    public synchronized ClassPathScanner parallel() {
+        return this.parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Configures the scanner to scan classpath roots in parallel, using the provided {@link ForkJoinPool}. Resources
+     * are still delivered to the {@link ResourceHandler} on the thread that invokes {@link #scan(ResourceHandler)}, in
+     * the same order as when scanning sequentially.
+     *
+     * @param pool The pool to scan classpath roots on
+     * @return The scanner instance
+     */
+    public synchronized ClassPathScanner parallel(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Configures the scanner to scan classpath roots one after another on the calling thread. This is the default
+     * setting.
+     *
+     * @return The scanner instance
+     */
+    public synchronized ClassPathScanner sequential() {
+        this.pool = null;
+        return this;
+    }
+
     /**
      * Returns the set of {@link ClassLoader}s that are configured in the scanner. When scanning the classpath, the
      * scanner will use these classloaders to discover resources.
@@ -421,4 +686,52 @@ public synchronized Set<ClassLoader> classLoaders() {
     public synchronized long scanTime() {
         return this.scanTime;
     }
+
+    /**
+     * A single directory or jar file on the classpath, combined with the classloader it was obtained from.
+     *
+     * @param classLoader The classloader which contains the root
+     * @param file The directory or jar file
+     */
+    private record ClassPathRoot(URLClassLoader classLoader, File file) {
+    }
+
+    /**
+     * A task which processes a range of entries of a jar file. Ranges that exceed {@link
+     * #PARALLEL_JAR_ENTRY_THRESHOLD} are split in two, and the results are joined in entry order.
+     */
+    private final class JarEntryRangeTask extends RecursiveTask<List<ClassPathResource>> {
+
+        private final ClassPathRoot root;
+        private final List<String> entryNames;
+        private final int from;
+        private final int to;
+
+        private JarEntryRangeTask(ClassPathRoot root, List<String> entryNames, int from, int to) {
+            this.root = root;
+            this.entryNames = entryNames;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<ClassPathResource> compute() {
+            if (this.to - this.from > PARALLEL_JAR_ENTRY_THRESHOLD) {
+                int middle = (this.from + this.to) >>> 1;
+                JarEntryRangeTask head = new JarEntryRangeTask(this.root, this.entryNames, this.from, middle);
+                JarEntryRangeTask tail = new JarEntryRangeTask(this.root, this.entryNames, middle, this.to);
+                tail.fork();
+                List<ClassPathResource> resources = head.compute();
+                resources.addAll(tail.join());
+                return resources;
+            }
+
+            List<ClassPathResource> resources = new ArrayList<>();
+            Path jarPath = this.root.file().toPath();
+            for (int i = this.from; i < this.to; i++) {
+                ClassPathScanner.this.processPathResource(resources::add, this.root.classLoader(), this.entryNames.get(i), jarPath);
+            }
+            return resources;
+        }
+    }
 }
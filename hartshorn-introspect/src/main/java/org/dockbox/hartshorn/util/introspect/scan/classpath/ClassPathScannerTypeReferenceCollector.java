@@ -27,7 +27,7 @@
 /**
  * A {@link ClasspathTypeReferenceCollector} that collects {@link TypeReference}s from a classpath using a
  * {@link ClassPathScanner}. This automatically includes the default classpath, and filters on the configured
- * package name. Scanning does not include any non-class resources.
+ * package name. Scanning does not include any non-class resources. Classpath roots are scanned in parallel.
  *
  * @since 0.4.13
  *
@@ -45,7 +45,8 @@ protected Set<TypeReference> createCache() throws TypeCollectionException {
         ClassPathScanner classpathScanner = ClassPathScanner.create()
                 .includeDefaultClassPath()
                 .filterPrefix(this.packageName())
-                .classesOnly();
+                .classesOnly()
+                .parallel();
 
         try {
             classpathScanner.scan(resource -> {
@@ -60,7 +60,7 @@ public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) th
                 .replace('/', '.')
                 .replace('\\', '.');
 
-        for (String beginFilterName : this.classPathScanner.filteredPrefixes()) {
+        for (String beginFilterName : this.classPathScanner.scannedPrefixes()) {
             // If path starts with a filtered prefix, continue
             // If the path is part of a filtered package, continue, may match later
             if (canonicalName.startsWith(beginFilterName) || beginFilterName.startsWith(canonicalName)) {
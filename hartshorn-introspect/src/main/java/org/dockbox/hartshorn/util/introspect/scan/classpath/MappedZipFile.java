@@ -0,0 +1,454 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.classpath;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A lightweight, read-only view of a zip (or jar) file, backed by a memory-mapped {@link FileChannel}. Unlike {@link
+ * java.util.zip.ZipFile}, this reader does not create entry objects while iterating the central directory. Entries are
+ * filtered on the raw bytes of their names through a {@link ZipEntryNameFilter}, and names are only decoded for entries
+ * which are accepted by the filter.
+ *
+ * <p>Instances are shared through {@link #open(Path)}, so the same mapped buffer is used by all concurrent consumers of
+ * a file, such as the {@link ClassPathScanner} and resource lookups. Shared instances are only weakly referenced, so
+ * they do not outlive their consumers. A shared instance is replaced when the size or modification time of the
+ * underlying file changes.
+ *
+ * <p>The mapping is not tied to an open file handle, but cannot be released explicitly either. It remains in place
+ * until the instance, and all streams obtained from it, have been garbage collected. On some platforms, notably
+ * Windows, the file cannot be deleted or replaced while it is mapped. Consumers should therefore not retain instances
+ * longer than needed. If the file is truncated while it is mapped, reading from the affected region is reported as an
+ * {@link IOException}.
+ *
+ * <p>Only the common subset of the zip format is supported: files larger than 2GB, ZIP64 archives, and archives with
+ * data preceding the first entry (such as self-extracting archives) are rejected with an {@link IOException}. Callers
+ * are expected to fall back to {@link java.util.zip.ZipFile} in that case. Entry names are always decoded as UTF-8, which
+ * matches the behavior of {@link java.util.jar.JarFile}.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class MappedZipFile {
+
+    private static final Map<Path, WeakReference<MappedZipFile>> SHARED_FILES = new ConcurrentHashMap<>();
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final Path path;
+    private final long size;
+    private final long lastModified;
+    private final ByteBuffer buffer;
+    private final int centralDirectoryOffset;
+    private final int entryCount;
+
+    private MappedZipFile(Path path, long size, long lastModified) throws IOException {
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Zip file " + path + " is too large to be mapped");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        int endOfCentralDirectory;
+        int entryCount;
+        long centralDirectorySize;
+        long centralDirectoryOffset;
+        try {
+            endOfCentralDirectory = this.findEndOfCentralDirectory();
+            entryCount = this.unsignedShort(endOfCentralDirectory + 10);
+            centralDirectorySize = this.unsignedInt(endOfCentralDirectory + 12);
+            centralDirectoryOffset = this.unsignedInt(endOfCentralDirectory + 16);
+        }
+        catch (InternalError e) {
+            throw truncated(path, e);
+        }
+        if (entryCount == 0xFFFF || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC) {
+            throw new IOException("ZIP64 archives are not supported: " + path);
+        }
+        if (centralDirectoryOffset + centralDirectorySize != endOfCentralDirectory) {
+            throw new IOException("Zip file " + path + " contains data preceding its first entry");
+        }
+        this.centralDirectoryOffset = (int) centralDirectoryOffset;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Returns a shared, memory-mapped view of the given zip file. If the file was opened before, did not change since,
+     * and the existing view is still reachable, the existing view is returned.
+     *
+     * @param path the path of the zip file
+     * @return the view of the zip file
+     * @throws IOException if the file could not be read, or is not a supported zip file
+     */
+    public static MappedZipFile open(Path path) throws IOException {
+        Path normalizedPath = path.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(normalizedPath, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        WeakReference<MappedZipFile> reference = SHARED_FILES.get(normalizedPath);
+        MappedZipFile zipFile = reference != null ? reference.get() : null;
+        if (zipFile != null && zipFile.size == attributes.size() && zipFile.lastModified == lastModified) {
+            return zipFile;
+        }
+        // Remove entries of views which are no longer in use, so paths of files which are no longer read are not retained
+        SHARED_FILES.values().removeIf(sharedReference -> sharedReference.get() == null);
+
+        zipFile = new MappedZipFile(normalizedPath, attributes.size(), lastModified);
+        SHARED_FILES.put(normalizedPath, new WeakReference<>(zipFile));
+        return zipFile;
+    }
+
+    /**
+     * Returns the path of the zip file.
+     *
+     * @return the path of the zip file
+     */
+    public Path path() {
+        return this.path;
+    }
+
+    /**
+     * Returns the number of entries in the zip file, including directory entries.
+     *
+     * @return the number of entries
+     */
+    public int entryCount() {
+        return this.entryCount;
+    }
+
+    /**
+     * Visits the names of all file entries that are accepted by the given filter, in the order in which they appear in
+     * the central directory. Directory entries are never visited.
+     *
+     * @param filter the filter to apply to the raw entry names
+     * @param consumer the consumer of the accepted entry names
+     * @throws IOException if the central directory is malformed
+     */
+    public void forEachEntryName(ZipEntryNameFilter filter, Consumer<String> consumer) throws IOException {
+        try {
+            int offset = this.centralDirectoryOffset;
+            for (int index = 0; index < this.entryCount; index++) {
+                this.checkCentralDirectoryHeader(offset);
+                int nameLength = this.unsignedShort(offset + 28);
+                int nameOffset = offset + CENTRAL_DIRECTORY_HEADER_SIZE;
+                boolean isDirectory = nameLength > 0 && this.buffer.get(nameOffset + nameLength - 1) == '/';
+                if (!isDirectory && filter.accept(this.buffer, nameOffset, nameLength)) {
+                    consumer.accept(this.decodeName(nameOffset, nameLength));
+                }
+                offset = this.nextCentralDirectoryHeader(offset);
+            }
+        }
+        catch (InternalError e) {
+            throw truncated(this.path, e);
+        }
+    }
+
+    /**
+     * Opens a stream to read the contents of the entry with the given name. The returned stream reads directly from
+     * the mapped buffer, and does not need to be closed to release the zip file.
+     *
+     * @param name the name of the entry
+     * @return a stream of the entry's contents, or an empty {@link Option} if there is no file entry with the given name
+     * @throws IOException if the entry is stored in an unsupported format, or the zip file is malformed
+     */
+    public Option<InputStream> openEntry(String name) throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        try {
+            int offset = this.centralDirectoryOffset;
+            for (int index = 0; index < this.entryCount; index++) {
+                this.checkCentralDirectoryHeader(offset);
+                int nameLength = this.unsignedShort(offset + 28);
+                if (nameLength == nameBytes.length && this.regionEquals(offset + CENTRAL_DIRECTORY_HEADER_SIZE, nameBytes)) {
+                    return Option.of(this.openEntryAt(offset));
+                }
+                offset = this.nextCentralDirectoryHeader(offset);
+            }
+            return Option.empty();
+        }
+        catch (InternalError e) {
+            throw truncated(this.path, e);
+        }
+    }
+
+    private InputStream openEntryAt(int centralDirectoryHeader) throws IOException {
+        int method = this.unsignedShort(centralDirectoryHeader + 10);
+        long compressedSize = this.unsignedInt(centralDirectoryHeader + 20);
+        long localHeaderOffset = this.unsignedInt(centralDirectoryHeader + 42);
+        if (compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+            throw new IOException("ZIP64 entries are not supported: " + this.path);
+        }
+
+        int localHeader = (int) localHeaderOffset;
+        if (localHeader + LOCAL_HEADER_SIZE > this.size || this.buffer.getInt(localHeader) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("Invalid local file header at offset " + localHeader + " in " + this.path);
+        }
+        // The local header may have a different extra field than the central directory, so its lengths are used here
+        int dataOffset = localHeader + LOCAL_HEADER_SIZE + this.unsignedShort(localHeader + 26) + this.unsignedShort(localHeader + 28);
+        if (dataOffset + compressedSize > this.size) {
+            throw new IOException("Entry data exceeds the size of " + this.path);
+        }
+
+        InputStream data = new ByteBufferInputStream(this.path, this.buffer.slice(dataOffset, (int) compressedSize));
+        return switch (method) {
+            case METHOD_STORED -> data;
+            case METHOD_DEFLATED -> new EntryInflaterInputStream(data);
+            default -> throw new IOException("Unsupported compression method " + method + " in " + this.path);
+        };
+    }
+
+    /**
+     * Creates the exception that is thrown when the mapped buffer could not be accessed. Accessing a region of a mapped
+     * buffer which is no longer backed by the file, for example because the file was truncated after it was mapped,
+     * causes an {@link InternalError} rather than an {@link IOException}.
+     *
+     * @param path the path of the zip file
+     * @param error the error that occurred while accessing the buffer
+     * @return the exception to throw
+     */
+    private static IOException truncated(Path path, InternalError error) {
+        return new IOException("Could not read zip file " + path + ", it may have been modified while it was mapped", error);
+    }
+
+    private int findEndOfCentralDirectory() throws IOException {
+        int lowerBound = (int) Math.max(0, this.size - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+        for (int offset = (int) this.size - END_OF_CENTRAL_DIRECTORY_SIZE; offset >= lowerBound; offset--) {
+            if (this.buffer.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new IOException("Not a zip file: " + this.path);
+    }
+
+    private void checkCentralDirectoryHeader(int offset) throws IOException {
+        if (offset + CENTRAL_DIRECTORY_HEADER_SIZE > this.size || this.buffer.getInt(offset) != CENTRAL_DIRECTORY_SIGNATURE) {
+            throw new IOException("Invalid central directory header at offset " + offset + " in " + this.path);
+        }
+        if (offset + CENTRAL_DIRECTORY_HEADER_SIZE + this.unsignedShort(offset + 28) > this.size) {
+            throw new IOException("Entry name at offset " + offset + " exceeds the size of " + this.path);
+        }
+    }
+
+    private int nextCentralDirectoryHeader(int offset) {
+        return offset + CENTRAL_DIRECTORY_HEADER_SIZE
+                + this.unsignedShort(offset + 28)
+                + this.unsignedShort(offset + 30)
+                + this.unsignedShort(offset + 32);
+    }
+
+    private boolean regionEquals(int offset, byte[] bytes) {
+        for (int index = 0; index < bytes.length; index++) {
+            if (this.buffer.get(offset + index) != bytes[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decodeName(int offset, int length) {
+        byte[] name = new byte[length];
+        this.buffer.get(offset, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private int unsignedShort(int offset) {
+        return Short.toUnsignedInt(this.buffer.getShort(offset));
+    }
+
+    private long unsignedInt(int offset) {
+        return Integer.toUnsignedLong(this.buffer.getInt(offset));
+    }
+
+    /**
+     * A filter on the raw, UTF-8 encoded bytes of zip entry names. Filters are evaluated before names are decoded, so
+     * entries which are rejected do not cause any allocation.
+     *
+     * @since 0.7.0
+     *
+     * @author Guus Lieben
+     */
+    @FunctionalInterface
+    public interface ZipEntryNameFilter {
+
+        /**
+         * Returns whether the entry with the given name should be accepted. Implementations should only use absolute
+         * reads on the buffer, as the buffer is shared between threads.
+         *
+         * @param buffer the buffer containing the entry name
+         * @param offset the offset of the first byte of the name in the buffer
+         * @param length the number of bytes of the name
+         * @return {@code true} if the entry should be accepted, {@code false} otherwise
+         */
+        boolean accept(ByteBuffer buffer, int offset, int length);
+
+        /**
+         * Returns a filter which accepts all entries.
+         *
+         * @return a filter which accepts all entries
+         */
+        static ZipEntryNameFilter all() {
+            return (buffer, offset, length) -> true;
+        }
+
+        /**
+         * Returns a filter which accepts all entries whose name starts with the given prefix.
+         *
+         * @param prefix the prefix of accepted entry names
+         * @return a filter which accepts entries with the given prefix
+         */
+        static ZipEntryNameFilter prefix(String prefix) {
+            byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            return (buffer, offset, length) -> {
+                if (length < prefixBytes.length) {
+                    return false;
+                }
+                for (int index = 0; index < prefixBytes.length; index++) {
+                    if (buffer.get(offset + index) != prefixBytes[index]) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+    }
+
+    /**
+     * An {@link InflaterInputStream} for raw deflated entry data. As the {@link Inflater} is used without zlib header
+     * and checksum, it may need an additional dummy byte to complete, which is supplied once the entry data is
+     * exhausted. The inflater is released when the stream is closed.
+     */
+    private static final class EntryInflaterInputStream extends InflaterInputStream {
+
+        private boolean endOfInput;
+        private boolean closed;
+
+        private EntryInflaterInputStream(InputStream inputStream) {
+            super(inputStream, new Inflater(true));
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (this.endOfInput) {
+                throw new EOFException("Unexpected end of deflated zip entry");
+            }
+            this.len = this.in.read(this.buf, 0, this.buf.length);
+            if (this.len == -1) {
+                this.buf[0] = 0;
+                this.len = 1;
+                this.endOfInput = true;
+            }
+            this.inf.setInput(this.buf, 0, this.len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                this.inf.end();
+            }
+            super.close();
+        }
+    }
+
+    /**
+     * An {@link InputStream} which reads from a {@link ByteBuffer}, without copying its contents.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final Path path;
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(Path path, ByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return this.buffer.hasRemaining() ? Byte.toUnsignedInt(this.buffer.get()) : -1;
+            }
+            catch (InternalError e) {
+                throw truncated(this.path, e);
+            }
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            try {
+                this.buffer.get(bytes, offset, count);
+            }
+            catch (InternalError e) {
+                throw truncated(this.path, e);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+            this.buffer.position(this.buffer.position() + skipped);
+            return skipped;
+        }
+    }
+}
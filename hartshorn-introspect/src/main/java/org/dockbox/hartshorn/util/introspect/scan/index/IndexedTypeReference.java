@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.index;
+
+import org.dockbox.hartshorn.util.introspect.scan.ClassNameReference;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileMetadata;
+
+/**
+ * A {@link ClassNameReference} that was obtained from a {@link TypeIndex}, and therefore carries the {@link
+ * ClassFileMetadata} that was recorded for the class when the index was created. This allows consumers to inspect
+ * e.g. the annotations of the referenced class without loading it, or reading its class file.
+ *
+ * <p>References are equal to any other {@link ClassNameReference} of the same class, regardless of the metadata
+ * they carry.
+ *
+ * @see TypeIndexTypeReferenceCollector
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class IndexedTypeReference extends ClassNameReference {
+
+    private final ClassFileMetadata metadata;
+
+    public IndexedTypeReference(ClassFileMetadata metadata) {
+        super(metadata.className());
+        this.metadata = metadata;
+    }
+
+    /**
+     * Returns the metadata of the referenced class, as recorded in the {@link TypeIndex} this reference was
+     * obtained from.
+     *
+     * @return the indexed metadata of the class
+     */
+    public ClassFileMetadata metadata() {
+        return this.metadata;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.dockbox.hartshorn.util.introspect.scan.TypeCollectionException;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileMetadata;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A pre-computed listing of the classes contained in a single classpath root, such as a jar file or a directory of
+ * compiled classes. Each listed class is accompanied by its {@link ClassFileMetadata}, being its direct superclass, the
+ * names of the runtime-visible annotations that are directly present on it, and the annotation it {@link
+ * org.dockbox.hartshorn.util.introspect.annotations.Extends extends} if it is an annotation type. Indexes are created
+ * at packaging time by the {@link TypeIndexGenerator}, and allow a {@link TypeIndexTypeReferenceCollector} to discover
+ * types without walking all entries of the classpath root, and without reading their class files to pre-filter them
+ * by annotation.
+ *
+ * <p>Indexes are stored as a plain text resource, located at {@link #RESOURCE_NAME} relative to the classpath root
+ * they describe. The resource contains one entry per line, in the form {@code key=value}. Each {@code class} entry
+ * starts a new class, and all {@code superclass}, {@code extends} and {@code annotation} entries that follow it belong
+ * to that class. Lines starting with {@code #} are ignored.
+ *
+ * @see TypeIndexGenerator
+ * @see TypeIndexTypeReferenceCollector
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class TypeIndex {
+
+    /**
+     * The name of the index resource, relative to the root of the classpath entry it describes.
+     */
+    public static final String RESOURCE_NAME = "META-INF/hartshorn/type-index";
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String VERSION_KEY = "version";
+    private static final String CLASS_KEY = "class";
+    private static final String SUPERCLASS_KEY = "superclass";
+    private static final String EXTENDS_KEY = "extends";
+    private static final String ANNOTATION_KEY = "annotation";
+
+    private final SortedMap<String, ClassFileMetadata> types;
+    private final SortedSet<String> typeNames;
+
+    public TypeIndex(Collection<ClassFileMetadata> types) {
+        SortedMap<String, ClassFileMetadata> copy = new TreeMap<>();
+        for (ClassFileMetadata metadata : types) {
+            copy.put(metadata.className(), metadata);
+        }
+        this.types = Collections.unmodifiableSortedMap(copy);
+        this.typeNames = Collections.unmodifiableSortedSet(new TreeSet<>(copy.keySet()));
+    }
+
+    /**
+     * Returns the binary names of all classes that are listed in this index, in sorted order.
+     *
+     * @return the names of all indexed classes
+     */
+    public SortedSet<String> types() {
+        return this.typeNames;
+    }
+
+    /**
+     * Returns the metadata of the given class, as it was recorded when this index was created.
+     *
+     * @param className the binary name of the class
+     * @return the metadata of the class, or an empty {@link Option} if the class is not listed in this index
+     */
+    public Option<ClassFileMetadata> metadata(String className) {
+        return Option.of(this.types.get(className));
+    }
+
+    /**
+     * Returns the names of the runtime-visible annotations that are directly present on the given class. If the class
+     * is not listed in this index, an empty set is returned.
+     *
+     * @param className the binary name of the class
+     * @return the names of the annotations that are directly present on the class
+     */
+    public SortedSet<String> annotations(String className) {
+        return this.metadata(className)
+                .map(metadata -> Collections.unmodifiableSortedSet(new TreeSet<>(metadata.annotations())))
+                .orElseGet(Collections::emptySortedSet);
+    }
+
+    /**
+     * Returns whether the given class is listed in this index.
+     *
+     * @param className the binary name of the class
+     * @return {@code true} if the class is listed, {@code false} otherwise
+     */
+    public boolean contains(String className) {
+        return this.types.containsKey(className);
+    }
+
+    /**
+     * Writes this index to the given writer. Entries are written in a stable order, so indexes of the same classpath
+     * root are identical between builds if its contents did not change.
+     *
+     * @param writer the writer to write to
+     * @throws IOException if the index could not be written
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Hartshorn type index, do not edit\n");
+        writeEntry(writer, VERSION_KEY, String.valueOf(FORMAT_VERSION));
+        for (ClassFileMetadata metadata : this.types.values()) {
+            writeEntry(writer, CLASS_KEY, metadata.className());
+            if (metadata.superClassName() != null) {
+                writeEntry(writer, SUPERCLASS_KEY, metadata.superClassName());
+            }
+            if (metadata.extendedAnnotation() != null) {
+                writeEntry(writer, EXTENDS_KEY, metadata.extendedAnnotation());
+            }
+            for (String annotation : new TreeSet<>(metadata.annotations())) {
+                writeEntry(writer, ANNOTATION_KEY, annotation);
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeEntry(Writer writer, String key, String value) throws IOException {
+        writer.write(key);
+        writer.write('=');
+        writer.write(value);
+        writer.write('\n');
+    }
+
+    /**
+     * Reads an index from the given input stream. If the index was written in an unsupported format, an empty {@link
+     * Option} is returned, so callers can fall back to scanning the classpath root instead.
+     *
+     * @param inputStream the input stream to read from
+     * @return the index, or an empty {@link Option} if the index is not supported
+     * @throws TypeCollectionException if the index could not be read, or is malformed
+     */
+    public static Option<TypeIndex> read(InputStream inputStream) throws TypeCollectionException {
+        String version = null;
+        Collection<ClassFileMetadata> types = new HashSet<>();
+        IndexEntry currentEntry = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                if (separator < 0) {
+                    throw new TypeCollectionException("Malformed type index entry: " + line);
+                }
+                String key = line.substring(0, separator);
+                String value = line.substring(separator + 1);
+                if (VERSION_KEY.equals(key)) {
+                    version = value;
+                    continue;
+                }
+                if (!String.valueOf(FORMAT_VERSION).equals(version)) {
+                    // Entries of other versions may not be understood, so the index is treated as unsupported
+                    return Option.empty();
+                }
+                switch (key) {
+                    case CLASS_KEY -> {
+                        if (currentEntry != null) {
+                            types.add(currentEntry.toMetadata());
+                        }
+                        currentEntry = new IndexEntry(value);
+                    }
+                    case SUPERCLASS_KEY -> requireEntry(currentEntry, key, value).superClassName = value;
+                    case EXTENDS_KEY -> requireEntry(currentEntry, key, value).extendedAnnotation = value;
+                    case ANNOTATION_KEY -> requireEntry(currentEntry, key, value).annotations.add(value);
+                    default -> throw new TypeCollectionException("Unknown type index entry: " + key);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new TypeCollectionException("Could not read type index", e);
+        }
+
+        if (!String.valueOf(FORMAT_VERSION).equals(version)) {
+            return Option.empty();
+        }
+        if (currentEntry != null) {
+            types.add(currentEntry.toMetadata());
+        }
+        return Option.of(new TypeIndex(types));
+    }
+
+    private static IndexEntry requireEntry(IndexEntry entry, String key, String value) throws TypeCollectionException {
+        if (entry == null) {
+            throw new TypeCollectionException("Type index " + key + " entry is not preceded by a class entry: " + value);
+        }
+        return entry;
+    }
+
+    private static final class IndexEntry {
+
+        private final String className;
+        private final Set<String> annotations = new HashSet<>();
+        private String superClassName;
+        private String extendedAnnotation;
+
+        private IndexEntry(String className) {
+            this.className = className;
+        }
+
+        private ClassFileMetadata toMetadata() {
+            return new ClassFileMetadata(this.className, this.superClassName, this.annotations, this.extendedAnnotation);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileMetadata;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Build-time tool that creates a {@link TypeIndex} for a single classpath root. The generator reads the class files of
+ * the given directory or jar file without loading them, and writes the resulting index to {@code <output
+ * directory>/}{@link TypeIndex#RESOURCE_NAME}. When the output directory is packaged together with the indexed classes
+ * (e.g. {@code target/classes}), a {@link TypeIndexTypeReferenceCollector} can use the index instead of scanning the
+ * packaged jar at runtime.
+ *
+ * <p>The generator is a plain Java program, so it can be invoked from any build tool. It accepts the directory or jar
+ * file to index, and the output directory:
+ * <pre>{@code
+ * java -cp <hartshorn-introspect classpath> org.dockbox.hartshorn.util.introspect.scan.index.TypeIndexGenerator \
+ *     target/classes target/classes
+ * }</pre>
+ *
+ * <p>Package and module descriptors, as well as all resources below {@code META-INF/}, are not included in the index.
+ *
+ * @see TypeIndex
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class TypeIndexGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TypeIndexGenerator.class);
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private TypeIndexGenerator() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TypeIndexGenerator <classes directory or jar file> <output directory>");
+        }
+        Path index = generate(Path.of(args[0]), Path.of(args[1]));
+        LOG.info("Wrote type index to {}", index.toAbsolutePath());
+    }
+
+    /**
+     * Creates a {@link TypeIndex} of the given classpath root, and writes it to the given output directory.
+     *
+     * @param classpathRoot the directory or jar file to index
+     * @param outputDirectory the root directory to write the index resource to
+     * @return the path of the written index
+     * @throws IOException if the classpath root could not be read, or the index could not be written
+     */
+    public static Path generate(Path classpathRoot, Path outputDirectory) throws IOException {
+        TypeIndex index = createIndex(classpathRoot);
+        Path target = outputDirectory.resolve(TypeIndex.RESOURCE_NAME);
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            index.write(writer);
+        }
+        return target;
+    }
+
+    /**
+     * Creates a {@link TypeIndex} of the given classpath root. The root is expected to be either a directory of class
+     * files, or a jar file.
+     *
+     * @param classpathRoot the directory or jar file to index
+     * @return the index of the classpath root
+     * @throws IOException if the classpath root could not be read, or contains an invalid class file
+     */
+    public static TypeIndex createIndex(Path classpathRoot) throws IOException {
+        List<ClassFileMetadata> types = new ArrayList<>();
+        if (Files.isDirectory(classpathRoot)) {
+            try (Stream<Path> files = Files.walk(classpathRoot)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String entryName = classpathRoot.relativize(file).toString().replace('\\', '/');
+                    if (Files.isRegularFile(file) && isIndexedEntry(entryName)) {
+                        try (InputStream inputStream = Files.newInputStream(file)) {
+                            types.add(ClassFileReader.read(inputStream));
+                        }
+                    }
+                }
+            }
+        }
+        else if (Files.isRegularFile(classpathRoot) && classpathRoot.toString().toLowerCase(Locale.ROOT).endsWith(".jar")) {
+            try (JarFile jarFile = new JarFile(classpathRoot.toFile())) {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (!entry.isDirectory() && isIndexedEntry(entry.getName())) {
+                        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                            types.add(ClassFileReader.read(inputStream));
+                        }
+                    }
+                }
+            }
+        }
+        else {
+            throw new IOException("Unsupported classpath root: " + classpathRoot);
+        }
+        return new TypeIndex(types);
+    }
+
+    private static boolean isIndexedEntry(String entryName) {
+        if (!entryName.toLowerCase(Locale.ROOT).endsWith(CLASS_FILE_EXTENSION) || entryName.startsWith("META-INF/")) {
+            return false;
+        }
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return !"package-info.class".equals(fileName) && !"module-info.class".equals(fileName);
+    }
+}
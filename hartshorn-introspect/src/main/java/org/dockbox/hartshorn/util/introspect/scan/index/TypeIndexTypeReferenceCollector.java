@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.introspect.scan.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.dockbox.hartshorn.reporting.DiagnosticsPropertyCollector;
+import org.dockbox.hartshorn.util.introspect.scan.ClassNameReference;
+import org.dockbox.hartshorn.util.introspect.scan.TypeCollectionException;
+import org.dockbox.hartshorn.util.introspect.scan.TypeReference;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathScanner;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathWalkingException;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.ClasspathTypeReferenceCollector;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A {@link ClasspathTypeReferenceCollector} that collects {@link TypeReference}s from the {@link TypeIndex type
+ * indexes} of the classpath roots. Classpath roots which do not contain a (supported) index are scanned using a
+ * {@link ClassPathScanner} instead, so applications that combine indexed and unindexed jar files are still discovered
+ * completely. If no classpath root contains an index, this collector behaves the same as a {@link
+ * org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathScannerTypeReferenceCollector}.
+ *
+ * <p>Types obtained from an index are referenced as {@link IndexedTypeReference}s, which carry the metadata that was
+ * recorded in the index. This allows consumers to pre-filter types by annotation without reading their class files.
+ *
+ * <p>Note that a classpath root which contains an index is never scanned, so the index is expected to be kept up to
+ * date with the classes in the root. This is of particular importance for directory roots, as a stale index that
+ * remains in e.g. {@code target/classes} after an incremental build hides all classes which were added to the
+ * directory since the index was generated. Indexes should therefore be regenerated as part of each build, or only be
+ * added to packaged jar files.
+ *
+ * <p>By default, the classpath roots are obtained from the {@code java.class.path} system property.
+ *
+ * @see TypeIndex
+ * @see TypeIndexGenerator
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class TypeIndexTypeReferenceCollector extends ClasspathTypeReferenceCollector {
+
+    private final List<Path> classpathRoots;
+
+    public TypeIndexTypeReferenceCollector(String packageName) {
+        this(packageName, defaultClasspathRoots());
+    }
+
+    public TypeIndexTypeReferenceCollector(String packageName, List<Path> classpathRoots) {
+        super(packageName);
+        this.classpathRoots = List.copyOf(classpathRoots);
+    }
+
+    private static List<Path> defaultClasspathRoots() {
+        String classpath = System.getProperty("java.class.path");
+        if (classpath == null || classpath.isBlank()) {
+            return List.of();
+        }
+        List<Path> roots = new ArrayList<>();
+        for (String path : classpath.split(File.pathSeparator)) {
+            if (!path.isBlank()) {
+                roots.add(Path.of(path));
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Returns the classpath roots which are inspected by this collector.
+     *
+     * @return the classpath roots
+     */
+    public List<Path> classpathRoots() {
+        return this.classpathRoots;
+    }
+
+    @Override
+    protected Set<TypeReference> createCache() throws TypeCollectionException {
+        Set<TypeReference> typeReferences = new HashSet<>();
+        ClassPathScanner fallbackScanner = ClassPathScanner.create()
+                .filterPrefix(this.packageName())
+                .classesOnly()
+                .parallel();
+
+        boolean requiresScanning = false;
+        for (Path root : this.classpathRoots) {
+            Option<TypeIndex> index = this.readIndex(root);
+            if (index.present()) {
+                for (String type : index.get().types()) {
+                    if (type.startsWith(this.packageName())) {
+                        typeReferences.add(new IndexedTypeReference(index.get().metadata(type).get()));
+                    }
+                }
+            }
+            else if (Files.exists(root)) {
+                try {
+                    fallbackScanner.addUrlForScanning(root.toUri().toURL());
+                    requiresScanning = true;
+                }
+                catch (MalformedURLException e) {
+                    throw new TypeCollectionException("Invalid classpath root " + root, e);
+                }
+            }
+        }
+
+        if (requiresScanning) {
+            try {
+                fallbackScanner.scan(resource -> {
+                    if (resource.isClassResource()) {
+                        typeReferences.add(new ClassNameReference(resource.resourceName()));
+                    }
+                });
+            }
+            catch (ClassPathWalkingException e) {
+                throw new TypeCollectionException("Failed to collect types in package " + this.packageName(), e);
+            }
+        }
+        return typeReferences;
+    }
+
+    /**
+     * Reads the {@link TypeIndex} of the given classpath root, if it exists. Both directories and jar files are
+     * supported.
+     *
+     * @param root the classpath root
+     * @return the index of the classpath root, or an empty {@link Option} if the root does not contain a supported index
+     * @throws TypeCollectionException if the index exists, but could not be read
+     */
+    protected Option<TypeIndex> readIndex(Path root) throws TypeCollectionException {
+        if (Files.isDirectory(root)) {
+            Path indexFile = root.resolve(TypeIndex.RESOURCE_NAME);
+            if (!Files.isRegularFile(indexFile)) {
+                return Option.empty();
+            }
+            try (InputStream inputStream = Files.newInputStream(indexFile)) {
+                return TypeIndex.read(inputStream);
+            }
+            catch (IOException e) {
+                throw new TypeCollectionException("Could not read type index of " + root, e);
+            }
+        }
+        else if (Files.isRegularFile(root) && root.toString().toLowerCase(Locale.ROOT).endsWith(".jar")) {
+            // Prefer the shared mapped view, which is reused when the jar is scanned as a fallback
+            MappedZipFile zipFile;
+            try {
+                zipFile = MappedZipFile.open(root);
+            }
+            catch (IOException e) {
+                zipFile = null;
+            }
+
+            if (zipFile != null) {
+                try {
+                    Option<InputStream> entry = zipFile.openEntry(TypeIndex.RESOURCE_NAME);
+                    return entry.present() ? TypeIndex.read(entry.get()) : Option.empty();
+                }
+                catch (IOException e) {
+                    throw new TypeCollectionException("Could not read type index of " + root, e);
+                }
+            }
+
+            try (JarFile jarFile = new JarFile(root.toFile())) {
+                JarEntry entry = jarFile.getJarEntry(TypeIndex.RESOURCE_NAME);
+                if (entry == null) {
+                    return Option.empty();
+                }
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    return TypeIndex.read(inputStream);
+                }
+            }
+            catch (IOException e) {
+                throw new TypeCollectionException("Could not read type index of " + root, e);
+            }
+        }
+        return Option.empty();
+    }
+
+    @Override
+    public void report(DiagnosticsPropertyCollector collector) {
+        collector.property("package").writeString(this.packageName());
+    }
+}
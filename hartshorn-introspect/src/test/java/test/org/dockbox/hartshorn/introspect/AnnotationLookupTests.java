@@ -17,6 +17,7 @@
 package test.org.dockbox.hartshorn.introspect;
 
 
+import org.dockbox.hartshorn.util.introspect.annotations.AnnotationCacheStatistics;
 import org.dockbox.hartshorn.util.introspect.annotations.AnnotationLookup;
 import org.dockbox.hartshorn.util.introspect.annotations.VirtualHierarchyAnnotationLookup;
 import org.junit.jupiter.api.Assertions;
@@ -137,4 +138,56 @@ public void jointAnnotationsAreStrictlyOrdered() {
         Assertions.assertEquals(Arrays.asList("abc", ""), routes.stream().map(Route::path).collect(Collectors.toList()));
         Assertions.assertEquals(Arrays.asList("", "jointRegex"), routes.stream().map(Route::regex).collect(Collectors.toList()));
     }
+
+    @Test
+    public void testRepeatedLookupsAreServedFromCache() {
+        VirtualHierarchyAnnotationLookup lookup = new VirtualHierarchyAnnotationLookup();
+        Route first = lookup.find(TestClassWithGet.class, Route.class);
+        Route second = lookup.find(TestClassWithGet.class, Route.class);
+        Assertions.assertSame(first, second);
+
+        AnnotationCacheStatistics statistics = lookup.statistics();
+        Assertions.assertEquals(1, statistics.misses());
+        Assertions.assertEquals(1, statistics.hits());
+        Assertions.assertEquals(1, statistics.size());
+    }
+
+    @Test
+    public void testCacheEvictsOldestLookupsWhenFull() {
+        VirtualHierarchyAnnotationLookup lookup = new VirtualHierarchyAnnotationLookup(1);
+        Route get = lookup.find(TestClassWithGet.class, Route.class);
+        lookup.find(TestClassWithPost.class, Route.class);
+
+        AnnotationCacheStatistics statistics = lookup.statistics();
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertEquals(1, statistics.evictions());
+
+        Assertions.assertNotSame(get, lookup.find(TestClassWithGet.class, Route.class));
+        Assertions.assertEquals(3, lookup.statistics().misses());
+    }
+
+    @Test
+    public void testAdaptersSharingResolvedAttributesRemainEqual() {
+        // Disable result caching, so each lookup creates a new adapter for the same annotation pair
+        VirtualHierarchyAnnotationLookup lookup = new VirtualHierarchyAnnotationLookup(0);
+        Route first = lookup.find(TestClassWithGet.class, Route.class);
+        Route second = lookup.find(TestClassWithGet.class, Route.class);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(lookup.unproxy(first), lookup.unproxy(second));
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertEquals(first.annotationType(), second.annotationType());
+        Assertions.assertEquals(first.toString(), second.toString());
+        Assertions.assertEquals(first.path(), second.path());
+        Assertions.assertEquals(HttpMethod.GET, second.method());
+    }
+
+    @Test
+    public void testConstantArrayAttributesAreCopiedOnEachRead() {
+        Route route = new VirtualHierarchyAnnotationLookup().find(TestClassWithGet.class, Route.class);
+        String[] consumes = route.consumes();
+        consumes[0] = "modified";
+
+        Assertions.assertArrayEquals(new String[] { "*/*" }, route.consumes());
+    }
 }
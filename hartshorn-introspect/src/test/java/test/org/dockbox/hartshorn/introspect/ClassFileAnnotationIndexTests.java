@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.org.dockbox.hartshorn.introspect;
+
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileAnnotationIndex;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import test.org.dockbox.hartshorn.introspect.annotations.Base;
+import test.org.dockbox.hartshorn.introspect.annotations.Mid;
+import test.org.dockbox.hartshorn.introspect.annotations.Route;
+import test.org.dockbox.hartshorn.introspect.annotations.Sub;
+import test.org.dockbox.hartshorn.introspect.components.TestClassWithSub;
+
+public class ClassFileAnnotationIndexTests {
+
+    private final ClassFileAnnotationIndex index = new ClassFileAnnotationIndex(ClassFileAnnotationIndexTests.class.getClassLoader());
+
+    @Test
+    void testMetadataContainsDirectAnnotations() {
+        ClassFileMetadata metadata = this.index.metadata(TestClassWithSub.class.getName())
+                .orElseGet(Assertions::fail);
+
+        Assertions.assertEquals(TestClassWithSub.class.getName(), metadata.className());
+        Assertions.assertEquals(Object.class.getName(), metadata.superClassName());
+        Assertions.assertTrue(metadata.hasDirectAnnotation(Sub.class.getName()));
+        Assertions.assertNull(metadata.extendedAnnotation());
+    }
+
+    @Test
+    void testMetadataContainsExtendedAnnotation() {
+        ClassFileMetadata metadata = this.index.metadata(Sub.class.getName())
+                .orElseGet(Assertions::fail);
+        Assertions.assertEquals(Mid.class.getName(), metadata.extendedAnnotation());
+    }
+
+    @Test
+    void testExtendedAnnotationsAreMatched() {
+        Assertions.assertTrue(this.index.mayBeAnnotatedWith(TestClassWithSub.class.getName(), Sub.class));
+        Assertions.assertTrue(this.index.mayBeAnnotatedWith(TestClassWithSub.class.getName(), Mid.class));
+        Assertions.assertTrue(this.index.mayBeAnnotatedWith(TestClassWithSub.class.getName(), Base.class));
+        Assertions.assertFalse(this.index.mayBeAnnotatedWith(TestClassWithSub.class.getName(), Route.class));
+    }
+
+    @Test
+    void testUnreadableClassMayCarryAnnotation() {
+        Assertions.assertTrue(this.index.mayBeAnnotatedWith("test.org.dockbox.hartshorn.introspect.DoesNotExist", Route.class));
+    }
+}
@@ -17,15 +17,27 @@
 package test.org.dockbox.hartshorn.introspect;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathScanner;
 import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathWalkingException;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile.ZipEntryNameFilter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import test.org.dockbox.hartshorn.introspect.types.ScanAnnotation;
 import test.org.dockbox.hartshorn.introspect.types.ScanClass;
 import test.org.dockbox.hartshorn.introspect.types.ScanClass.NonStaticInnerClass;
@@ -69,6 +81,88 @@ void testCanScanWithEncodedCharacters() throws IOException, ClassPathWalkingExce
         scanner.scan(resource -> Assertions.fail("Should not have found any resources"));
     }
 
+    @Test
+    void testParallelScanYieldsSequentialOrder() throws ClassPathWalkingException {
+        List<String> sequential = new ArrayList<>();
+        ClassPathScanner.create()
+                .includeDefaultClassPath()
+                .filterPrefix("test.org.dockbox.hartshorn.introspect")
+                .scan(resource -> sequential.add(resource.resourceName()));
+
+        List<String> parallel = new ArrayList<>();
+        ClassPathScanner.create()
+                .includeDefaultClassPath()
+                .filterPrefix("test.org.dockbox.hartshorn.introspect")
+                .parallel()
+                .scan(resource -> parallel.add(resource.resourceName()));
+
+        Assertions.assertFalse(sequential.isEmpty());
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void testJarScanOnlyYieldsMatchingClasses(@TempDir Path directory) throws IOException, ClassPathWalkingException {
+        Path jar = this.createJar(directory.resolve("scan.jar"));
+
+        List<String> classes = new ArrayList<>();
+        ClassPathScanner.create()
+                .addUrlForScanning(jar.toUri().toURL())
+                .filterPrefix("com.example.scan")
+                .scan(resource -> classes.add(resource.resourceName()));
+
+        // Prefixes are matched on the raw class name, so sibling packages sharing the prefix are included as well
+        Assertions.assertEquals(List.of("com.example.scan.First", "com.example.scan.nested.Second", "com.example.scanner.Third"), classes);
+    }
+
+    @Test
+    void testMappedZipFileReadsStoredAndDeflatedEntries(@TempDir Path directory) throws IOException {
+        Path jar = this.createJar(directory.resolve("entries.jar"));
+        MappedZipFile zipFile = MappedZipFile.open(jar);
+        Assertions.assertSame(zipFile, MappedZipFile.open(jar));
+
+        List<String> resources = new ArrayList<>();
+        zipFile.forEachEntryName(ZipEntryNameFilter.prefix("resources/"), resources::add);
+        Assertions.assertEquals(List.of("resources/stored.txt", "resources/deflated.txt"), resources);
+
+        try (InputStream stored = zipFile.openEntry("resources/stored.txt").orElseGet(Assertions::fail)) {
+            Assertions.assertEquals("stored content", new String(stored.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream deflated = zipFile.openEntry("resources/deflated.txt").orElseGet(Assertions::fail)) {
+            Assertions.assertEquals("deflated content ".repeat(64), new String(deflated.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertTrue(zipFile.openEntry("resources/missing.txt").absent());
+    }
+
+    private Path createJar(Path jar) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jar); JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            jarOutputStream.putNextEntry(new JarEntry("com/example/scan/"));
+            jarOutputStream.closeEntry();
+            this.writeEntry(jarOutputStream, "com/example/scan/First.class", "first", false);
+            this.writeEntry(jarOutputStream, "com/example/scan/nested/Second.class", "second", false);
+            this.writeEntry(jarOutputStream, "com/example/scan/package-info.class", "package", false);
+            this.writeEntry(jarOutputStream, "com/example/scanner/Third.class", "third", false);
+            this.writeEntry(jarOutputStream, "com/example/other/Fourth.class", "fourth", false);
+            this.writeEntry(jarOutputStream, "resources/stored.txt", "stored content", true);
+            this.writeEntry(jarOutputStream, "resources/deflated.txt", "deflated content ".repeat(64), false);
+        }
+        return jar;
+    }
+
+    private void writeEntry(JarOutputStream outputStream, String name, String content, boolean stored) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        JarEntry entry = new JarEntry(name);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+        outputStream.putNextEntry(entry);
+        outputStream.write(bytes);
+        outputStream.closeEntry();
+    }
+
     private String resourceNameFromCanonicalName(String canonicalName) {
         int lastIndex = canonicalName.lastIndexOf('.');
         return canonicalName.substring(0, lastIndex) + '$' + canonicalName.substring(lastIndex + 1);
@@ -19,6 +19,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.dockbox.hartshorn.util.introspect.convert.AmbiguousConverterException;
+import org.dockbox.hartshorn.util.introspect.convert.ConditionalConverter;
 import org.dockbox.hartshorn.util.introspect.convert.ConverterCache;
 import org.dockbox.hartshorn.util.introspect.convert.ConvertibleTypePair;
 import org.dockbox.hartshorn.util.introspect.convert.GenericConverter;
@@ -81,6 +82,45 @@ void testGenericConverterWithMultipleTypePairsAndMultipleConverters() {
         Assertions.assertDoesNotThrow(() -> converters.getConverter(new Object(), Long.class));
     }
 
+    @Test
+    void testUnresolvedConverterIsResolvedAfterAddingConverter() {
+        GenericConverters converters = new GenericConverters();
+        Assertions.assertNull(converters.getConverter("value", Integer.class));
+
+        GenericConverter converter = new SimpleGenericConverter(Set.of(ConvertibleTypePair.of(CharSequence.class, Integer.class)));
+        converters.addConverter(converter);
+        Assertions.assertSame(converter, converters.getConverter("value", Integer.class));
+    }
+
+    @Test
+    void testConditionalConverterIsEvaluatedForEachSource() {
+        GenericConverters converters = new GenericConverters();
+        GenericConverter converter = new NonEmptyStringConverter();
+        converters.addConverter(converter);
+
+        Assertions.assertSame(converter, converters.getConverter("value", Integer.class));
+        Assertions.assertNull(converters.getConverter("", Integer.class));
+        Assertions.assertSame(converter, converters.getConverter("value", Integer.class));
+    }
+
+    private static class NonEmptyStringConverter implements GenericConverter, ConditionalConverter {
+
+        @Override
+        public boolean canConvert(Object source, Class<?> targetType) {
+            return source instanceof String string && !string.isEmpty();
+        }
+
+        @Override
+        public Set<ConvertibleTypePair> convertibleTypes() {
+            return Set.of(ConvertibleTypePair.of(String.class, Integer.class));
+        }
+
+        @Override
+        public @Nullable <I, O> Object convert(@Nullable Object source, @NonNull Class<I> sourceType, @NonNull Class<O> targetType) {
+            return Integer.valueOf(String.valueOf(source).length());
+        }
+    }
+
     private record SimpleGenericConverter(Set<ConvertibleTypePair> convertibleTypes) implements GenericConverter {
         @Override
         public @Nullable <I, O> Object convert(@Nullable Object source, @NonNull Class<I> sourceType, @NonNull Class<O> targetType) {
@@ -16,6 +16,14 @@
 
 package test.org.dockbox.hartshorn.introspect;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,10 +34,18 @@
 import org.dockbox.hartshorn.util.introspect.scan.TypeCollectionException;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReference;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollector;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileMetadata;
 import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathScannerTypeReferenceCollector;
+import org.dockbox.hartshorn.util.introspect.scan.index.IndexedTypeReference;
+import org.dockbox.hartshorn.util.introspect.scan.index.TypeIndex;
+import org.dockbox.hartshorn.util.introspect.scan.index.TypeIndexGenerator;
+import org.dockbox.hartshorn.util.introspect.scan.index.TypeIndexTypeReferenceCollector;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import test.org.dockbox.hartshorn.introspect.annotations.Sub;
+import test.org.dockbox.hartshorn.introspect.components.TestClassWithSub;
 import test.org.dockbox.hartshorn.introspect.types.ScanAnnotation;
 import test.org.dockbox.hartshorn.introspect.types.ScanClass;
 import test.org.dockbox.hartshorn.introspect.types.ScanClass.NonStaticInnerClass;
@@ -103,4 +119,46 @@ void testAggregateTypeCollector() throws TypeCollectionException {
         Assertions.assertTrue(types.contains(ScanInterface.class));
     }
 
+    @Test
+    void testTypeIndexContainsClassesAndDirectAnnotations(@TempDir Path output) throws IOException, URISyntaxException, TypeCollectionException {
+        Path classpathRoot = Path.of(ScanClass.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path indexFile = TypeIndexGenerator.generate(classpathRoot, output);
+        Assertions.assertEquals(output.resolve(TypeIndex.RESOURCE_NAME), indexFile);
+
+        TypeIndex index;
+        try (InputStream inputStream = Files.newInputStream(indexFile)) {
+            index = TypeIndex.read(inputStream).orElseGet(Assertions::fail);
+        }
+        Assertions.assertTrue(index.contains(ScanClass.class.getName()));
+        Assertions.assertTrue(index.contains(StaticInnerClass.class.getName()));
+        Assertions.assertFalse(index.contains(ScanClass.class.getPackageName() + ".package-info"));
+        Assertions.assertTrue(index.annotations(TestClassWithSub.class.getName()).contains(Sub.class.getName()));
+        Assertions.assertEquals(Object.class.getName(), index.metadata(ScanClass.class.getName()).get().superClassName());
+    }
+
+    @Test
+    void testTypeIndexCollectorScansRootsWithoutIndex(@TempDir Path indexedRoot) throws IOException, URISyntaxException, TypeCollectionException {
+        String indexedType = "test.org.dockbox.hartshorn.introspect.typeindex.IndexedType";
+        Path indexFile = indexedRoot.resolve(TypeIndex.RESOURCE_NAME);
+        Files.createDirectories(indexFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            new TypeIndex(List.of(new ClassFileMetadata(indexedType, Object.class.getName(), Set.of(), null))).write(writer);
+        }
+
+        // Test classes are not indexed, so they are expected to be scanned instead
+        Path scannedRoot = Path.of(ScanClass.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        TypeReferenceCollector collector = new TypeIndexTypeReferenceCollector("test.org.dockbox.hartshorn.introspect.type", List.of(indexedRoot, scannedRoot));
+
+        Set<String> typeNames = collector.collect().stream()
+                .map(TypeReference::qualifiedName)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(8, typeNames.size());
+        Assertions.assertTrue(collector.collect().stream()
+                .filter(reference -> reference.qualifiedName().equals(indexedType))
+                .allMatch(IndexedTypeReference.class::isInstance));
+        Assertions.assertTrue(typeNames.contains(indexedType));
+        Assertions.assertTrue(typeNames.contains(ScanClass.class.getName()));
+        Assertions.assertTrue(typeNames.contains(ScanRecord.class.getName()));
+    }
 }
@@ -26,4 +26,6 @@
     String path() default "";
 
     String regex() default "";
+
+    String[] consumes() default "*/*";
 }
@@ -39,6 +39,7 @@
 import org.dockbox.hartshorn.launchpad.launch.StandardApplicationBuilder;
 import org.dockbox.hartshorn.launchpad.launch.StandardApplicationBuilder.Configurer;
 import org.dockbox.hartshorn.launchpad.launch.StandardApplicationContextFactory;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshot;
 import org.dockbox.hartshorn.properties.PropertyRegistry;
 import org.dockbox.hartshorn.util.ContextualInitializer;
 import org.dockbox.hartshorn.util.Customizer;
@@ -173,6 +174,29 @@ public HartshornApplicationConfigurer includeBasePackages(ContextualInitializer<
         return this;
     }
 
+    /**
+     * Configures whether a pre-computed {@link ApplicationSnapshot} may be used instead of scanning the classpath for
+     * components. Snapshots are only used if they exist and match the current classpath. By default, this is disabled.
+     *
+     * @param useSnapshot Whether a pre-computed application snapshot may be used
+     * @return The current configurator instance
+     */
+    public HartshornApplicationConfigurer useSnapshot(boolean useSnapshot) {
+        return this.useSnapshot(ContextualInitializer.of(useSnapshot));
+    }
+
+    /**
+     * Configures whether a pre-computed {@link ApplicationSnapshot} may be used instead of scanning the classpath for
+     * components. Snapshots are only used if they exist and match the current classpath. By default, this is disabled.
+     *
+     * @param useSnapshot Whether a pre-computed application snapshot may be used
+     * @return The current configurator instance
+     */
+    public HartshornApplicationConfigurer useSnapshot(ContextualInitializer<ApplicationBuildContext, Boolean> useSnapshot) {
+        this.applicationContextFactory = this.applicationContextFactory.compose(configuration -> configuration.useSnapshot(useSnapshot));
+        return this;
+    }
+
     /**
      * Enables or disables the banner. If the banner is enabled, it will be printed to the console when the
      * application starts. The banner is enabled by default.
@@ -238,6 +262,38 @@ public HartshornApplicationConfigurer disableBatchMode() {
         return this.enableBatchMode(ContextualInitializer.of(false));
     }
 
+    /**
+     * Configures whether the caches of the application's introspector are released once the application has
+     * started. Caches are retained by default.
+     *
+     * @param releaseIntrospectionCaches whether to release introspection caches after startup
+     * @return the current {@link HartshornApplicationConfigurer} instance
+     */
+    public HartshornApplicationConfigurer releaseIntrospectionCaches(ContextualInitializer<PropertyRegistry, Boolean> releaseIntrospectionCaches) {
+        this.environment = this.environment.compose(configuration -> configuration.releaseIntrospectionCaches(releaseIntrospectionCaches));
+        return this;
+    }
+
+    /**
+     * Releases the caches of the application's introspector once the application has started. Caches are retained
+     * by default.
+     *
+     * @return the current {@link HartshornApplicationConfigurer} instance
+     */
+    public HartshornApplicationConfigurer releaseIntrospectionCaches() {
+        return this.releaseIntrospectionCaches(ContextualInitializer.of(true));
+    }
+
+    /**
+     * Retains the caches of the application's introspector for the lifetime of the application. Caches are retained
+     * by default.
+     *
+     * @return the current {@link HartshornApplicationConfigurer} instance
+     */
+    public HartshornApplicationConfigurer retainIntrospectionCaches() {
+        return this.releaseIntrospectionCaches(ContextualInitializer.of(false));
+    }
+
     /**
      * Enables strict mode. Strict mode is typically used to indicate that a lookup should only return a value if
      * it is explicitly bound to the key, and not if it is bound to a sub-type of the key.
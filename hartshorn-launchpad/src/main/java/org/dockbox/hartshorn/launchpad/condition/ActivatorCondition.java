@@ -17,9 +17,11 @@
 package org.dockbox.hartshorn.launchpad.condition;
 
 import java.lang.annotation.Annotation;
+import java.util.Set;
 
 import org.dockbox.hartshorn.inject.condition.Condition;
 import org.dockbox.hartshorn.inject.condition.ConditionContext;
+import org.dockbox.hartshorn.inject.condition.ConditionDependency;
 import org.dockbox.hartshorn.inject.condition.ConditionResult;
 import org.dockbox.hartshorn.launchpad.ConfigurableActivationInjectionCapableApplication;
 import org.dockbox.hartshorn.launchpad.activation.ActivatorHolder;
@@ -50,4 +52,9 @@ public ConditionResult matches(ConditionContext context) {
             return ConditionResult.matched();
         }).orElse(ConditionResult.invalidCondition("activator"));
     }
+
+    @Override
+    public Set<ConditionDependency> dependencies() {
+        return Set.of(ConditionDependency.ACTIVATORS);
+    }
 }
@@ -22,6 +22,7 @@
 import org.dockbox.hartshorn.launchpad.ApplicationContext;
 import org.dockbox.hartshorn.launchpad.context.ApplicationContextCarrier;
 import org.dockbox.hartshorn.launchpad.resources.ResourceLookup;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
 
 /**
  * The environment of an active application. The environment can only be responsible for one {@link ApplicationContext},
@@ -93,4 +94,15 @@ public interface ApplicationEnvironment extends ApplicationContextCarrier, Excep
      */
     boolean isStrictMode();
 
+    /**
+     * Gets the policy which determines whether the caches of the environment's {@link #introspector() introspector}
+     * are released once the application has started. By default, this is the policy of the introspector's own
+     * {@link org.dockbox.hartshorn.util.introspect.IntrospectionEnvironment environment}.
+     *
+     * @return the introspection cache policy
+     */
+    default IntrospectionCachePolicy introspectionCachePolicy() {
+        return this.introspector().environment().cachePolicy();
+    }
+
 }
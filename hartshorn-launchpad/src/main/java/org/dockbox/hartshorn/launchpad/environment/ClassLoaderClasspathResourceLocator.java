@@ -17,23 +17,42 @@
 package org.dockbox.hartshorn.launchpad.environment;
 
 import org.dockbox.hartshorn.launchpad.ApplicationContext;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.MappedZipFile.ZipEntryNameFilter;
 import org.dockbox.hartshorn.util.option.Option;
 import org.dockbox.hartshorn.launchpad.resources.Resources;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 /**
- * The default implementation of {@link ClasspathResourceLocator}. This implementation will copy the resource to a temporary
- * location and return the path to the temporary location.
+ * The default implementation of {@link ClasspathResourceLocator}. Resources which are located in a directory on the
+ * classpath are returned as-is. Resources which are located inside a jar file are copied to a temporary location, and
+ * the path to the temporary location is returned. Jar files are read through a shared {@link MappedZipFile}, so the
+ * mapped central directory is reused between lookups and classpath scanning. Jar files which cannot be mapped, such as
+ * ZIP64 archives or archives with data preceding their first entry, are read through a {@link JarFile} instead.
+ * Each jar file is extracted to its own directory, so resources with the same name in different jar files are all
+ * available.
  *
  * @since 0.4.9
  *
@@ -41,7 +60,11 @@
  */
 public class ClassLoaderClasspathResourceLocator implements ClasspathResourceLocator {
 
+    private static final String JAR_PROTOCOL = "jar";
+    private static final String JAR_ENTRY_SEPARATOR = "!/";
+
     private final ApplicationEnvironment environment;
+    private Path extractionDirectory;
 
     public ClassLoaderClasspathResourceLocator(ApplicationEnvironment environment) {
         this.environment = environment;
@@ -49,7 +72,11 @@ public ClassLoaderClasspathResourceLocator(ApplicationEnvironment environment) {
 
     @Override
     public Option<Path> resource(String name) throws IOException {
-        File file = Resources.getResourceAsFile(name);
+        URL url = Resources.getResourceURL(name);
+        if (JAR_PROTOCOL.equals(url.getProtocol())) {
+            return this.extractJarResource(url);
+        }
+        File file = new File(url.getFile());
         if(file.exists()) {
             return Option.of(file.toPath());
         }
@@ -63,24 +90,242 @@ public Set<Path> resources(String name) {
         String path = lastIndex == -1 ? "" : normalizedPath.substring(0, lastIndex + 1);
         String fileName = lastIndex == -1 ? normalizedPath : normalizedPath.substring(lastIndex + 1);
 
-        Set<File> files = new HashSet<>();
-        Set<File> resources;
+        Set<Path> files = new HashSet<>();
+        Set<URL> resources;
 
         try {
-            resources = Resources.getResourcesAsFiles(path);
+            resources = Resources.getResourceURLs(path);
         }
         catch (NullPointerException | IOException e) {
             return new HashSet<>();
         }
 
-        for (File parent : resources) {
+        for (URL resource : resources) {
+            if (JAR_PROTOCOL.equals(resource.getProtocol())) {
+                files.addAll(this.extractJarResources(resource, fileName));
+                continue;
+            }
+            File parent = new File(resource.getFile());
             File[] filteredResources = parent.listFiles((dir, file) -> file.startsWith(fileName));
             if(filteredResources != null) {
-                files.addAll(Arrays.asList(filteredResources));
+                Arrays.stream(filteredResources).map(File::toPath).forEach(files::add);
+            }
+        }
+
+        return Set.copyOf(files);
+    }
+
+    /**
+     * Copies the jar entry identified by the given {@code jar:} URL to the extraction directory, and returns the path
+     * of the copy. If the URL does not point to an entry in a local jar file, or the entry does not exist, an empty
+     * {@link Option} is returned.
+     *
+     * @param url the URL of the jar entry
+     * @return the path of the extracted resource, if it exists
+     * @throws IOException if the jar file could not be read, or the resource could not be copied
+     */
+    private Option<Path> extractJarResource(URL url) throws IOException {
+        Option<JarResource> jarResource = JarResource.of(url);
+        if (jarResource.absent()) {
+            return Option.empty();
+        }
+        String entryName = jarResource.get().entryName();
+        Path targetDirectory = this.extractionDirectory(jarResource.get().jarFile());
+        Option<MappedZipFile> zipFile = mappedZipFile(jarResource.get().jarFile());
+        if (zipFile.present()) {
+            return this.extract(targetDirectory, entryName, zipFile.get().openEntry(entryName));
+        }
+        try (JarFile jarFile = new JarFile(jarResource.get().jarFile().toFile())) {
+            JarEntry entry = jarFile.getJarEntry(entryName);
+            if (entry == null || entry.isDirectory()) {
+                return Option.empty();
             }
+            return this.extract(targetDirectory, entryName, Option.of(jarFile.getInputStream(entry)));
         }
+    }
 
-        return files.stream().map(File::toPath).collect(Collectors.toUnmodifiableSet());
+    /**
+     * Copies all entries in the jar directory identified by the given {@code jar:} URL whose name starts with the given
+     * file name to the extraction directory. Only direct children of the directory are included, consistent with the
+     * lookup of resources in regular directories.
+     *
+     * @param directoryUrl the URL of the directory inside the jar file
+     * @param fileName the prefix of the file names to include
+     * @return the paths of all extracted resources
+     */
+    private List<Path> extractJarResources(URL directoryUrl, String fileName) {
+        Option<JarResource> jarResource = JarResource.of(directoryUrl);
+        if (jarResource.absent()) {
+            return List.of();
+        }
+        String directory = jarResource.get().entryName();
+        String prefix = directory + fileName;
+        List<Path> files = new ArrayList<>();
+        try {
+            Path targetDirectory = this.extractionDirectory(jarResource.get().jarFile());
+            Option<MappedZipFile> zipFile = mappedZipFile(jarResource.get().jarFile());
+            if (zipFile.present()) {
+                List<String> entryNames = new ArrayList<>();
+                zipFile.get().forEachEntryName(ZipEntryNameFilter.prefix(prefix), entryName -> {
+                    if (entryName.indexOf('/', directory.length()) == -1) {
+                        entryNames.add(entryName);
+                    }
+                });
+                for (String entryName : entryNames) {
+                    this.extract(targetDirectory, entryName, zipFile.get().openEntry(entryName)).peek(files::add);
+                }
+            }
+            else {
+                try (JarFile jarFile = new JarFile(jarResource.get().jarFile().toFile())) {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        String entryName = entry.getName();
+                        if (!entry.isDirectory() && entryName.startsWith(prefix) && entryName.indexOf('/', directory.length()) == -1) {
+                            this.extract(targetDirectory, entryName, Option.of(jarFile.getInputStream(entry))).peek(files::add);
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException e) {
+            this.environment.handle("Could not read resources from " + directoryUrl, e);
+        }
+        return files;
+    }
+
+    /**
+     * Returns the shared {@link MappedZipFile} of the given jar file, or an empty {@link Option} if the jar file cannot
+     * be mapped. In the latter case, callers are expected to read the jar file through a {@link JarFile} instead.
+     *
+     * @param jarFile the path of the jar file
+     * @return the mapped jar file, if it can be mapped
+     */
+    private static Option<MappedZipFile> mappedZipFile(Path jarFile) {
+        try {
+            return Option.of(MappedZipFile.open(jarFile));
+        }
+        catch (IOException e) {
+            return Option.empty();
+        }
+    }
+
+    /**
+     * Copies the given jar entry into the given target directory, unless it was extracted before. The entry is first
+     * copied to a temporary file, which is then moved into place. If the entry is extracted concurrently, the first
+     * copy that is moved into place is retained.
+     *
+     * @param targetDirectory the directory to extract the entry into, as obtained from {@link #extractionDirectory(Path)}
+     * @param entryName the name of the entry
+     * @param entry the contents of the entry, if it exists
+     * @return the path of the extracted resource, if the entry exists
+     * @throws IOException if the resource could not be copied
+     */
+    private Option<Path> extract(Path targetDirectory, String entryName, Option<InputStream> entry) throws IOException {
+        if (entry.absent()) {
+            return Option.empty();
+        }
+        try (InputStream inputStream = entry.get()) {
+            Path target = targetDirectory.resolve(entryName).normalize();
+            if (!target.startsWith(targetDirectory)) {
+                throw new IOException("Resource " + entryName + " resolves outside of the extraction directory");
+            }
+            if (!Files.exists(target)) {
+                this.createDirectories(target.getParent());
+                Path temporaryFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+                try {
+                    Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE);
+                    target.toFile().deleteOnExit();
+                }
+                catch (FileAlreadyExistsException e) {
+                    // Extracted by a concurrent lookup, which also registered it for deletion
+                }
+                finally {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            }
+            return Option.of(target);
+        }
+    }
+
+    /**
+     * Returns the directory to which entries of the given jar file are extracted. Each version of a jar file, as
+     * identified by its path, size and modification time, is extracted to its own directory. This ensures resources
+     * with the same name in different jar files do not replace each other, and resources of outdated jar files are
+     * never reused.
+     *
+     * @param jarFile the path of the jar file
+     * @return the extraction directory of the jar file
+     * @throws IOException if the attributes of the jar file could not be read
+     */
+    private Path extractionDirectory(Path jarFile) throws IOException {
+        Path normalizedPath = jarFile.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(normalizedPath, BasicFileAttributes.class);
+        String key = normalizedPath + File.pathSeparator + attributes.size() + File.pathSeparator + attributes.lastModifiedTime().toMillis();
+        return this.extractionDirectory().resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    /**
+     * Creates the given directory inside the extraction directory, including any missing parent directories. Created
+     * directories are registered for deletion on exit from the outermost directory inwards. As files registered later
+     * are deleted first, directories are only deleted after the files they contain.
+     *
+     * @param directory the directory to create
+     * @throws IOException if a directory could not be created
+     */
+    private void createDirectories(Path directory) throws IOException {
+        Path extractionDirectory = this.extractionDirectory();
+        Path current = extractionDirectory;
+        for (Path segment : extractionDirectory.relativize(directory)) {
+            current = current.resolve(segment);
+            if (!Files.isDirectory(current)) {
+                try {
+                    Files.createDirectory(current);
+                    current.toFile().deleteOnExit();
+                }
+                catch (FileAlreadyExistsException e) {
+                    // Created by a concurrent extraction, which also registered it for deletion
+                }
+            }
+        }
+    }
+
+    private synchronized Path extractionDirectory() throws IOException {
+        if (this.extractionDirectory == null) {
+            this.extractionDirectory = Files.createTempDirectory("hartshorn-resources");
+            this.extractionDirectory.toFile().deleteOnExit();
+        }
+        return this.extractionDirectory;
+    }
+
+    /**
+     * A resource inside a local jar file, as identified by a {@code jar:} URL.
+     *
+     * @param jarFile the path of the jar file
+     * @param entryName the name of the entry inside the jar file
+     */
+    private record JarResource(Path jarFile, String entryName) {
+
+        static Option<JarResource> of(URL url) {
+            String spec = url.getPath();
+            int separator = spec.indexOf(JAR_ENTRY_SEPARATOR);
+            if (separator == -1) {
+                return Option.empty();
+            }
+            String entryName = spec.substring(separator + JAR_ENTRY_SEPARATOR.length());
+            // Nested jar files cannot be mapped directly
+            if (entryName.contains(JAR_ENTRY_SEPARATOR)) {
+                return Option.empty();
+            }
+            try {
+                Path jarFile = Path.of(new URI(spec.substring(0, separator)));
+                return Option.of(new JarResource(jarFile, entryName));
+            }
+            catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                return Option.empty();
+            }
+        }
     }
 
     @Override
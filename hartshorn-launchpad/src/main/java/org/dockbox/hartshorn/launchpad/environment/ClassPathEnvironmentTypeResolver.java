@@ -38,6 +38,6 @@ public ClassPathEnvironmentTypeResolver(EnvironmentTypeCollector typeCollector)
 
     @Override
     public <A extends Annotation> Collection<TypeView<?>> types(Class<A> annotation) {
-        return this.typeCollector.types(type -> type.annotations().has(annotation));
+        return this.typeCollector.annotatedTypes(annotation);
     }
 }
@@ -59,6 +59,7 @@
 import org.dockbox.hartshorn.util.StreamableConfigurer;
 import org.dockbox.hartshorn.util.introspect.BatchCapableIntrospector;
 import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
 import org.dockbox.hartshorn.util.introspect.IntrospectorLoader;
 import org.dockbox.hartshorn.util.introspect.ProxyLookup;
 import org.dockbox.hartshorn.util.introspect.SupplierAdapterProxyLookup;
@@ -104,6 +105,7 @@ public final class ContextualApplicationEnvironment implements ObservableApplica
     private final boolean isBuildEnvironment;
     private final boolean isBatchMode;
     private final boolean isStrictMode;
+    private final IntrospectionCachePolicy introspectionCachePolicy;
 
     private ApplicationContext applicationContext;
     private Introspector introspector;
@@ -132,6 +134,9 @@ private ContextualApplicationEnvironment(SingleElementContext<? extends Applicat
         if (this.introspector() instanceof BatchCapableIntrospector batchCapableIntrospector) {
             batchCapableIntrospector.enableBatchMode(this.isBatchMode());
         }
+        this.introspectionCachePolicy = configurer.releaseIntrospectionCaches.initialize(argumentsInitializerContext)
+                ? IntrospectionCachePolicy.RELEASE_AFTER_STARTUP
+                : this.introspector().environment().cachePolicy();
 
         Boolean isBuildEnvironment = configurer.isBuildEnvironment.initialize(environmentInitializerContext);
         if (isBuildEnvironment == null) {
@@ -266,6 +271,11 @@ public boolean isStrictMode() {
         return this.isStrictMode;
     }
 
+    @Override
+    public IntrospectionCachePolicy introspectionCachePolicy() {
+        return this.introspectionCachePolicy;
+    }
+
     @Override
     public ApplicationContext applicationContext() {
         return this.applicationContext;
@@ -390,6 +400,9 @@ public static class Configurer {
         private ContextualInitializer<PropertyRegistry, Boolean> enableBatchMode = PropertyInitializer.booleanProperty("hartshorn.batch.enabled")
                 .orElseGet(() -> false);
 
+        private ContextualInitializer<PropertyRegistry, Boolean> releaseIntrospectionCaches = PropertyInitializer.booleanProperty("hartshorn.introspection.release-caches")
+                .orElseGet(() -> false);
+
         private ContextualInitializer<PropertyRegistry, Boolean> enableStrictMode = PropertyInitializer.booleanProperty("hartshorn.strict.enabled")
                 .orElseGet(() -> true);
 
@@ -416,7 +429,7 @@ public static class Configurer {
         private ContextualInitializer<ApplicationEnvironment, ? extends FileSystemProvider> applicationFSProvider = ContextualInitializer.of(PathFileSystemProvider::new);
         private ContextualInitializer<ApplicationEnvironment, ? extends ExceptionHandler> exceptionHandler = ContextualInitializer.of(LoggingExceptionHandler::new);
         private ContextualInitializer<ApplicationEnvironment, ? extends ClasspathResourceLocator> classpathResourceLocator = ContextualInitializer.of(ClassLoaderClasspathResourceLocator::new);
-        private ContextualInitializer<ApplicationEnvironment, ? extends AnnotationLookup> annotationLookup = ContextualInitializer.of(VirtualHierarchyAnnotationLookup::new);
+        private ContextualInitializer<ApplicationEnvironment, ? extends AnnotationLookup> annotationLookup = ContextualInitializer.of(() -> new VirtualHierarchyAnnotationLookup());
         private ContextualInitializer<ApplicationEnvironment, ? extends ApplicationContext> applicationContext = SimpleApplicationContext.create(Customizer.useDefaults());
         private ContextualInitializer<ApplicationEnvironment, Boolean> isBuildEnvironment = ContextualInitializer.of(environment -> BuildEnvironmentPredicate.isBuildEnvironment());
         private ContextualInitializer<ApplicationEnvironment, ComponentInjectionPointsResolver> injectionPointsResolver = ContextualInitializer.defer(() -> MethodsAndFieldsInjectionPointResolver.create(Customizer.useDefaults()));
@@ -519,6 +532,44 @@ public Configurer disableBatchMode() {
             return this.enableBatchMode(ContextualInitializer.of(false));
         }
 
+        /**
+         * Configures whether the caches of the environment's introspector are released once the application has
+         * started. Releasing the caches reduces the memory footprint of applications which introspect many types during
+         * startup, but only few afterward. If disabled, the cache policy of the introspector's own environment is used,
+         * which retains all caches by default.
+         *
+         * @param releaseIntrospectionCaches whether to release introspection caches after startup
+         * @return the current {@link Configurer} instance
+         *
+         * @see IntrospectionCachePolicy#RELEASE_AFTER_STARTUP
+         */
+        public Configurer releaseIntrospectionCaches(ContextualInitializer<PropertyRegistry, Boolean> releaseIntrospectionCaches) {
+            this.releaseIntrospectionCaches = releaseIntrospectionCaches;
+            return this;
+        }
+
+        /**
+         * Releases the caches of the environment's introspector once the application has started. Caches are retained
+         * by default.
+         *
+         * @return the current {@link Configurer} instance
+         *
+         * @see IntrospectionCachePolicy#RELEASE_AFTER_STARTUP
+         */
+        public Configurer releaseIntrospectionCaches() {
+            return this.releaseIntrospectionCaches(ContextualInitializer.of(true));
+        }
+
+        /**
+         * Retains the caches of the environment's introspector for the lifetime of the application, unless the
+         * introspector's own environment specifies otherwise. Caches are retained by default.
+         *
+         * @return the current {@link Configurer} instance
+         */
+        public Configurer retainIntrospectionCaches() {
+            return this.releaseIntrospectionCaches(ContextualInitializer.of(false));
+        }
+
         /**
          * Enables or disables the printing of stacktraces when exceptions occur. Stacktraces are enabled by default.
          *
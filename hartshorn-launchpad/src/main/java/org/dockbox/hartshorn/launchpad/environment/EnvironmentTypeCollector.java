@@ -16,6 +16,7 @@
 
 package org.dockbox.hartshorn.launchpad.environment;
 
+import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -24,11 +25,15 @@
 import java.util.stream.Collectors;
 
 import org.dockbox.hartshorn.launchpad.ApplicationContext;
+import org.dockbox.hartshorn.util.introspect.annotations.VirtualHierarchyAnnotationLookup;
+import org.dockbox.hartshorn.util.introspect.scan.ClassReference;
 import org.dockbox.hartshorn.util.introspect.scan.ClassReferenceLoadException;
 import org.dockbox.hartshorn.util.introspect.scan.TypeCollectionException;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReference;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollector;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollectorContext;
+import org.dockbox.hartshorn.util.introspect.scan.classfile.ClassFileAnnotationIndex;
+import org.dockbox.hartshorn.util.introspect.scan.index.IndexedTypeReference;
 import org.dockbox.hartshorn.util.introspect.view.TypeView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +47,12 @@
  * {@link org.dockbox.hartshorn.util.introspect.Introspector}. Note that while classes are loaded, it is not ensured they
  * are immediately initialized.
  *
+ * <p>When collecting {@link #annotatedTypes(Class) annotated types}, references are first checked against a {@link
+ * ClassFileAnnotationIndex}, so only classes which may carry the annotation are loaded. This is only done if the
+ * environment uses a {@link VirtualHierarchyAnnotationLookup}, as the index follows the same rules to resolve
+ * annotations. References which were obtained from a {@link org.dockbox.hartshorn.util.introspect.scan.index.TypeIndex}
+ * are checked using their indexed metadata, so their class files are not read either.
+ *
  * @see TypeReferenceCollector
  * @see TypeReferenceCollectorContext
  *
@@ -72,9 +83,43 @@ public EnvironmentTypeCollector(ApplicationEnvironment environment, TypeReferenc
      * @return a collection of types that match the given predicate
      */
     public <T> Collection<TypeView<? extends T>> types(Predicate<TypeView<?>> predicate) {
+        return this.types(reference -> true, predicate);
+    }
+
+    /**
+     * Collects all types that carry the given annotation. Where possible, type references are checked for the
+     * annotation before the referenced classes are loaded, so classes which do not carry the annotation are never
+     * loaded.
+     *
+     * @param annotation the annotation to look for
+     * @return a collection of types that carry the given annotation
+     */
+    public Collection<TypeView<?>> annotatedTypes(Class<? extends Annotation> annotation) {
+        Predicate<TypeReference> referenceFilter = reference -> true;
+        if (this.environment.introspector().annotations() instanceof VirtualHierarchyAnnotationLookup) {
+            // Created for each lookup, so class file metadata is not retained once discovery completes
+            ClassFileAnnotationIndex index = new ClassFileAnnotationIndex(Thread.currentThread().getContextClassLoader());
+            referenceFilter = reference -> {
+                // Classes which are already loaded can be inspected directly
+                if (reference instanceof ClassReference) {
+                    return true;
+                }
+                // Indexed metadata is used as-is, so the class file does not need to be read
+                if (reference instanceof IndexedTypeReference indexedReference) {
+                    index.register(indexedReference.metadata());
+                }
+                return index.mayBeAnnotatedWith(reference.qualifiedName(), annotation);
+            };
+        }
+        return this.types(referenceFilter, type -> type.annotations().has(annotation));
+    }
+
+    private <T> Collection<TypeView<? extends T>> types(Predicate<TypeReference> referenceFilter, Predicate<TypeView<?>> predicate) {
         try {
             Set<TypeReference> references = this.collectorContext.collector().collect();
-            Collection<Class<?>> classes = this.loadClasses(references);
+            Collection<Class<?>> classes = this.loadClasses(references.stream()
+                    .filter(referenceFilter)
+                    .toList());
             return classes.stream()
                     .map(this.environment.introspector()::introspect)
                     .filter(predicate)
@@ -16,6 +16,8 @@
 
 package org.dockbox.hartshorn.launchpad.launch;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.util.HashSet;
 import java.util.List;
@@ -40,6 +42,9 @@
 import org.dockbox.hartshorn.launchpad.configuration.ScopeFilteredDelegateBinderPostProcessor;
 import org.dockbox.hartshorn.launchpad.environment.ApplicationEnvironment;
 import org.dockbox.hartshorn.launchpad.environment.ContextualApplicationEnvironment;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshot;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshotException;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ClasspathFingerprint;
 import org.dockbox.hartshorn.launchpad.lifecycle.LifecycleObserver;
 import org.dockbox.hartshorn.launchpad.lifecycle.ObservableApplicationEnvironment;
 import org.dockbox.hartshorn.launchpad.annotations.UseProxying;
@@ -55,9 +60,14 @@
 import org.dockbox.hartshorn.util.SingleElementContext;
 import org.dockbox.hartshorn.util.StreamableConfigurer;
 import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.option.Option;
+import org.dockbox.hartshorn.util.introspect.CacheReleasingIntrospector;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
+import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.introspect.scan.ClassNameReference;
 import org.dockbox.hartshorn.util.introspect.scan.PredefinedSetTypeReferenceCollector;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollectorContext;
-import org.dockbox.hartshorn.util.introspect.scan.classpath.ClassPathScannerTypeReferenceCollector;
+import org.dockbox.hartshorn.util.introspect.scan.index.TypeIndexTypeReferenceCollector;
 
 /**
  * The standard implementation of an {@link ApplicationContextFactory}. This factory is responsible for creating an
@@ -213,9 +223,22 @@ private void enhanceTypeReferenceCollectorContext(
         Set<Annotation> activators
     ) {
         Set<String> prefixes = this.collectPrefixesForRegistering(bootstrapContext, activators);
-        prefixes.stream()
-                .map(ClassPathScannerTypeReferenceCollector::new)
-                .forEach(collectorContext::register);
+        Option<ApplicationSnapshot> snapshot = this.configurer.useSnapshot.initialize(this.initializerContext)
+                ? this.loadSnapshot(bootstrapContext, prefixes)
+                : Option.empty();
+
+        if (snapshot.present()) {
+            this.buildContext.logger().debug("Using application snapshot with {} types, skipping classpath scanning", snapshot.get().types().size());
+            List<ClassNameReference> references = snapshot.get().types().stream()
+                    .map(ClassNameReference::new)
+                    .toList();
+            collectorContext.register(PredefinedSetTypeReferenceCollector.ofReferences(references));
+        }
+        else {
+            prefixes.stream()
+                    .map(TypeIndexTypeReferenceCollector::new)
+                    .forEach(collectorContext::register);
+        }
 
         Set<Class<?>> standaloneComponents = Set.copyOf(this.configurer.standaloneComponents.initialize(this.initializerContext.transform(bootstrapContext)));
         if (!standaloneComponents.isEmpty()) {
@@ -223,6 +246,40 @@ private void enhanceTypeReferenceCollectorContext(
         }
     }
 
+    /**
+     * Attempts to load the {@link ApplicationSnapshot} of the application's main class. A snapshot is only returned if it
+     * exists, was created for the same package prefixes, and was created for the current classpath. In all other cases the
+     * application falls back to regular classpath scanning.
+     *
+     * @param bootstrapContext The bootstrap context that is used to create the application context
+     * @param prefixes The prefixes that would otherwise be scanned
+     *
+     * @return The snapshot, if it is present and valid
+     */
+    private Option<ApplicationSnapshot> loadSnapshot(ApplicationBootstrapContext bootstrapContext, Set<String> prefixes) {
+        Class<?> mainClass = bootstrapContext.mainClass();
+        String resourceName = ApplicationSnapshot.resourceName(mainClass);
+        try (InputStream inputStream = mainClass.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return Option.empty();
+            }
+            Option<ApplicationSnapshot> snapshot = ApplicationSnapshot.read(inputStream);
+            if (snapshot.absent() || !snapshot.get().prefixes().equals(Set.copyOf(prefixes))) {
+                this.buildContext.logger().debug("Application snapshot {} is not compatible with the current configuration, falling back to classpath scanning", resourceName);
+                return Option.empty();
+            }
+            if (!snapshot.get().fingerprint().equals(ClasspathFingerprint.of(mainClass.getClassLoader(), prefixes))) {
+                this.buildContext.logger().debug("Application snapshot {} is outdated, falling back to classpath scanning", resourceName);
+                return Option.empty();
+            }
+            return snapshot;
+        }
+        catch (IOException | ApplicationSnapshotException e) {
+            this.buildContext.logger().warn("Could not load application snapshot " + resourceName + ", falling back to classpath scanning", e);
+            return Option.empty();
+        }
+    }
+
     /**
      * Collects the prefixes that should be used to register components in the application context. This collects prefixes
      * from the main class, and from any service activators that are present in the configuration.
@@ -271,6 +328,24 @@ protected Set<String> collectPrefixesForRegistering(
     private void finalizeContext(ApplicationContext applicationContext) {
         this.buildContext.logger().debug("Finalizing application context before releasing to application");
         this.notifyObservers(applicationContext);
+        this.releaseIntrospectionCaches(applicationContext);
+    }
+
+    /**
+     * Releases the caches of the application's {@link Introspector}, if the {@link
+     * ApplicationEnvironment#introspectionCachePolicy() cache policy} of the application environment is {@link
+     * IntrospectionCachePolicy#RELEASE_AFTER_STARTUP}. This is done after observers have been notified, as observers
+     * typically still introspect components.
+     *
+     * @param applicationContext The application context that has been created
+     */
+    protected void releaseIntrospectionCaches(ApplicationContext applicationContext) {
+        Introspector introspector = applicationContext.environment().introspector();
+        if (applicationContext.environment().introspectionCachePolicy() == IntrospectionCachePolicy.RELEASE_AFTER_STARTUP
+                && introspector instanceof CacheReleasingIntrospector cacheReleasingIntrospector) {
+            this.buildContext.logger().debug("Releasing introspection caches after application startup");
+            cacheReleasingIntrospector.releaseCaches();
+        }
     }
 
     /**
@@ -330,6 +405,7 @@ public static class Configurer {
 
         private ContextualInitializer<ApplicationBootstrapContext, ? extends ApplicationEnvironment> environment = ContextualApplicationEnvironment.create(Customizer.useDefaults());
         private ContextualInitializer<ApplicationBuildContext, Boolean> includeBasePackages = ContextualInitializer.of(true);
+        private ContextualInitializer<ApplicationBuildContext, Boolean> useSnapshot = ContextualInitializer.of(false);
 
         /**
          * Configures the service activators that are used to collect component processors. By default, this includes the
@@ -451,5 +527,28 @@ public Configurer includeBasePackages(ContextualInitializer<ApplicationBuildCont
             this.includeBasePackages = includeBasePackages;
             return this;
         }
+
+        /**
+         * Configures whether a pre-computed {@link ApplicationSnapshot} may be used instead of scanning the classpath for
+         * components. Snapshots are only used if they exist and match the current classpath. By default, this is disabled.
+         *
+         * @param useSnapshot Whether a pre-computed application snapshot may be used
+         * @return The current configurator instance
+         */
+        public Configurer useSnapshot(boolean useSnapshot) {
+            return this.useSnapshot(ContextualInitializer.of(useSnapshot));
+        }
+
+        /**
+         * Configures whether a pre-computed {@link ApplicationSnapshot} may be used instead of scanning the classpath for
+         * components. Snapshots are only used if they exist and match the current classpath. By default, this is disabled.
+         *
+         * @param useSnapshot Whether a pre-computed application snapshot may be used
+         * @return The current configurator instance
+         */
+        public Configurer useSnapshot(ContextualInitializer<ApplicationBuildContext, Boolean> useSnapshot) {
+            this.useSnapshot = useSnapshot;
+            return this;
+        }
     }
 }
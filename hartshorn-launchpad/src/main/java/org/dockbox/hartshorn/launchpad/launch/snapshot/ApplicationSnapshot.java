@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.launchpad.launch.snapshot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A pre-computed record of the types that were found in the scanned packages of an application. Snapshots are created
+ * ahead of time by the {@link ApplicationSnapshotGenerator}, and allow the application to skip classpath scanning when
+ * it is started. The recorded types are provided to the application exactly as if they were found by scanning, so
+ * component discovery and type resolution behave the same regardless of whether a snapshot is used.
+ *
+ * <p>Only the result of classpath scanning is recorded. Bindings, the dependency graph and its validation are built
+ * from live type views, lambdas and runtime conditions, which cannot be serialized faithfully, so these are still
+ * computed when the application starts.
+ *
+ * <p>A snapshot is only valid for the exact classpath it was created for. To verify this, each snapshot contains a
+ * {@link ClasspathFingerprint fingerprint} of the scanned packages, which should be compared to the fingerprint of the
+ * current classpath before the snapshot is used.
+ *
+ * <p>Snapshots are stored as a plain text resource, located at {@link #resourceName(Class)}. The resource contains one
+ * entry per line, in the form {@code key=value}. Lines starting with {@code #} are ignored.
+ *
+ * @see ApplicationSnapshotGenerator
+ * @see ClasspathFingerprint
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ApplicationSnapshot {
+
+    /**
+     * The directory containing all application snapshots, relative to the root of the classpath.
+     */
+    public static final String SNAPSHOT_DIRECTORY = "META-INF/hartshorn/snapshot/";
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String VERSION_KEY = "version";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String PREFIX_KEY = "prefix";
+    private static final String TYPE_KEY = "type";
+
+    private final String fingerprint;
+    private final SortedSet<String> prefixes;
+    private final SortedSet<String> types;
+
+    public ApplicationSnapshot(String fingerprint, SortedSet<String> prefixes, SortedSet<String> types) {
+        this.fingerprint = fingerprint;
+        this.prefixes = new TreeSet<>(prefixes);
+        this.types = new TreeSet<>(types);
+    }
+
+    /**
+     * Returns the fingerprint of the classpath for which this snapshot was created.
+     *
+     * @return the fingerprint of the classpath
+     */
+    public String fingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the package prefixes that were scanned when this snapshot was created.
+     *
+     * @return the scanned package prefixes
+     */
+    public SortedSet<String> prefixes() {
+        return this.prefixes;
+    }
+
+    /**
+     * Returns the fully qualified names of all types that were found in the scanned packages when this snapshot was
+     * created.
+     *
+     * @return the names of all scanned types
+     */
+    public SortedSet<String> types() {
+        return this.types;
+    }
+
+    /**
+     * Returns the name of the resource which contains the snapshot for the given main class.
+     *
+     * @param mainClass the main class of the application
+     * @return the name of the snapshot resource
+     */
+    public static String resourceName(Class<?> mainClass) {
+        return SNAPSHOT_DIRECTORY + mainClass.getName();
+    }
+
+    /**
+     * Writes this snapshot to the given writer. Entries are written in a stable order, so snapshots of the same
+     * application are identical between builds if the scanned classpath did not change.
+     *
+     * @param writer the writer to write to
+     * @throws IOException if the snapshot could not be written
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Hartshorn application snapshot, do not edit\n");
+        writeEntry(writer, VERSION_KEY, String.valueOf(FORMAT_VERSION));
+        writeEntry(writer, FINGERPRINT_KEY, this.fingerprint);
+        for (String prefix : this.prefixes) {
+            writeEntry(writer, PREFIX_KEY, prefix);
+        }
+        for (String type : this.types) {
+            writeEntry(writer, TYPE_KEY, type);
+        }
+        writer.flush();
+    }
+
+    private static void writeEntry(Writer writer, String key, String value) throws IOException {
+        writer.write(key);
+        writer.write('=');
+        writer.write(value);
+        writer.write('\n');
+    }
+
+    /**
+     * Reads a snapshot from the given input stream. If the snapshot was written in an unsupported format, or is
+     * missing required entries, an empty {@link Option} is returned.
+     *
+     * @param inputStream the input stream to read from
+     * @return the snapshot, or an empty {@link Option} if the snapshot is not supported
+     * @throws ApplicationSnapshotException if the snapshot could not be read
+     */
+    public static Option<ApplicationSnapshot> read(InputStream inputStream) throws ApplicationSnapshotException {
+        String version = null;
+        String fingerprint = null;
+        List<String> prefixes = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                if (separator < 0) {
+                    throw new ApplicationSnapshotException("Malformed snapshot entry: " + line);
+                }
+                String key = line.substring(0, separator);
+                String value = line.substring(separator + 1);
+                switch (key) {
+                    case VERSION_KEY -> version = value;
+                    case FINGERPRINT_KEY -> fingerprint = value;
+                    case PREFIX_KEY -> prefixes.add(value);
+                    case TYPE_KEY -> types.add(value);
+                    default -> throw new ApplicationSnapshotException("Unknown snapshot entry: " + key);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new ApplicationSnapshotException("Could not read application snapshot", e);
+        }
+
+        if (!String.valueOf(FORMAT_VERSION).equals(version) || fingerprint == null) {
+            return Option.empty();
+        }
+        return Option.of(new ApplicationSnapshot(fingerprint, new TreeSet<>(prefixes), new TreeSet<>(types)));
+    }
+}
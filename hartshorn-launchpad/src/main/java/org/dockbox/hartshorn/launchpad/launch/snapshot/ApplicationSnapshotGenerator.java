@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.launchpad.launch.snapshot;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.dockbox.hartshorn.launchpad.ApplicationContext;
+import org.dockbox.hartshorn.launchpad.HartshornApplication;
+import org.dockbox.hartshorn.util.ApplicationException;
+import org.dockbox.hartshorn.util.introspect.scan.TypeCollectionException;
+import org.dockbox.hartshorn.util.introspect.scan.TypeReference;
+import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollector;
+import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollectorContext;
+import org.dockbox.hartshorn.util.introspect.scan.classpath.ClasspathTypeReferenceCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Build-time tool that creates an {@link ApplicationSnapshot} for an application. The generator starts the application
+ * once with snapshots disabled, records the scanned package prefixes and the types found in them, and writes the
+ * result to {@code <output directory>/}{@link ApplicationSnapshot#resourceName(Class)}. When the output directory is
+ * part of the packaged application (e.g. {@code target/classes}), subsequent starts of the application can skip
+ * classpath scanning entirely.
+ *
+ * <p>The generator is a plain Java program, so it can be invoked from any build tool. It accepts the fully qualified
+ * name of the main class, the output directory, and optionally any arguments that should be passed to the application:
+ * <pre>{@code
+ * java -cp <application classpath> org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshotGenerator \
+ *     com.example.Application target/classes [arguments...]
+ * }</pre>
+ *
+ * <p>The generator has to run with the same classpath as the application itself, as the snapshot is only considered
+ * valid if the {@link ClasspathFingerprint fingerprint} of the classpath matches at runtime. Note that the application
+ * is fully started to determine its scanned packages, so any startup side effects of the application also occur when
+ * the generator runs.
+ *
+ * @see ApplicationSnapshot
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ApplicationSnapshotGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationSnapshotGenerator.class);
+
+    private ApplicationSnapshotGenerator() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws ApplicationException, ClassNotFoundException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ApplicationSnapshotGenerator <main class> <output directory> [arguments...]");
+        }
+        Class<?> mainClass = Class.forName(args[0]);
+        Path outputDirectory = Path.of(args[1]);
+        String[] arguments = Arrays.copyOfRange(args, 2, args.length);
+        Path snapshot = generate(mainClass, outputDirectory, arguments);
+        LOG.info("Wrote application snapshot to {}", snapshot.toAbsolutePath());
+    }
+
+    /**
+     * Starts the given application with snapshots disabled, and writes the resulting {@link ApplicationSnapshot} to
+     * the given output directory. The application is closed after the snapshot has been written.
+     *
+     * @param mainClass the main class of the application
+     * @param outputDirectory the root directory to write the snapshot resource to
+     * @param arguments the arguments to pass to the application
+     * @return the path of the written snapshot
+     * @throws ApplicationException if the snapshot could not be created or written
+     */
+    public static Path generate(Class<?> mainClass, Path outputDirectory, String... arguments) throws ApplicationException {
+        ApplicationContext applicationContext = HartshornApplication.createApplication(mainClass, arguments)
+                .initialize(configurer -> configurer.useSnapshot(false));
+        try {
+            ApplicationSnapshot snapshot = createSnapshot(mainClass, applicationContext);
+            Path target = outputDirectory.resolve(ApplicationSnapshot.resourceName(mainClass));
+            Files.createDirectories(target.getParent());
+            try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                snapshot.write(writer);
+            }
+            return target;
+        }
+        catch (IOException e) {
+            throw new ApplicationSnapshotException("Could not write application snapshot", e);
+        }
+        finally {
+            applicationContext.close();
+        }
+    }
+
+    /**
+     * Creates an {@link ApplicationSnapshot} of the given application context. The snapshot contains all package
+     * prefixes that were scanned to create the context, and all types that were found in these packages.
+     *
+     * @param mainClass the main class of the application, used to resolve the classpath to fingerprint
+     * @param applicationContext the application context to snapshot
+     * @return the snapshot of the application context
+     * @throws ApplicationSnapshotException if the scanned types could not be collected, or if the classpath could not
+     *         be fingerprinted
+     */
+    public static ApplicationSnapshot createSnapshot(Class<?> mainClass, ApplicationContext applicationContext) throws ApplicationSnapshotException {
+        SortedSet<String> prefixes = new TreeSet<>();
+        SortedSet<String> types = new TreeSet<>();
+        TypeReferenceCollectorContext collectorContext = applicationContext.firstContext(TypeReferenceCollectorContext.class)
+                .orElseThrow(() -> new ApplicationSnapshotException("Application context does not contain a type reference collector context"));
+        try {
+            for (TypeReferenceCollector collector : collectorContext.collectors()) {
+                if (collector instanceof ClasspathTypeReferenceCollector classpathCollector) {
+                    prefixes.add(classpathCollector.packageName());
+                    for (TypeReference reference : collector.collect()) {
+                        types.add(reference.qualifiedName());
+                    }
+                }
+            }
+        }
+        catch (TypeCollectionException e) {
+            throw new ApplicationSnapshotException("Could not collect scanned types", e);
+        }
+        return new ApplicationSnapshot(ClasspathFingerprint.of(mainClass.getClassLoader(), prefixes), prefixes, types);
+    }
+}
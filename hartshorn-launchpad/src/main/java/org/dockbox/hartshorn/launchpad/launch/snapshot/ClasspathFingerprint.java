@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.launchpad.launch.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedSet;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Computes a fingerprint of the parts of the classpath that are relevant to an {@link ApplicationSnapshot}. The
+ * fingerprint is a SHA-256 digest of the scanned package prefixes, and of all classpath roots which contain any of
+ * the scanned packages. For jar files, the name, size and modification time of the archive itself are considered.
+ * For directories, the names of all files in the scanned packages are considered, so unrelated resources do not
+ * invalidate the snapshot.
+ *
+ * <p>As snapshots only record which types exist, the fingerprint of a directory does not depend on the contents or
+ * modification times of individual files, so recompiling existing classes does not invalidate a snapshot. Directory
+ * roots, which are typically only used during development, are listed each time the fingerprint is computed. Jar
+ * files are not opened at all, so packaged applications only require a single file lookup per archive.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ClasspathFingerprint {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private ClasspathFingerprint() {
+        // Utility class
+    }
+
+    /**
+     * Computes the fingerprint of the classpath roots of the given class loader, for the given package prefixes. Only
+     * roots which contain any of the given packages, as reported by {@link ClassLoader#getResources(String)}, are
+     * considered. Roots which are neither a directory nor a jar file on the local file system cannot be fingerprinted,
+     * and cause an {@link ApplicationSnapshotException}.
+     *
+     * @param classLoader the class loader which loads the application's types
+     * @param prefixes the package prefixes that are scanned
+     * @return the fingerprint of the classpath
+     * @throws ApplicationSnapshotException if the classpath could not be fingerprinted
+     */
+    public static String of(ClassLoader classLoader, Collection<String> prefixes) throws ApplicationSnapshotException {
+        SequencedSet<Path> roots = new LinkedHashSet<>();
+        try {
+            for (String prefix : new TreeSet<>(prefixes)) {
+                String packagePath = prefix.replace('.', '/');
+                Enumeration<URL> resources = classLoader.getResources(packagePath);
+                while (resources.hasMoreElements()) {
+                    roots.add(root(resources.nextElement(), packagePath));
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new ApplicationSnapshotException("Could not resolve classpath roots", e);
+        }
+        return of(prefixes, List.copyOf(roots));
+    }
+
+    /**
+     * Computes the fingerprint of the given classpath entries, for the given package prefixes.
+     *
+     * @param prefixes the package prefixes that are scanned
+     * @param classpath the classpath entries, in classpath order
+     * @return the fingerprint of the classpath
+     * @throws ApplicationSnapshotException if the classpath could not be fingerprinted
+     */
+    public static String of(Collection<String> prefixes, List<Path> classpath) throws ApplicationSnapshotException {
+        MessageDigest digest = createDigest();
+        SortedSet<String> sortedPrefixes = new TreeSet<>(prefixes);
+        for (String prefix : sortedPrefixes) {
+            update(digest, "prefix", prefix);
+        }
+        try {
+            for (Path entry : classpath) {
+                update(digest, "entry", entry.toAbsolutePath().toString());
+                if (Files.isDirectory(entry)) {
+                    for (String prefix : sortedPrefixes) {
+                        updateDirectory(digest, entry, entry.resolve(prefix.replace('.', '/')));
+                    }
+                }
+                else if (Files.isRegularFile(entry)) {
+                    BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                    update(digest, "file", entry.getFileName().toString() + ':' + attributes.size() + ':' + attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new ApplicationSnapshotException("Could not compute classpath fingerprint", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Path root(URL resource, String packagePath) throws ApplicationSnapshotException {
+        try {
+            return switch (resource.getProtocol()) {
+                case "file" -> {
+                    Path root = Path.of(resource.toURI());
+                    for (int i = 0; i < packagePath.split("/").length; i++) {
+                        root = root.getParent();
+                    }
+                    yield root;
+                }
+                case "jar" -> {
+                    String path = resource.getPath();
+                    int separator = path.indexOf("!/");
+                    URI archive = new URI(separator < 0 ? path : path.substring(0, separator));
+                    if (!"file".equals(archive.getScheme())) {
+                        throw new ApplicationSnapshotException("Cannot fingerprint classpath root " + resource);
+                    }
+                    yield Path.of(archive);
+                }
+                default -> throw new ApplicationSnapshotException("Cannot fingerprint classpath root " + resource);
+            };
+        }
+        catch (URISyntaxException | IllegalArgumentException e) {
+            throw new ApplicationSnapshotException("Cannot fingerprint classpath root " + resource, e);
+        }
+    }
+
+    private static void updateDirectory(MessageDigest digest, Path root, Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<String> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(directory)) {
+            stream.forEach(file -> files.add(root.relativize(file).toString().replace(File.separatorChar, '/')));
+        }
+        files.sort(null);
+        for (String file : files) {
+            update(digest, "file", file);
+        }
+    }
+
+    private static void update(MessageDigest digest, String kind, String value) {
+        digest.update(kind.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest createDigest() throws ApplicationSnapshotException {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new ApplicationSnapshotException("Digest algorithm " + DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -46,6 +46,7 @@
 import org.dockbox.hartshorn.util.Customizer;
 import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.collections.MultiMap;
+import org.dockbox.hartshorn.util.introspect.IntrospectionCachePolicy;
 import org.dockbox.hartshorn.util.introspect.scan.TypeReferenceCollectorContext;
 import org.dockbox.hartshorn.util.introspect.scan.classpath.ClasspathTypeReferenceCollector;
 import org.dockbox.hartshorn.util.option.Option;
@@ -213,6 +214,20 @@ void testBatchModeDisabledCustomizer() {
         assertFalse(applicationContext.environment().isBatchMode());
     }
 
+    @Test
+    @DisplayName("Customizer should be able to release introspection caches after startup")
+    void testReleaseIntrospectionCachesCustomizer() {
+        ApplicationContext applicationContext = createApplication(HartshornApplicationConfigurer::releaseIntrospectionCaches);
+        assertEquals(IntrospectionCachePolicy.RELEASE_AFTER_STARTUP, applicationContext.environment().introspectionCachePolicy());
+    }
+
+    @Test
+    @DisplayName("Introspection caches should be retained by default")
+    void testIntrospectionCachesAreRetainedByDefault() {
+        ApplicationContext applicationContext = createApplication(configuration -> {});
+        assertEquals(IntrospectionCachePolicy.RETAIN, applicationContext.environment().introspectionCachePolicy());
+    }
+
     @Test
     @DisplayName("Customizer should be able to enable strict mode")
     void testStrictModeCustomizer() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.org.dockbox.hartshorn.launchpad.launch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshot;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ApplicationSnapshotException;
+import org.dockbox.hartshorn.launchpad.launch.snapshot.ClasspathFingerprint;
+import org.dockbox.hartshorn.util.option.Option;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ApplicationSnapshotTests {
+
+    @Test
+    void testSnapshotCanBeWrittenAndRead() throws IOException, ApplicationSnapshotException {
+        ApplicationSnapshot snapshot = new ApplicationSnapshot(
+                "abc123",
+                new TreeSet<>(Set.of("org.dockbox.hartshorn", "com.example")),
+                new TreeSet<>(Set.of("com.example.SampleService", "com.example.OtherService"))
+        );
+
+        StringWriter writer = new StringWriter();
+        snapshot.write(writer);
+
+        Option<ApplicationSnapshot> read = ApplicationSnapshot.read(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(read.present());
+        Assertions.assertEquals(snapshot.fingerprint(), read.get().fingerprint());
+        Assertions.assertEquals(snapshot.prefixes(), read.get().prefixes());
+        Assertions.assertEquals(snapshot.types(), read.get().types());
+    }
+
+    @Test
+    void testSnapshotWithUnsupportedVersionIsIgnored() throws ApplicationSnapshotException {
+        String content = "version=0\nfingerprint=abc123\ntype=com.example.SampleService\n";
+        Option<ApplicationSnapshot> read = ApplicationSnapshot.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(read.absent());
+    }
+
+    @Test
+    void testMalformedSnapshotIsRejected() {
+        String content = "version=1\nnot a valid entry\n";
+        Assertions.assertThrows(ApplicationSnapshotException.class, () -> ApplicationSnapshot.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testFingerprintChangesWhenScannedTypesChange(@TempDir Path classpath) throws IOException, ApplicationSnapshotException {
+        Path packageDirectory = Files.createDirectories(classpath.resolve("com/example"));
+        Path component = Files.writeString(packageDirectory.resolve("SampleService.class"), "initial");
+        Files.setLastModifiedTime(component, FileTime.fromMillis(1000));
+
+        String initial = ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath));
+        Assertions.assertEquals(initial, ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath)));
+
+        Files.writeString(component, "modified");
+        Files.setLastModifiedTime(component, FileTime.fromMillis(2000));
+        Assertions.assertEquals(initial, ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath)));
+
+        Files.writeString(packageDirectory.resolve("OtherService.class"), "added");
+        Assertions.assertNotEquals(initial, ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath)));
+    }
+
+    @Test
+    void testFingerprintUsesClassLoaderRoots(@TempDir Path classpath) throws IOException, ApplicationSnapshotException {
+        Path packageDirectory = Files.createDirectories(classpath.resolve("com/example"));
+        Files.writeString(packageDirectory.resolve("SampleService.class"), "initial");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classpath.toUri().toURL() }, null)) {
+            Assertions.assertEquals(
+                    ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath)),
+                    ClasspathFingerprint.of(classLoader, Set.of("com.example"))
+            );
+        }
+    }
+
+    @Test
+    void testFingerprintIgnoresUnscannedPackages(@TempDir Path classpath) throws IOException, ApplicationSnapshotException {
+        Files.createDirectories(classpath.resolve("com/example"));
+        String initial = ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath));
+
+        Path otherPackage = Files.createDirectories(classpath.resolve("org/other"));
+        Files.writeString(otherPackage.resolve("Unrelated.class"), "unrelated");
+        Assertions.assertEquals(initial, ClasspathFingerprint.of(Set.of("com.example"), List.of(classpath)));
+    }
+}
@@ -18,13 +18,23 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
+import org.dockbox.hartshorn.launchpad.environment.ClassLoaderClasspathResourceLocator;
 import org.dockbox.hartshorn.util.CollectionUtilities;
 import org.dockbox.hartshorn.launchpad.resources.Resources;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ResourcesTests {
 
@@ -89,4 +99,85 @@ void testGetResourceAsFilesReturnsEmptyWhenResourceNotExists() {
         Assertions.assertNotNull(files);
         Assertions.assertTrue(files.isEmpty());
     }
+
+    @Test
+    void testLocatorExtractsResourcesFromJarFiles(@TempDir Path directory) throws IOException {
+        Path jar = this.createResourceJar(directory.resolve("resources.jar"), new byte[0]);
+        this.assertLocatorExtractsResources(jar);
+    }
+
+    @Test
+    void testLocatorExtractsResourcesFromJarFilesWithLeadingData(@TempDir Path directory) throws IOException {
+        // Leading data (e.g. of self-extracting archives) is not supported by mapped zip files, so a JarFile is used
+        Path jar = this.createResourceJar(directory.resolve("resources.jar"), "#!/bin/sh\nexit 0\n".getBytes(StandardCharsets.UTF_8));
+        this.assertLocatorExtractsResources(jar);
+    }
+
+    @Test
+    void testLocatorExtractsSameResourceFromMultipleJarFiles(@TempDir Path directory) throws IOException {
+        Path firstJar = this.createResourceJar(directory.resolve("first.jar"), new byte[0]);
+        Path secondJar = directory.resolve("second.jar");
+        try (OutputStream outputStream = Files.newOutputStream(secondJar); JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            jarOutputStream.putNextEntry(new JarEntry("jarred/"));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("jarred/first.txt"));
+            jarOutputStream.write("other".getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+
+        ClassLoaderClasspathResourceLocator locator = new ClassLoaderClasspathResourceLocator(null);
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { firstJar.toUri().toURL(), secondJar.toUri().toURL() }, contextClassLoader)) {
+            thread.setContextClassLoader(classLoader);
+
+            Set<String> contents = new HashSet<>();
+            for (Path resource : locator.resources("jarred/first")) {
+                contents.add(Files.readString(resource));
+            }
+            Assertions.assertEquals(Set.of("first", "other"), contents);
+        }
+        finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private Path createResourceJar(Path jar, byte[] leadingData) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jar)) {
+            outputStream.write(leadingData);
+            try (JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+                jarOutputStream.putNextEntry(new JarEntry("jarred/"));
+                jarOutputStream.closeEntry();
+                jarOutputStream.putNextEntry(new JarEntry("jarred/first.txt"));
+                jarOutputStream.write("first".getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+                jarOutputStream.putNextEntry(new JarEntry("jarred/second.txt"));
+                jarOutputStream.write("second".getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+                jarOutputStream.putNextEntry(new JarEntry("jarred/nested/first.txt"));
+                jarOutputStream.write("nested".getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private void assertLocatorExtractsResources(Path jar) throws IOException {
+        ClassLoaderClasspathResourceLocator locator = new ClassLoaderClasspathResourceLocator(null);
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, contextClassLoader)) {
+            thread.setContextClassLoader(classLoader);
+
+            Path resource = locator.resource("jarred/first.txt").orElseGet(Assertions::fail);
+            Assertions.assertEquals("first", Files.readString(resource));
+
+            Set<Path> resources = locator.resources("jarred/");
+            Assertions.assertEquals(2, resources.size());
+            Assertions.assertTrue(resources.contains(resource));
+        }
+        finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
 }
@@ -22,6 +22,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 /**
@@ -33,6 +34,8 @@
  */
 public class MapPropertyRegistry extends MapObjectProperty implements PropertyRegistry {
 
+    private final AtomicLong revision = new AtomicLong();
+
     public MapPropertyRegistry() {
         this(StandardPropertyPathStyle.INSTANCE);
     }
@@ -56,6 +59,7 @@ public void register(ConfiguredProperty property) {
             throw new IllegalArgumentException("Property with name " + property.name() + " already exists. If you intended to load a property with multiple values, implement the appropriate ConfiguredProperty");
         }
         this.properties().put(property.name(), property);
+        this.revision.incrementAndGet();
     }
 
     @Override
@@ -67,11 +71,19 @@ public void registerAll(Collection<ConfiguredProperty> properties) {
 
     @Override
     public void unregister(String name) {
-        this.properties().remove(name);
+        if (this.properties().remove(name) != null) {
+            this.revision.incrementAndGet();
+        }
     }
 
     @Override
     public void clear() {
         this.properties().clear();
+        this.revision.incrementAndGet();
+    }
+
+    @Override
+    public long revision() {
+        return this.revision.get();
     }
 }
@@ -109,6 +109,17 @@ default <T> Option<T> value(String name, ValuePropertyParser<T> parser) {
      */
     void clear();
 
+    /**
+     * Returns a counter that changes whenever properties are registered or unregistered in this registry. Consumers
+     * which memoize values derived from properties can compare revisions to detect that their values are outdated.
+     * Registries which do not track changes always return {@code 0}.
+     *
+     * @return the current revision of this registry
+     */
+    default long revision() {
+        return 0L;
+    }
+
     /**
      * Returns whether the property with the given key exists in this map property. This method will check if a property
      * with the given key exists, or if any properties exist that start with the given key.
@@ -18,15 +18,19 @@
 
 import org.dockbox.hartshorn.proxy.ProxyConstructorFunction;
 import org.dockbox.hartshorn.util.ApplicationException;
+import org.dockbox.hartshorn.util.TypeUtils;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import javassist.util.proxy.MethodHandler;
+import javassist.util.proxy.Proxy;
 import javassist.util.proxy.ProxyFactory;
 
 /**
- * A proxy constructor function that uses Javassist to create a proxy instance.
+ * A proxy constructor function that uses Javassist to create a proxy instance. Instances are created from a generated
+ * proxy class, which may be shared with other proxies. The {@link MethodHandler} of this function is assigned to each
+ * instance after it is constructed.
  *
  * @param <T> the type of the proxy
  *
@@ -39,29 +43,34 @@
 public class JavassistProxyConstructorFunction<T> implements ProxyConstructorFunction<T> {
 
     private final Class<T> type;
-    private final ProxyFactory factory;
+    private final Class<? extends T> proxyClass;
     private final MethodHandler methodHandler;
 
     public JavassistProxyConstructorFunction(Class<T> type, ProxyFactory factory, MethodHandler methodHandler) {
+        this(type, TypeUtils.unchecked(factory.createClass(), Class.class), methodHandler);
+    }
+
+    public JavassistProxyConstructorFunction(Class<T> type, Class<? extends T> proxyClass, MethodHandler methodHandler) {
         this.type = type;
-        this.factory = factory;
+        this.proxyClass = proxyClass;
         this.methodHandler = methodHandler;
     }
 
     @Override
     public T create() throws ApplicationException {
-        try {
-            return this.type.cast(this.factory.create(new Class<?>[0], new Object[0], this.methodHandler));
-        } catch (RuntimeException | InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
-            throw new ApplicationException(e);
-        }
+        return this.create(new Class<?>[0], new Object[0]);
     }
 
     @Override
     public T create(Constructor<? extends T> constructor, Object[] args) throws ApplicationException {
+        return this.create(constructor.getParameterTypes(), args);
+    }
+
+    private T create(Class<?>[] parameterTypes, Object[] args) throws ApplicationException {
         try {
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-            return this.type.cast(this.factory.create(parameterTypes, args, this.methodHandler));
+            T instance = this.proxyClass.getConstructor(parameterTypes).newInstance(args);
+            ((Proxy) instance).setHandler(this.methodHandler);
+            return this.type.cast(instance);
         } catch (RuntimeException | InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
             throw new ApplicationException(e);
         }
@@ -16,9 +16,13 @@
 
 package org.dockbox.hartshorn.proxy.javassist;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.dockbox.hartshorn.proxy.JDKInterfaceProxyFactory;
 import org.dockbox.hartshorn.proxy.ProxyConstructorFunction;
 import org.dockbox.hartshorn.proxy.advice.intercept.ProxyMethodInterceptor;
+import org.dockbox.hartshorn.util.TypeUtils;
 
 import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.ProxyFactory;
@@ -30,6 +34,11 @@
  * proxy class is created by extending the target class, and implementing all interfaces that the
  * target class implements.
  *
+ * <p>Generated proxy classes do not contain any instance-specific state, as the {@link MethodHandler} is assigned to
+ * each instance after it is constructed. Proxy classes are therefore generated once for each combination of target
+ * type and additional interfaces, and shared between all proxies of that combination which are created by the same
+ * {@link JavassistProxyOrchestrator}.
+ *
  * @param <T> the type of the proxy
  *
  * @see ProxyFactory
@@ -45,18 +54,48 @@
         ProxyFactory.nameGenerator = classname -> nameGenerator.get(classname);
     }
 
+    private final JavassistProxyOrchestrator proxyOrchestrator;
+
     public JavassistProxyFactory(Class<T> type, JavassistProxyOrchestrator proxyOrchestrator) {
         super(type, proxyOrchestrator);
+        this.proxyOrchestrator = proxyOrchestrator;
     }
 
     @Override
     protected ProxyConstructorFunction<T> concreteOrAbstractEnhancer(ProxyMethodInterceptor<T> interceptor) {
-        ProxyFactory factory = new ProxyFactory();
-        factory.setSuperclass(this.type());
-        factory.setInterfaces(this.proxyInterfaces(false));
-
         MethodHandler methodHandler = new JavassistProxyMethodHandler<>(interceptor, this.orchestrator().introspector());
-        return new JavassistProxyConstructorFunction<>(this.type(), factory, methodHandler);
+        return new JavassistProxyConstructorFunction<>(this.type(), this.proxyClass(), methodHandler);
+    }
+
+    /**
+     * Returns the proxy class for the target type and the configured interfaces. If no proxy class has been generated
+     * for this combination yet, a new class is generated and cached by the orchestrator for later use.
+     *
+     * @return the proxy class
+     */
+    protected Class<? extends T> proxyClass() {
+        Class<?>[] interfaces = this.proxyInterfaces(false);
+        Class<?> proxyClass = this.proxyOrchestrator.proxyClasses().computeIfAbsent(proxyClassKey(this.type(), interfaces), key -> {
+            ProxyFactory factory = new ProxyFactory();
+            factory.setSuperclass(this.type());
+            factory.setInterfaces(interfaces);
+            return factory.createClass();
+        });
+        return TypeUtils.unchecked(proxyClass, Class.class);
+    }
+
+    /**
+     * Returns the key under which the proxy class of the given type and interfaces is cached.
+     *
+     * @param type the proxied type
+     * @param interfaces the additional interfaces of the proxy
+     * @return the cache key
+     */
+    protected static List<Class<?>> proxyClassKey(Class<?> type, Class<?>[] interfaces) {
+        List<Class<?>> key = new ArrayList<>(interfaces.length + 1);
+        key.add(type);
+        key.addAll(List.of(interfaces));
+        return List.copyOf(key);
     }
 
 }
@@ -16,6 +16,10 @@
 
 package org.dockbox.hartshorn.proxy.javassist;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.dockbox.hartshorn.proxy.AbstractProxyOrchestrator;
 import org.dockbox.hartshorn.proxy.lookup.StateAwareProxyFactory;
 import org.dockbox.hartshorn.util.introspect.Introspector;
@@ -24,6 +28,10 @@
  * A proxy orchestrator that uses Javassist to create proxies. This adds support for {@link JavassistProxyLookup}s,
  * and uses {@link JavassistProxyFactory} to construct new proxy instances.
  *
+ * <p>Proxy classes which are generated by factories of this orchestrator are cached by the orchestrator, rather than
+ * globally. This ensures generated classes, and the class loaders of the types they proxy, are not retained once the
+ * orchestrator is no longer used.
+ *
  * @see JavassistProxyLookup
  * @see JavassistProxyFactory
  *
@@ -33,6 +41,8 @@
  */
 public class JavassistProxyOrchestrator extends AbstractProxyOrchestrator {
 
+    private final Map<List<Class<?>>, Class<?>> proxyClasses = new ConcurrentHashMap<>();
+
     public JavassistProxyOrchestrator(Introspector introspector) {
         super(introspector);
         this.registerProxyLookup(new JavassistProxyLookup());
@@ -43,4 +53,14 @@ public <T> StateAwareProxyFactory<T> factory(Class<T> type) {
         return new JavassistProxyFactory<>(type, this);
     }
 
+    /**
+     * Returns the proxy classes which were generated by factories of this orchestrator. Classes are keyed by the
+     * proxied type, followed by the additional interfaces of the proxy.
+     *
+     * @return the generated proxy classes
+     */
+    Map<List<Class<?>>, Class<?>> proxyClasses() {
+        return this.proxyClasses;
+    }
+
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dockbox.hartshorn.proxy.NameGenerator;
+import org.dockbox.hartshorn.proxy.Proxy;
+import org.dockbox.hartshorn.proxy.lookup.Unproxy;
+import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.option.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javassist.CannotCompileException;
+import javassist.ClassClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+/**
+ * Generates direct-dispatch proxy classes. A generated class contains a dedicated method for every method it
+ * overrides. Each generated method first asks the {@link DirectDispatcher} of the proxy for the {@link
+ * DirectDispatchRoute route} of the call, and then either calls the implementation in the superclass, calls the
+ * delegate with its original arguments, or dispatches the call to the method interceptor of the proxy.
+ *
+ * <p>Proxy classes are defined in the package of the target type where possible, so package-private methods can be
+ * overridden. Types which cannot host a proxy class in their own package, such as types of the JDK, are proxied in
+ * the package of this generator instead, which requires all proxied types to be public. If neither is possible, no
+ * class is generated.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+final class DirectDispatchClassGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectDispatchClassGenerator.class);
+
+    private static final String DISPATCHER_TYPE = DirectDispatcher.class.getName();
+    private static final String ROUTE_TYPE = DirectDispatchRoute.class.getName();
+    private static final String DISPATCHER_FIELD = "hartshorn$dispatcher";
+    private static final String SUPER_INVOKER_PREFIX = "hartshorn$super$";
+
+    private DirectDispatchClassGenerator() {
+        // Utility class
+    }
+
+    /**
+     * Generates a proxy class for the given type. If the type is an interface, the generated class extends {@link
+     * Object} and implements the type. The generated class always implements {@link DirectDispatchProxy}, in addition
+     * to the given interfaces.
+     *
+     * @param type the type to proxy
+     * @param interfaces the additional interfaces to implement
+     * @param nameGenerator the generator for the name of the proxy class
+     * @param <T> the type to proxy
+     * @return the generated class, or an empty {@link Option} if no class could be generated for the type
+     */
+    static <T> Option<DirectDispatchProxyClass<T>> generate(Class<T> type, Class<?>[] interfaces, NameGenerator nameGenerator) {
+        Class<?> superclass = type.isInterface() ? Object.class : type;
+        Set<Class<?>> proxyInterfaces = new LinkedHashSet<>();
+        if (type.isInterface()) {
+            proxyInterfaces.add(type);
+        }
+        proxyInterfaces.addAll(List.of(interfaces));
+        proxyInterfaces.add(DirectDispatchProxy.class);
+
+        try {
+            Option<Lookup> host = hostLookup(type, superclass, proxyInterfaces);
+            if (host.absent()) {
+                return Option.empty();
+            }
+            Lookup lookup = host.get();
+            String name = lookup.lookupClass().getPackageName().equals(type.getPackageName())
+                    ? nameGenerator.get(type)
+                    : lookup.lookupClass().getPackageName() + "." + nameGenerator.get(type.getSimpleName());
+
+            List<Method> methods = collectMethods(superclass, proxyInterfaces, lookup.lookupClass());
+            return Option.of(defineClass(name, type, superclass, proxyInterfaces, methods, lookup));
+        }
+        catch (CannotCompileException | NotFoundException | ReflectiveOperationException | LinkageError e) {
+            // Results are cached by the orchestrator, so this is only reported once for each type
+            LOG.warn("Could not generate direct-dispatch proxy class for {}, falling back to regular proxies", type.getName(), e);
+            return Option.empty();
+        }
+    }
+
+    private static Option<Lookup> hostLookup(Class<?> type, Class<?> superclass, Set<Class<?>> interfaces) throws IllegalAccessException {
+        boolean canHostInPackage = type.getClassLoader() != null
+                && !type.getModule().isNamed()
+                && !type.getPackageName().startsWith("java.");
+        if (canHostInPackage) {
+            return Option.of(MethodHandles.privateLookupIn(type, MethodHandles.lookup()));
+        }
+        if (isPublic(superclass) && interfaces.stream().allMatch(DirectDispatchClassGenerator::isPublic)) {
+            return Option.of(MethodHandles.lookup());
+        }
+        return Option.empty();
+    }
+
+    private static <T> DirectDispatchProxyClass<T> defineClass(String name, Class<T> type, Class<?> superclass,
+                                                               Set<Class<?>> interfaces, List<Method> methods, Lookup lookup)
+            throws CannotCompileException, NotFoundException, ReflectiveOperationException {
+
+        ClassPool pool = createClassPool(type, interfaces);
+        CtClass proxyClass = pool.makeClass(name, pool.get(superclass.getName()));
+        for (Class<?> proxyInterface : interfaces) {
+            proxyClass.addInterface(pool.get(proxyInterface.getName()));
+        }
+
+        proxyClass.addField(CtField.make("private " + DISPATCHER_TYPE + " " + DISPATCHER_FIELD + ";", proxyClass));
+        proxyClass.addMethod(CtMethod.make("public " + DISPATCHER_TYPE + " directDispatcher() { return this." + DISPATCHER_FIELD + "; }", proxyClass));
+        proxyClass.addMethod(CtMethod.make("public void directDispatcher(" + DISPATCHER_TYPE + " dispatcher) { this." + DISPATCHER_FIELD + " = $1; }", proxyClass));
+
+        addConstructors(pool, proxyClass, superclass, lookup.lookupClass());
+
+        boolean[] directCandidates = new boolean[methods.size()];
+        boolean[] hasSuper = new boolean[methods.size()];
+        for (int index = 0; index < methods.size(); index++) {
+            Method method = methods.get(index);
+            hasSuper[index] = !Modifier.isAbstract(method.getModifiers()) && !method.getDeclaringClass().isInterface();
+            directCandidates[index] = isDirectCandidate(method, lookup.lookupClass());
+            addMethod(pool, proxyClass, method, index, hasSuper[index], directCandidates[index]);
+        }
+
+        Class<? extends T> definedClass = TypeUtils.unchecked(proxyClass.toClass(lookup), Class.class);
+        proxyClass.detach();
+
+        Method[] superInvokers = new Method[methods.size()];
+        for (int index = 0; index < methods.size(); index++) {
+            if (hasSuper[index]) {
+                superInvokers[index] = definedClass.getDeclaredMethod(SUPER_INVOKER_PREFIX + index, methods.get(index).getParameterTypes());
+            }
+        }
+        return new DirectDispatchProxyClass<>(definedClass, methods.toArray(new Method[0]), superInvokers, directCandidates);
+    }
+
+    private static ClassPool createClassPool(Class<?> type, Set<Class<?>> interfaces) {
+        // Use a dedicated pool, so compiled classes are not retained after the proxy class has been defined
+        ClassPool pool = new ClassPool(true);
+        pool.appendClassPath(new ClassClassPath(DirectDispatcher.class));
+        Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+        classLoaders.add(type.getClassLoader());
+        for (Class<?> proxyInterface : interfaces) {
+            classLoaders.add(proxyInterface.getClassLoader());
+        }
+        for (ClassLoader classLoader : classLoaders) {
+            if (classLoader != null) {
+                pool.insertClassPath(new LoaderClassPath(classLoader));
+            }
+        }
+        return pool;
+    }
+
+    private static void addConstructors(ClassPool pool, CtClass proxyClass, Class<?> superclass, Class<?> host)
+            throws CannotCompileException, NotFoundException {
+        for (Constructor<?> constructor : superclass.getDeclaredConstructors()) {
+            int modifiers = constructor.getModifiers();
+            if (Modifier.isPrivate(modifiers) || (isPackagePrivate(modifiers) && !isSamePackage(superclass, host))) {
+                continue;
+            }
+            CtConstructor proxyConstructor = CtNewConstructor.make(
+                    ctClasses(pool, constructor.getParameterTypes()),
+                    ctClasses(pool, constructor.getExceptionTypes()),
+                    proxyClass);
+            proxyClass.addConstructor(proxyConstructor);
+        }
+    }
+
+    private static void addMethod(ClassPool pool, CtClass proxyClass, Method method, int index, boolean hasSuper,
+                                  boolean directCandidate) throws CannotCompileException, NotFoundException {
+        CtClass returnType = ctClass(pool, method.getReturnType());
+        CtClass[] parameterTypes = ctClasses(pool, method.getParameterTypes());
+        CtClass[] exceptionTypes = ctClasses(pool, method.getExceptionTypes());
+
+        CtMethod proxyMethod = new CtMethod(returnType, method.getName(), parameterTypes, proxyClass);
+        proxyMethod.setModifiers(accessModifiers(method));
+        proxyMethod.setExceptionTypes(exceptionTypes);
+        proxyMethod.setBody(methodBody(method, index, hasSuper, directCandidate));
+        proxyClass.addMethod(proxyMethod);
+
+        if (hasSuper) {
+            CtMethod superInvoker = new CtMethod(returnType, SUPER_INVOKER_PREFIX + index, parameterTypes, proxyClass);
+            superInvoker.setModifiers(javassist.Modifier.PUBLIC);
+            superInvoker.setExceptionTypes(exceptionTypes);
+            superInvoker.setBody("{ " + returnStatement(method, "super." + method.getName() + "($$)") + " }");
+            proxyClass.addMethod(superInvoker);
+        }
+    }
+
+    private static String methodBody(Method method, int index, boolean hasSuper, boolean directCandidate) {
+        String superCall = "super." + method.getName() + "($$)";
+        StringBuilder body = new StringBuilder("{ ");
+        body.append(DISPATCHER_TYPE).append(" dispatcher = this.").append(DISPATCHER_FIELD).append("; ");
+        body.append("if (dispatcher == null) { ");
+        if (hasSuper) {
+            // Methods called from the constructor of the superclass, before the dispatcher is assigned
+            body.append(returnStatement(method, superCall));
+        }
+        else {
+            body.append("throw new java.lang.IllegalStateException(\"Proxy has not been initialized\");");
+        }
+        body.append(" } ");
+
+        body.append(ROUTE_TYPE).append(" route = dispatcher.route(").append(index).append("); ");
+        body.append("int mode = route.mode(); ");
+        if (hasSuper) {
+            body.append("if (mode == ").append(DirectDispatchRoute.SUPER).append(") { ")
+                    .append(returnStatement(method, superCall)).append(" } ");
+        }
+        if (directCandidate) {
+            String delegateCall = "((" + typeName(method.getDeclaringClass()) + ") target)." + method.getName() + "($$)";
+            body.append("if (mode >= ").append(DirectDispatchRoute.DELEGATE).append(") { ");
+            body.append("java.lang.Object target = route.target(); ");
+            if (method.getReturnType().isPrimitive()) {
+                body.append(returnStatement(method, delegateCall));
+            }
+            else {
+                body.append("java.lang.Object result = ").append(delegateCall).append("; ");
+                body.append("if (mode == ").append(DirectDispatchRoute.DELEGATE_SELF).append(" && result == target) { result = this; } ");
+                body.append("return ($r) result;");
+            }
+            body.append(" } ");
+        }
+
+        String dispatch = "dispatcher.dispatch(this, " + index + ", $args)";
+        if (method.getReturnType() == void.class) {
+            body.append(dispatch).append("; }");
+        }
+        else {
+            body.append("return ($r) ").append(dispatch).append("; }");
+        }
+        return body.toString();
+    }
+
+    private static String returnStatement(Method method, String expression) {
+        return method.getReturnType() == void.class
+                ? expression + "; return;"
+                : "return " + expression + ";";
+    }
+
+    /**
+     * Collects all methods which are overridden by the proxy class. Methods of the superclass hierarchy take
+     * precedence over methods of interfaces, and methods of sub-interfaces take precedence over methods of their
+     * super-interfaces. Methods which cannot be overridden, such as final, static and private methods, are not
+     * included.
+     */
+    private static List<Method> collectMethods(Class<?> superclass, Set<Class<?>> interfaces, Class<?> host) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        Set<String> resolved = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>(interfaces);
+
+        for (Class<?> type = superclass; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (type == Object.class && !Modifier.isPublic(method.getModifiers())) {
+                    continue;
+                }
+                collectMethod(method, methods, resolved, host);
+            }
+            queue.addAll(List.of(type.getInterfaces()));
+        }
+
+        Set<Class<?>> visited = new HashSet<>();
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (type == DirectDispatchProxy.class || !visited.add(type)) {
+                continue;
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                collectMethod(method, methods, resolved, host);
+            }
+            queue.addAll(List.of(type.getInterfaces()));
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private static void collectMethod(Method method, Map<String, Method> methods, Set<String> resolved, Class<?> host) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers)) {
+            return;
+        }
+        String signature = signature(method);
+        if (!resolved.add(signature)) {
+            Method existing = methods.get(signature);
+            boolean moreSpecific = existing != null
+                    && existing.getDeclaringClass().isInterface()
+                    && existing.getDeclaringClass() != method.getDeclaringClass()
+                    && existing.getDeclaringClass().isAssignableFrom(method.getDeclaringClass());
+            if (moreSpecific) {
+                methods.put(signature, method);
+            }
+            return;
+        }
+        boolean overridable = !Modifier.isFinal(modifiers)
+                && !Modifier.isPrivate(modifiers)
+                && !method.isBridge()
+                && !method.isSynthetic()
+                && (!isPackagePrivate(modifiers) || isSamePackage(method.getDeclaringClass(), host));
+        if (overridable) {
+            methods.put(signature, method);
+        }
+    }
+
+    private static boolean isDirectCandidate(Method method, Class<?> host) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass == Proxy.class || isObjectMethod(method)) {
+            // Object methods and the manager accessor receive special treatment from the interceptor
+            return false;
+        }
+        if (!Modifier.isPublic(method.getModifiers()) || !(isPublic(declaringClass) || isSamePackage(declaringClass, host))) {
+            return false;
+        }
+        if (method.isAnnotationPresent(Unproxy.class)) {
+            return false;
+        }
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(Unproxy.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        return switch (method.getName()) {
+            case "equals" -> method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class;
+            case "hashCode", "toString" -> method.getParameterCount() == 0;
+            default -> false;
+        };
+    }
+
+    private static int accessModifiers(Method method) {
+        int modifiers = method.getModifiers();
+        int access = Modifier.isPublic(modifiers) || method.getDeclaringClass().isInterface()
+                ? javassist.Modifier.PUBLIC
+                : modifiers & javassist.Modifier.PROTECTED;
+        return method.isVarArgs() ? access | javassist.Modifier.VARARGS : access;
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.append(parameterType.descriptorString());
+        }
+        return signature.append(')').append(method.getReturnType().descriptorString()).toString();
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPackagePrivate(int modifiers) {
+        return !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers) && !Modifier.isPrivate(modifiers);
+    }
+
+    private static boolean isSamePackage(Class<?> type, Class<?> host) {
+        return type.getClassLoader() == host.getClassLoader() && type.getPackageName().equals(host.getPackageName());
+    }
+
+    private static String typeName(Class<?> type) {
+        return type.isArray() ? typeName(type.getComponentType()) + "[]" : type.getName();
+    }
+
+    private static CtClass ctClass(ClassPool pool, Class<?> type) throws NotFoundException {
+        return pool.get(typeName(type));
+    }
+
+    private static CtClass[] ctClasses(ClassPool pool, Class<?>[] types) throws NotFoundException {
+        CtClass[] ctClasses = new CtClass[types.length];
+        for (int i = 0; i < types.length; i++) {
+            ctClasses[i] = ctClass(pool, types[i]);
+        }
+        return ctClasses;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.dockbox.hartshorn.proxy.ProxyConstructorFunction;
+import org.dockbox.hartshorn.util.ApplicationException;
+
+/**
+ * A proxy constructor function that creates instances of a generated direct-dispatch proxy class. The {@link
+ * DirectDispatcher} of this function is assigned to each instance after it is constructed.
+ *
+ * @param <T> the type of the proxy
+ *
+ * @see DirectDispatchClassGenerator
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class DirectDispatchConstructorFunction<T> implements ProxyConstructorFunction<T> {
+
+    private final Class<T> type;
+    private final Class<? extends T> proxyClass;
+    private final DirectDispatcher<T> dispatcher;
+
+    public DirectDispatchConstructorFunction(Class<T> type, Class<? extends T> proxyClass, DirectDispatcher<T> dispatcher) {
+        this.type = type;
+        this.proxyClass = proxyClass;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public T create() throws ApplicationException {
+        return this.create(new Class<?>[0], new Object[0]);
+    }
+
+    @Override
+    public T create(Constructor<? extends T> constructor, Object[] args) throws ApplicationException {
+        return this.create(constructor.getParameterTypes(), args);
+    }
+
+    private T create(Class<?>[] parameterTypes, Object[] args) throws ApplicationException {
+        try {
+            T instance = this.proxyClass.getConstructor(parameterTypes).newInstance(args);
+            ((DirectDispatchProxy) instance).directDispatcher(this.dispatcher);
+            return this.type.cast(instance);
+        } catch (RuntimeException | InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            throw new ApplicationException(e);
+        }
+    }
+}
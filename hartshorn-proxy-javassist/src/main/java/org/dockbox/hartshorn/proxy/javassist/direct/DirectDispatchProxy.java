@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+/**
+ * Marker interface for proxy classes generated by the {@link DirectDispatchClassGenerator}. Generated classes store
+ * the {@link DirectDispatcher} of each instance in a dedicated field, which is assigned after the instance has been
+ * constructed.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public interface DirectDispatchProxy {
+
+    /**
+     * Returns the dispatcher of this proxy, or {@code null} if the proxy has not been fully initialized yet.
+     *
+     * @return the dispatcher of this proxy
+     */
+    DirectDispatcher<?> directDispatcher();
+
+    /**
+     * Sets the dispatcher of this proxy. This is done once, directly after the proxy has been constructed.
+     *
+     * @param dispatcher the dispatcher of this proxy
+     */
+    void directDispatcher(DirectDispatcher<?> dispatcher);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import java.lang.reflect.Method;
+
+/**
+ * A proxy class generated by the {@link DirectDispatchClassGenerator}, along with the methods it overrides. Each
+ * overridden method is identified by its index, which is compiled into the generated method and passed to the
+ * {@link DirectDispatcher} of the proxy.
+ *
+ * @param proxyClass the generated proxy class
+ * @param methods the overridden methods, indexed by their position in the generated class
+ * @param superInvokers the generated methods which call the implementation in the superclass, or {@code null} for
+ *                      methods without an implementation in the superclass
+ * @param directCandidates whether calls to the method may be made directly if the method is not advised
+ * @param <T> the type of the proxy
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+record DirectDispatchProxyClass<T>(
+        Class<? extends T> proxyClass,
+        Method[] methods,
+        Method[] superInvokers,
+        boolean[] directCandidates
+) {
+
+    int size() {
+        return this.methods.length;
+    }
+}
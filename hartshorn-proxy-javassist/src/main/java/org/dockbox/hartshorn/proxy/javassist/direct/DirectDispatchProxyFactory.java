@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import org.dockbox.hartshorn.proxy.ProxyConstructorFunction;
+import org.dockbox.hartshorn.proxy.advice.intercept.ProxyMethodInterceptor;
+import org.dockbox.hartshorn.proxy.javassist.JavassistProxyFactory;
+import org.dockbox.hartshorn.util.ApplicationException;
+import org.dockbox.hartshorn.util.ApplicationRuntimeException;
+import org.dockbox.hartshorn.util.TypeUtils;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A proxy factory that creates direct-dispatch proxies. Unlike the {@link JavassistProxyFactory}, which routes every
+ * call through a single reflective method handler, proxies created by this factory use a generated class with a
+ * dedicated method for every proxied method. Calls to methods without interceptors or wrappers are made directly on
+ * the delegate or the superclass, without boxing arguments or creating invocation objects.
+ *
+ * <p>Both interfaces and classes are proxied using generated classes. If no class can be generated for a type, for
+ * example because it is a non-public type of the JDK, the regular Javassist or JDK proxy is created instead.
+ *
+ * @param <T> the type of the proxy
+ *
+ * @see DirectDispatchClassGenerator
+ * @see DirectDispatcher
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class DirectDispatchProxyFactory<T> extends JavassistProxyFactory<T> {
+
+    private final DirectDispatchProxyOrchestrator proxyOrchestrator;
+
+    public DirectDispatchProxyFactory(Class<T> type, DirectDispatchProxyOrchestrator proxyOrchestrator) {
+        super(type, proxyOrchestrator);
+        this.proxyOrchestrator = proxyOrchestrator;
+    }
+
+    @Override
+    protected ProxyConstructorFunction<T> concreteOrAbstractEnhancer(ProxyMethodInterceptor<T> interceptor) {
+        Option<DirectDispatchProxyClass<T>> proxyClass = this.directProxyClass();
+        if (proxyClass.absent()) {
+            return super.concreteOrAbstractEnhancer(interceptor);
+        }
+        return this.constructorFunction(proxyClass.get(), interceptor);
+    }
+
+    @Override
+    protected Option<T> interfaceProxy(ProxyMethodInterceptor<T> interceptor) {
+        Option<DirectDispatchProxyClass<T>> proxyClass = this.directProxyClass();
+        if (proxyClass.absent()) {
+            return super.interfaceProxy(interceptor);
+        }
+        try {
+            return Option.of(this.constructorFunction(proxyClass.get(), interceptor).create());
+        }
+        catch (ApplicationException e) {
+            throw new ApplicationRuntimeException(e);
+        }
+    }
+
+    private ProxyConstructorFunction<T> constructorFunction(DirectDispatchProxyClass<T> proxyClass, ProxyMethodInterceptor<T> interceptor) {
+        DirectDispatcher<T> dispatcher = new DirectDispatcher<>(proxyClass, interceptor, this.orchestrator().introspector());
+        return new DirectDispatchConstructorFunction<>(this.type(), proxyClass.proxyClass(), dispatcher);
+    }
+
+    /**
+     * Returns the generated proxy class for the target type and the configured interfaces. Classes are generated once
+     * for each combination of target type and interfaces, and shared between all proxies of that combination which
+     * are created by the same {@link DirectDispatchProxyOrchestrator}.
+     *
+     * @return the generated proxy class, or an empty {@link Option} if no class can be generated for the target type
+     */
+    protected Option<DirectDispatchProxyClass<T>> directProxyClass() {
+        Class<?>[] interfaces = this.proxyInterfaces(false);
+        Option<DirectDispatchProxyClass<?>> proxyClass = this.proxyOrchestrator.directProxyClasses().computeIfAbsent(proxyClassKey(this.type(), interfaces),
+                key -> TypeUtils.unchecked(DirectDispatchClassGenerator.generate(this.type(), interfaces, nameGenerator), Option.class));
+        return TypeUtils.unchecked(proxyClass, Option.class);
+    }
+}
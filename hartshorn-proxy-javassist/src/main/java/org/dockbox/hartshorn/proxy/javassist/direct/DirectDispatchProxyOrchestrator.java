@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dockbox.hartshorn.proxy.javassist.JavassistProxyOrchestrator;
+import org.dockbox.hartshorn.proxy.lookup.StateAwareProxyFactory;
+import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * A proxy orchestrator that creates direct-dispatch proxies, using the {@link DirectDispatchProxyFactory}. As the
+ * factory falls back to regular Javassist proxies for types which cannot be proxied directly, this orchestrator
+ * recognizes both kinds of proxies.
+ *
+ * @see DirectDispatchProxyFactory
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class DirectDispatchProxyOrchestrator extends JavassistProxyOrchestrator {
+
+    private final Map<List<Class<?>>, Option<DirectDispatchProxyClass<?>>> directProxyClasses = new ConcurrentHashMap<>();
+
+    public DirectDispatchProxyOrchestrator(Introspector introspector) {
+        super(introspector);
+    }
+
+    @Override
+    public <T> StateAwareProxyFactory<T> factory(Class<T> type) {
+        return new DirectDispatchProxyFactory<>(type, this);
+    }
+
+    /**
+     * Returns the direct-dispatch proxy classes which were generated by factories of this orchestrator. Classes are
+     * keyed by the proxied type, followed by the additional interfaces of the proxy. Types for which no class could
+     * be generated are cached as an empty {@link Option}.
+     *
+     * @return the generated direct-dispatch proxy classes
+     */
+    Map<List<Class<?>>, Option<DirectDispatchProxyClass<?>>> directProxyClasses() {
+        return this.directProxyClasses;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+/**
+ * Describes how a call to a single method of a direct-dispatch proxy is handled. Routes are resolved by the {@link
+ * DirectDispatcher} of a proxy, and read by the generated method of the proxy class to decide whether the call can
+ * be made directly, or has to be dispatched through the method interceptor of the proxy.
+ *
+ * @param mode the way the call is handled, one of {@link #DISPATCH}, {@link #SUPER}, {@link #DELEGATE} or
+ *             {@link #DELEGATE_SELF}
+ * @param target the instance to call the method on if the call is made directly on a delegate, or {@code null}
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public record DirectDispatchRoute(int mode, Object target) {
+
+    /**
+     * The call is dispatched through the method interceptor of the proxy, with boxed arguments.
+     */
+    public static final int DISPATCH = 0;
+
+    /**
+     * The call is made directly on the implementation of the method in the superclass of the proxy.
+     */
+    public static final int SUPER = 1;
+
+    /**
+     * The call is made directly on the {@link #target() target} of the route.
+     */
+    public static final int DELEGATE = 2;
+
+    /**
+     * The call is made directly on the {@link #target() target} of the route. If the target returns itself, the
+     * proxy is returned instead.
+     */
+    public static final int DELEGATE_SELF = 3;
+
+    static final DirectDispatchRoute DISPATCH_ROUTE = new DirectDispatchRoute(DISPATCH, null);
+    static final DirectDispatchRoute SUPER_ROUTE = new DirectDispatchRoute(SUPER, null);
+}
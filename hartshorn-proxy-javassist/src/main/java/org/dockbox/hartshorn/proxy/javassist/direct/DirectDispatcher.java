@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy.javassist.direct;
+
+import java.lang.reflect.Method;
+
+import org.dockbox.hartshorn.proxy.ProxyManager;
+import org.dockbox.hartshorn.proxy.advice.MethodAdvisorResolver;
+import org.dockbox.hartshorn.proxy.advice.ProxyAdvisor;
+import org.dockbox.hartshorn.proxy.advice.ProxyAdvisorResolver;
+import org.dockbox.hartshorn.proxy.advice.RegistryProxyAdvisor;
+import org.dockbox.hartshorn.proxy.advice.intercept.MethodInvokable;
+import org.dockbox.hartshorn.proxy.advice.intercept.ProxyMethodInterceptor;
+import org.dockbox.hartshorn.proxy.advice.registry.StateAwareAdvisorRegistry;
+import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * The runtime state of a single direct-dispatch proxy. Generated methods ask the dispatcher for the {@link
+ * DirectDispatchRoute route} of a call, and only fall back to {@link #dispatch(Object, int, Object[])} if the call
+ * cannot be made directly.
+ *
+ * <p>Calls can be made directly if the method has no interceptor and no wrappers. In that case the generated method
+ * calls the delegate of the method, the delegate of the proxy, or the implementation in the superclass, with its
+ * original, typed arguments. The decision mirrors the behavior of the {@link ProxyMethodInterceptor}, which remains
+ * responsible for all other calls.
+ *
+ * <p>Routes are resolved once per method, and reused for as long as the advisor registry of the proxy remains
+ * unchanged. If the registry does not expose its revision, routes are resolved on every call.
+ *
+ * @param <T> the type of the proxy
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class DirectDispatcher<T> {
+
+    private final DirectDispatchProxyClass<T> proxyClass;
+    private final ProxyMethodInterceptor<T> interceptor;
+    private final Introspector introspector;
+    private final MethodInvokable[] sources;
+    private final MethodInvokable[] superInvokers;
+
+    private volatile RouteTable routes = new RouteTable(-1, new DirectDispatchRoute[0]);
+
+    DirectDispatcher(DirectDispatchProxyClass<T> proxyClass, ProxyMethodInterceptor<T> interceptor, Introspector introspector) {
+        this.proxyClass = proxyClass;
+        this.interceptor = interceptor;
+        this.introspector = introspector;
+        this.sources = new MethodInvokable[proxyClass.size()];
+        this.superInvokers = new MethodInvokable[proxyClass.size()];
+    }
+
+    /**
+     * Returns the manager of the proxy.
+     *
+     * @return the manager of the proxy
+     */
+    public ProxyManager<T> manager() {
+        return this.interceptor.manager();
+    }
+
+    /**
+     * Returns the interceptor which handles all calls that cannot be made directly.
+     *
+     * @return the interceptor of the proxy
+     */
+    public ProxyMethodInterceptor<T> interceptor() {
+        return this.interceptor;
+    }
+
+    /**
+     * Returns the route for the method with the given index.
+     *
+     * @param index the index of the method in the generated proxy class
+     * @return the route for the method
+     */
+    public DirectDispatchRoute route(int index) {
+        long revision = this.registryRevision();
+        if (revision < 0) {
+            return this.createRoute(index);
+        }
+
+        RouteTable table = this.routes;
+        if (table.revision() != revision) {
+            table = new RouteTable(revision, new DirectDispatchRoute[this.proxyClass.size()]);
+            this.routes = table;
+        }
+        DirectDispatchRoute route = table.routes()[index];
+        if (route == null) {
+            // Routes are immutable, so a racy publication of an individual slot is safe
+            route = this.createRoute(index);
+            table.routes()[index] = route;
+        }
+        return route;
+    }
+
+    /**
+     * Dispatches a call to the method with the given index through the interceptor of the proxy.
+     *
+     * @param self the proxy instance
+     * @param index the index of the method in the generated proxy class
+     * @param args the arguments of the call
+     * @return the result of the call
+     * @throws Throwable if the call fails
+     */
+    public Object dispatch(Object self, int index, Object[] args) throws Throwable {
+        return this.interceptor.intercept(self, this.source(index), this.superInvoker(index), args);
+    }
+
+    private MethodInvokable source(int index) {
+        MethodInvokable source = this.sources[index];
+        if (source == null) {
+            source = new MethodInvokable(this.proxyClass.methods()[index], this.introspector);
+            this.sources[index] = source;
+        }
+        return source;
+    }
+
+    private MethodInvokable superInvoker(int index) {
+        Method method = this.proxyClass.superInvokers()[index];
+        if (method == null) {
+            return null;
+        }
+        MethodInvokable superInvoker = this.superInvokers[index];
+        if (superInvoker == null) {
+            superInvoker = new MethodInvokable(method, this.introspector);
+            this.superInvokers[index] = superInvoker;
+        }
+        return superInvoker;
+    }
+
+    private DirectDispatchRoute createRoute(int index) {
+        if (!this.proxyClass.directCandidates()[index]) {
+            return DirectDispatchRoute.DISPATCH_ROUTE;
+        }
+
+        ProxyManager<T> manager = this.manager();
+        ProxyAdvisor<T> advisor = manager.advisor();
+        if (!(advisor instanceof RegistryProxyAdvisor<T>)) {
+            // Wrapping is delegated to the advisor, so it cannot be known ahead of time whether a method is advised
+            return DirectDispatchRoute.DISPATCH_ROUTE;
+        }
+
+        Method method = this.proxyClass.methods()[index];
+        MethodAdvisorResolver<T, Object> resolver = advisor.resolver().method(method);
+        if (resolver.interceptor().present() || !resolver.wrappers().isEmpty()) {
+            return DirectDispatchRoute.DISPATCH_ROUTE;
+        }
+
+        Option<T> methodDelegate = resolver.delegate();
+        if (methodDelegate.present()) {
+            return new DirectDispatchRoute(DirectDispatchRoute.DELEGATE_SELF, methodDelegate.get());
+        }
+
+        Option<T> delegate = manager.delegate();
+        if (delegate.present()) {
+            // Default methods are invoked on the proxy itself if only the proxy has a delegate
+            return method.isDefault()
+                    ? DirectDispatchRoute.DISPATCH_ROUTE
+                    : new DirectDispatchRoute(DirectDispatchRoute.DELEGATE, delegate.get());
+        }
+
+        return this.proxyClass.superInvokers()[index] != null
+                ? DirectDispatchRoute.SUPER_ROUTE
+                : DirectDispatchRoute.DISPATCH_ROUTE;
+    }
+
+    private long registryRevision() {
+        ProxyAdvisorResolver<T> resolver = this.manager().advisor().resolver();
+        if (resolver instanceof StateAwareAdvisorRegistry<T> registry) {
+            return registry.state().revision();
+        }
+        return -1;
+    }
+
+    /**
+     * The routes of all methods of a proxy, as resolved for a single revision of the advisor registry.
+     *
+     * @param revision the revision of the advisor registry
+     * @param routes the resolved routes, indexed by method
+     */
+    private record RouteTable(long revision, DirectDispatchRoute[] routes) {
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test.org.dockbox.hartshorn.proxy.javassist;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import org.dockbox.hartshorn.proxy.ProxyFactory;
+import org.dockbox.hartshorn.proxy.ProxyOrchestrator;
+import org.dockbox.hartshorn.proxy.ProxyOrchestratorLoader;
+import org.dockbox.hartshorn.proxy.javassist.direct.DirectDispatchProxy;
+import org.dockbox.hartshorn.proxy.javassist.direct.DirectDispatchProxyOrchestratorLoader;
+import org.dockbox.hartshorn.util.ApplicationException;
+import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.introspect.NativeProxyLookup;
+import org.dockbox.hartshorn.util.introspect.annotations.VirtualHierarchyAnnotationLookup;
+import org.dockbox.hartshorn.util.introspect.reflect.ReflectionIntrospector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import test.org.dockbox.hartshorn.proxy.ProxyTests;
+import test.org.dockbox.hartshorn.proxy.support.inheritance.single.AbstractProxy;
+import test.org.dockbox.hartshorn.proxy.support.inheritance.single.ConcreteProxy;
+import test.org.dockbox.hartshorn.proxy.support.inheritance.single.InterfaceProxy;
+
+public class DirectDispatchProxyTests extends ProxyTests {
+
+    @Override
+    protected ProxyOrchestratorLoader orchestratorLoader() {
+        return new DirectDispatchProxyOrchestratorLoader();
+    }
+
+    @Override
+    protected Introspector introspector() {
+        return new ReflectionIntrospector(new NativeProxyLookup(), new VirtualHierarchyAnnotationLookup());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = { InterfaceProxy.class, AbstractProxy.class, ConcreteProxy.class, Supplier.class })
+    void testProxiesUseGeneratedClasses(Class<?> type) throws ApplicationException {
+        ProxyOrchestrator orchestrator = this.orchestratorLoader().create(this.introspector());
+        Object proxy = orchestrator.factory(type).proxy().get();
+        Assertions.assertTrue(proxy instanceof DirectDispatchProxy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = { InterfaceProxy.class, ConcreteProxy.class })
+    void testUnadvisedMethodsAreCalledDirectlyOnDelegate(Class<? extends InterfaceProxy> type) throws ApplicationException, NoSuchMethodException {
+        ProxyFactory<InterfaceProxy> factory = (ProxyFactory<InterfaceProxy>) this.orchestratorLoader().create(this.introspector()).factory(type);
+        factory.advisors().type().delegate(new ConcreteProxy());
+        InterfaceProxy proxy = factory.proxy().get();
+        Assertions.assertEquals("concrete", proxy.name());
+
+        // Advisors added after the first call replace the direct call
+        Method name = type.getMethod("name");
+        factory.advisors().method(name).intercept(context -> "Hartshorn");
+        Assertions.assertEquals("Hartshorn", proxy.name());
+    }
+}
@@ -16,6 +16,7 @@
 
 package test.org.dockbox.hartshorn.proxy;
 
+import org.dockbox.hartshorn.proxy.AbstractProxyOrchestrator;
 import org.dockbox.hartshorn.proxy.Proxy;
 import org.dockbox.hartshorn.proxy.ProxyFactory;
 import org.dockbox.hartshorn.proxy.ProxyManager;
@@ -25,25 +26,31 @@
 import org.dockbox.hartshorn.proxy.advice.wrap.MethodWrapper;
 import org.dockbox.hartshorn.proxy.advice.wrap.ProxyCallbackContext;
 import org.dockbox.hartshorn.proxy.constraint.ProxyConstraintViolationException;
+import org.dockbox.hartshorn.proxy.lookup.StandardProxyLookup;
 import org.dockbox.hartshorn.proxy.lookup.StateAwareProxyFactory;
 import org.dockbox.hartshorn.util.ApplicationException;
+import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.function.CheckedSupplier;
 import org.dockbox.hartshorn.util.introspect.Introspector;
+import org.dockbox.hartshorn.util.introspect.ProxyIntrospector;
 import org.dockbox.hartshorn.util.introspect.view.ConstructorView;
 import org.dockbox.hartshorn.util.introspect.view.TypeView;
 import org.dockbox.hartshorn.util.option.Option;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import test.org.dockbox.hartshorn.proxy.support.basic.ConcreteProxyWithNonDefaultConstructor;
+import test.org.dockbox.hartshorn.proxy.support.basic.DefaultMethodProxy;
 import test.org.dockbox.hartshorn.proxy.support.basic.DescribedProxy;
 import test.org.dockbox.hartshorn.proxy.support.equals.AbstractEqualProxy;
 import test.org.dockbox.hartshorn.proxy.support.equals.EqualInterfaceProxy;
@@ -404,6 +411,27 @@ void testConcreteClassProxyWithDelegateDoesNotEqual() throws ApplicationExceptio
         Assertions.assertEquals(serviceD1, serviceD2);
     }
 
+    @Test
+    void testDelegateFieldsAreOnlyCopiedIfEnabled() throws ApplicationException, ReflectiveOperationException {
+        Field name = DemoServiceD.class.getDeclaredField("name");
+        name.setAccessible(true);
+
+        DemoServiceD delegated = this.orchestratorLoader().create(this.introspector())
+                .factory(DemoServiceD.class)
+                .advisors(advisors -> advisors.type().delegate(new DemoServiceD("name")))
+                .proxy()
+                .get();
+        Assertions.assertNull(name.get(delegated));
+
+        DemoServiceD copied = this.orchestratorLoader().create(this.introspector())
+                .factory(DemoServiceD.class)
+                .copyDelegateFields(true)
+                .advisors(advisors -> advisors.type().delegate(new DemoServiceD("name")))
+                .proxy()
+                .get();
+        Assertions.assertEquals("name", name.get(copied));
+    }
+
     private <T> T createProxy(Class<T> type) throws ApplicationException {
         return this.orchestratorLoader().create(this.introspector()).factory(type).proxy().get();
     }
@@ -506,4 +534,128 @@ void testIsProxyIsFalseIfTypeIsNormal() {
         boolean isProxy = orchestrator.isProxy(view);
         Assertions.assertFalse(isProxy);
     }
+
+    @Test
+    void testUnproxyResolvesTargetOfCachedProxyClassification() throws ApplicationException {
+        ProxyOrchestrator orchestrator = this.orchestratorLoader().create(this.introspector());
+        ConcreteProxyTarget first = orchestrator.factory(ConcreteProxyTarget.class).proxy().get();
+        ConcreteProxyTarget second = orchestrator.factory(ConcreteProxyTarget.class).proxy().get();
+
+        Assertions.assertTrue(orchestrator.isProxy(first));
+        Assertions.assertTrue(orchestrator.isProxy(second));
+        Assertions.assertSame(ConcreteProxyTarget.class, orchestrator.unproxy(first).orNull());
+        Assertions.assertSame(ConcreteProxyTarget.class, orchestrator.unproxy(second).orNull());
+        Assertions.assertSame(first, orchestrator.introspector(first).get().proxy());
+        Assertions.assertSame(second, orchestrator.introspector(second).get().proxy());
+
+        Assertions.assertFalse(orchestrator.isProxy((Object) null));
+        Assertions.assertTrue(orchestrator.unproxy(new ConcreteProxyTarget()).absent());
+    }
+
+    @Test
+    void testProxyClassificationRespectsLaterRegisteredLookups() {
+        ProxyOrchestrator orchestrator = this.orchestratorLoader().create(this.introspector());
+        Assumptions.assumeTrue(orchestrator instanceof AbstractProxyOrchestrator);
+
+        ConcreteProxyTarget target = new ConcreteProxyTarget();
+        Assertions.assertFalse(orchestrator.isProxy(ConcreteProxyTarget.class));
+        Assertions.assertFalse(orchestrator.isProxy(target));
+
+        ((AbstractProxyOrchestrator) orchestrator).registerProxyLookup(new StandardProxyLookup() {
+            @Override
+            public boolean isProxy(Class<?> candidate) {
+                return candidate == ConcreteProxyTarget.class;
+            }
+
+            @Override
+            public <T> Option<Class<T>> unproxy(T instance) {
+                Class<T> unproxied = TypeUtils.unchecked(Object.class, Class.class);
+                return Option.of(unproxied);
+            }
+
+            @Override
+            public <T> Option<ProxyIntrospector<T>> introspector(T instance) {
+                return Option.empty();
+            }
+        });
+
+        Assertions.assertTrue(orchestrator.isProxy(ConcreteProxyTarget.class));
+        Assertions.assertTrue(orchestrator.isProxy(target));
+        Assertions.assertSame(Object.class, orchestrator.unproxy(target).orNull());
+    }
+
+    @Test
+    void testDefaultMethodsAreInvokedWithoutDelegate() throws ApplicationException, NoSuchMethodException {
+        ProxyFactory<DefaultMethodProxy> factory = this.orchestratorLoader().create(this.introspector()).factory(DefaultMethodProxy.class);
+        factory.advisors().method(DefaultMethodProxy.class.getMethod("name")).intercept(context -> "Hartshorn");
+        DefaultMethodProxy proxy = factory.proxy().get();
+
+        Assertions.assertEquals("Hello, Hartshorn", proxy.greeting("Hello"));
+        // Repeated invocations use the cached dispatch decision
+        Assertions.assertEquals("Bye, Hartshorn", proxy.greeting("Bye"));
+    }
+
+    @Test
+    void testDefaultMethodsUseReceiverOfEachProxy() throws ApplicationException, NoSuchMethodException {
+        ProxyOrchestrator orchestrator = this.orchestratorLoader().create(this.introspector());
+        Method name = DefaultMethodProxy.class.getMethod("name");
+
+        ProxyFactory<DefaultMethodProxy> first = orchestrator.factory(DefaultMethodProxy.class);
+        first.advisors().method(name).intercept(context -> "first");
+        ProxyFactory<DefaultMethodProxy> second = orchestrator.factory(DefaultMethodProxy.class);
+        second.advisors().method(name).intercept(context -> "second");
+
+        DefaultMethodProxy firstProxy = first.proxy().get();
+        DefaultMethodProxy secondProxy = second.proxy().get();
+
+        // Handles for the same method are shared between proxies, so the receiver may never be bound to the handle
+        Assertions.assertEquals("Hello, first", firstProxy.greeting("Hello"));
+        Assertions.assertEquals("Hello, second", secondProxy.greeting("Hello"));
+        Assertions.assertEquals("Hello, first", firstProxy.greeting("Hello"));
+    }
+
+    @Test
+    void testAdvisorsAddedAfterFirstCallAreApplied() throws ApplicationException, NoSuchMethodException {
+        Method name = DefaultMethodProxy.class.getMethod("name");
+        ProxyFactory<DefaultMethodProxy> factory = this.orchestratorLoader().create(this.introspector()).factory(DefaultMethodProxy.class);
+        factory.advisors().method(name).intercept(context -> "Hartshorn");
+        DefaultMethodProxy proxy = factory.proxy().get();
+
+        AtomicInteger count = new AtomicInteger();
+        Assertions.assertEquals("Hartshorn", proxy.name());
+        Assertions.assertEquals(0, count.get());
+
+        // Resolved advisors are reused between calls, but have to be discarded when the registry changes
+        factory.advisors().method(name).wrapAround(wrapper -> wrapper.before(context -> count.incrementAndGet()));
+        Assertions.assertEquals("Hartshorn", proxy.name());
+        Assertions.assertEquals(1, count.get());
+    }
+
+    @Test
+    void testProxiesOfSameTypeShareProxyClass() throws ApplicationException, NoSuchMethodException {
+        Method name = ConcreteProxyTarget.class.getMethod("name");
+        ProxyOrchestrator orchestrator = this.orchestratorLoader().create(this.introspector());
+
+        ProxyFactory<ConcreteProxyTarget> first = orchestrator.factory(ConcreteProxyTarget.class);
+        first.advisors().method(name).intercept(context -> "first");
+        ProxyFactory<ConcreteProxyTarget> second = orchestrator.factory(ConcreteProxyTarget.class);
+        second.advisors().method(name).intercept(context -> "second");
+
+        ConcreteProxyTarget firstProxy = first.proxy().get();
+        ConcreteProxyTarget secondProxy = second.proxy().get();
+
+        Assertions.assertSame(firstProxy.getClass(), secondProxy.getClass());
+        Assertions.assertEquals("first", firstProxy.name());
+        Assertions.assertEquals("second", secondProxy.name());
+    }
+
+    @Test
+    void testProxiesOfSameFactoryExposeOwnManager() throws ApplicationException {
+        ProxyFactory<ConcreteProxyTarget> factory = this.orchestratorLoader().create(this.introspector()).factory(ConcreteProxyTarget.class);
+        ConcreteProxyTarget first = factory.proxy().get();
+        ConcreteProxyTarget second = factory.proxy().get();
+
+        Assertions.assertSame(first, ((Proxy<?>) first).manager().proxy());
+        Assertions.assertSame(second, ((Proxy<?>) second).manager().proxy());
+    }
 }
@@ -19,6 +19,7 @@
 import org.dockbox.hartshorn.proxy.advice.ProxyAdvisor;
 import org.dockbox.hartshorn.proxy.advice.TypeAdvisorResolver;
 import org.dockbox.hartshorn.proxy.lookup.HartshornProxyLookup;
+import org.dockbox.hartshorn.proxy.lookup.ProxyClassification;
 import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.introspect.Introspector;
 import org.dockbox.hartshorn.util.introspect.NativeProxyLookup;
@@ -26,21 +27,27 @@
 import org.dockbox.hartshorn.util.introspect.ProxyLookup;
 import org.dockbox.hartshorn.util.option.Option;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A base implementation of {@link ProxyOrchestrator} that provides a default set of {@link ProxyLookup}s, and
  * allows for registration of additional lookups. Lookup operations are performed with the assumption that Hartshorn's
  * own {@link Proxy} implementation is used.
  *
+ * <p>Classes are classified once per set of registered lookups, and the resulting {@link ProxyClassification} is
+ * cached in a {@link ClassValue}. This makes {@link #isProxy(Class)} and {@link #isProxy(Object)} a single lookup on
+ * hot paths, and limits {@link #unproxy(Object)} and {@link #introspector(Object)} to the lookups that recognize the
+ * class. Registering a new lookup discards all existing classifications.
+ *
  * @since 0.4.12
  * @author Guus Lieben
  */
 public abstract class AbstractProxyOrchestrator implements ProxyOrchestrator {
 
-    private final Set<ProxyLookup> proxyLookups = ConcurrentHashMap.newKeySet();
+    private final CopyOnWriteArrayList<ProxyLookup> proxyLookups = new CopyOnWriteArrayList<>();
     private final Introspector introspector;
+    private volatile ClassValue<ProxyClassification> classifications = this.createClassifications();
 
     protected AbstractProxyOrchestrator(Introspector introspector) {
         this.introspector = introspector;
@@ -78,12 +85,13 @@ public <D, T extends D> Option<D> delegate(Class<D> type, T instance) {
 
     @Override
     public <T> Option<Class<T>> unproxy(T instance) {
-        for (ProxyLookup lookup : this.proxyLookups) {
-            if (lookup.isProxy(instance)) {
-                Option<Class<T>> unproxied = lookup.unproxy(instance);
-                if (unproxied.present()) {
-                    return unproxied;
-                }
+        if (instance == null) {
+            return Option.empty();
+        }
+        for (ProxyLookup lookup : this.classification(instance.getClass()).lookups()) {
+            Option<Class<T>> unproxied = lookup.unproxy(instance);
+            if (unproxied.present()) {
+                return unproxied;
             }
         }
         return Option.empty();
@@ -91,34 +99,59 @@ public <T> Option<Class<T>> unproxy(T instance) {
 
     @Override
     public boolean isProxy(Object instance) {
-        return this.proxyLookups.stream().anyMatch(lookup -> lookup.isProxy(instance));
+        return instance != null && this.classification(instance.getClass()).proxy();
     }
 
     @Override
     public boolean isProxy(Class<?> candidate) {
-        return this.proxyLookups.stream().anyMatch(lookup -> lookup.isProxy(candidate));
+        return this.classification(candidate).proxy();
     }
 
     @Override
     public <T> Option<ProxyIntrospector<T>> introspector(T instance) {
-        for (ProxyLookup lookup : this.proxyLookups) {
-            if (lookup.isProxy(instance)) {
-                Option<ProxyIntrospector<T>> introspector = lookup.introspector(instance);
-                if (introspector.present()) {
-                    return introspector;
-                }
+        if (instance == null) {
+            return Option.empty();
+        }
+        for (ProxyLookup lookup : this.classification(instance.getClass()).lookups()) {
+            Option<ProxyIntrospector<T>> introspector = lookup.introspector(instance);
+            if (introspector.present()) {
+                return introspector;
             }
         }
         return Option.empty();
     }
 
+    /**
+     * Returns the cached classification of the given class. If the class was not classified before, it is
+     * classified using all currently registered lookups.
+     *
+     * @param type the class to classify
+     * @return the classification of the class
+     */
+    protected ProxyClassification classification(Class<?> type) {
+        return this.classifications.get(type);
+    }
+
+    private ClassValue<ProxyClassification> createClassifications() {
+        List<ProxyLookup> lookups = List.copyOf(this.proxyLookups);
+        return new ClassValue<>() {
+            @Override
+            protected ProxyClassification computeValue(Class<?> type) {
+                return ProxyClassification.classify(type, lookups);
+            }
+        };
+    }
+
     /**
      * Registers a new {@link ProxyLookup} with this orchestrator. The lookup will be used as a candidate for all
-     * future proxy operations.
+     * future proxy operations. Lookups are consulted in the order in which they were registered. As registering a
+     * lookup may change the classification of any class, all cached classifications are discarded.
      *
      * @param proxyLookup the lookup to register
      */
     public void registerProxyLookup(ProxyLookup proxyLookup) {
-        this.proxyLookups.add(proxyLookup);
+        if (this.proxyLookups.addIfAbsent(proxyLookup)) {
+            this.classifications = this.createClassifications();
+        }
     }
 }
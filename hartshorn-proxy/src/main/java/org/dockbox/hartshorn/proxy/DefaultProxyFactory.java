@@ -78,6 +78,8 @@ public String get(String type) {
     private final ProxyValidator validator;
     private final Class<T> type;
 
+    private boolean copyDelegateFields = false;
+
     protected DefaultProxyFactory(Class<T> type, ProxyOrchestrator proxyOrchestrator) {
         this.type = type;
         this.proxyOrchestrator = proxyOrchestrator;
@@ -127,6 +129,17 @@ public boolean modified() {
         return this.advisorRegistry.state().modified();
     }
 
+    @Override
+    public StateAwareProxyFactory<T> copyDelegateFields(boolean copyDelegateFields) {
+        this.copyDelegateFields = copyDelegateFields;
+        return this;
+    }
+
+    @Override
+    public boolean copiesDelegateFields() {
+        return this.copyDelegateFields;
+    }
+
     @Override
     public Set<Class<?>> interfaces() {
         return this.interfaces;
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.dockbox.hartshorn.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A precomputed plan to copy the state of an instance into another instance of the same type, or a subtype of it.
+ * Plans are created once per type, and contain a getter and setter for every instance field declared by the type and
+ * its superclasses. Where possible, accessors are obtained from {@link VarHandle}s. Final fields cannot be written
+ * through a {@link VarHandle}, so these are written through a setter of the accessible {@link Field} instead.
+ *
+ * <p>This is used by {@link JDKInterfaceProxyFactory} to copy the state of a delegate into a new proxy instance, if
+ * {@link ProxyFactory#copyDelegateFields(boolean) field copying} is enabled.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+final class FieldCopyPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<FieldCopyPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected FieldCopyPlan computeValue(Class<?> type) {
+            return new FieldCopyPlan(type);
+        }
+    };
+
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+
+    private FieldCopyPlan(Class<?> type) {
+        List<MethodHandle> getters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                try {
+                    Lookup lookup = MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+                    VarHandle handle = lookup.unreflectVarHandle(field);
+                    getters.add(handle.toMethodHandle(AccessMode.GET).asType(GETTER_TYPE));
+                    setters.add(setter(lookup, handle, field));
+                }
+                catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot access field " + field.getName() + " of " + current.getName(), e);
+                }
+            }
+        }
+        this.getters = getters.toArray(new MethodHandle[0]);
+        this.setters = setters.toArray(new MethodHandle[0]);
+    }
+
+    private static MethodHandle setter(Lookup lookup, VarHandle handle, Field field) throws IllegalAccessException {
+        if (!Modifier.isFinal(field.getModifiers())) {
+            return handle.toMethodHandle(AccessMode.SET).asType(SETTER_TYPE);
+        }
+        field.setAccessible(true);
+        return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    }
+
+    /**
+     * Returns the copy plan for the given type. Plans are created on first use, and shared afterward.
+     *
+     * @param type the type to copy instances of
+     * @return the copy plan for the given type
+     */
+    static FieldCopyPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Copies the values of all fields of the plan's type from the given source into the given target.
+     *
+     * @param source the instance to copy the fields from
+     * @param target the instance to copy the fields into
+     * @throws Throwable if a field cannot be copied
+     */
+    void copy(Object source, Object target) throws Throwable {
+        for (int i = 0; i < this.getters.length; i++) {
+            this.setters[i].invokeExact(target, (Object) this.getters[i].invokeExact(source));
+        }
+    }
+}
@@ -25,8 +25,6 @@
 import org.dockbox.hartshorn.util.ApplicationException;
 import org.dockbox.hartshorn.util.CollectionUtilities;
 import org.dockbox.hartshorn.util.function.CheckedFunction;
-import org.dockbox.hartshorn.util.introspect.view.FieldView;
-import org.dockbox.hartshorn.util.introspect.view.TypeView;
 import org.dockbox.hartshorn.util.option.Option;
 
 /**
@@ -148,7 +146,7 @@ protected Option<T> createClassProxy(ProxyMethodInterceptor<T> interceptor, Chec
         try {
             T proxy = instantiate.apply(enhancer);
             Option<T> delegate = this.advisors().type().delegate();
-            if (delegate.present()) {
+            if (delegate.present() && this.copiesDelegateFields()) {
                 this.restoreFields(delegate.get(), proxy);
             }
             return Option.of(proxy);
@@ -189,23 +187,15 @@ protected Option<T> interfaceProxy(ProxyMethodInterceptor<T> interceptor) {
     }
 
     /**
-     * If possible, restores the fields of the delegate to the values of the proxy. This is only possible if the
-     * delegate is available.
+     * Copies the fields of the delegate into the new proxy instance, so direct field accesses on the proxy observe
+     * the state of the delegate. This is only done if {@link #copiesDelegateFields() field copying} is
+     * enabled, which it is not by default. Fields are copied through a {@link FieldCopyPlan} that is computed once per type.
      *
      * @param existing The existing delegate
      * @param proxy The proxy
      */
     protected void restoreFields(T existing, T proxy) throws Throwable {
-        TypeView<T> typeView = this.advisors().type().delegate()
-                .map(this.orchestrator().introspector()::introspect)
-                .orElseGet(() -> this.orchestrator().introspector().introspect(this.type()));
-
-        for (FieldView<T, ?> field : typeView.fields().all()) {
-            if (field.modifiers().isStatic()) {
-                continue;
-            }
-            field.set(proxy, field.get(existing).orNull());
-        }
+        FieldCopyPlan.of(this.type()).copy(existing, proxy);
     }
 
     /**
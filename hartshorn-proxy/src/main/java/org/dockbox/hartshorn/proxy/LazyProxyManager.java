@@ -23,8 +23,6 @@
 import org.dockbox.hartshorn.util.IllegalModificationException;
 import org.dockbox.hartshorn.util.option.Option;
 
-import java.lang.reflect.Method;
-
 /**
  * A lazy-loading proxy manager. This implementation tracks the proxy's delegates and interceptors, and allows
  * the proxy to be set lazily. This is useful for when the manager is created in a context where the proxy is not
@@ -42,17 +40,6 @@
  */
 public class LazyProxyManager<T> extends DefaultContext implements ModifiableProxyManager<T> {
 
-    private static final Method managerAccessor;
-
-    static {
-        try {
-            managerAccessor = Proxy.class.getDeclaredMethod("manager");
-        }
-        catch (NoSuchMethodException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
     private final ProxyOrchestrator proxyOrchestrator;
     private final RegistryProxyAdvisor<T> advisor;
 
@@ -78,7 +65,8 @@ public LazyProxyManager(ProxyOrchestrator proxyOrchestrator, Class<T> proxyClass
         this.proxyClass = proxyClass;
         this.targetClass = targetClass;
 
-        advisors.method(managerAccessor).intercept(context -> this);
+        // The advisor registry is shared between all proxies of a factory, so no instance-specific advisors are
+        // registered here. Calls to Proxy#manager are answered by the method interceptor of each proxy instead.
         this.advisor = new RegistryProxyAdvisor<>(advisors);
     }
 
@@ -218,6 +218,34 @@
      */
     ProxyFactory<T> implement(Class<?>... interfaces);
 
+    /**
+     * Sets whether the fields of the delegate of this factory should be copied into new class proxy instances. This
+     * is disabled by default, so proxies delegate to the retained delegate instance rather than cloning its state.
+     * Calls to methods which are not advised are forwarded to the delegate, but the state of the proxy instance itself
+     * can still be observed directly, for example when another instance of the same type reads its fields in {@code
+     * equals}, or when fields are accessed through reflection. Such accesses only observe the state of the delegate if
+     * its fields were copied.
+     *
+     * <p>Interface proxies do not have any fields, so this setting does not affect them. Factories which do not support
+     * field copying ignore this setting, which is the default behavior.
+     *
+     * @param copyDelegateFields whether to copy the fields of the delegate into new proxy instances
+     * @return the current factory
+     */
+    default ProxyFactory<T> copyDelegateFields(boolean copyDelegateFields) {
+        return this;
+    }
+
+    /**
+     * Returns whether the fields of the delegate of this factory are copied into new class proxy instances.
+     *
+     * @return whether the fields of the delegate are copied into new proxy instances
+     * @see #copyDelegateFields(boolean)
+     */
+    default boolean copiesDelegateFields() {
+        return false;
+    }
+
     /**
      * Creates a proxy instance of the active {@link #type()} and returns it. This will create a new proxy,
      * as well as a new {@link ProxyManager} responsible for managing the proxy. The proxy will be created
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.proxy.advice;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * Cache of unbound {@link MethodHandle}s that are used by proxies to invoke methods on their target instances. All
+ * handles are adapted to the generic signature {@code (Object, Object[])Object}, where the first argument is the
+ * receiver of the call, so a single handle can be shared by all proxies of the same method. Handles are cached per
+ * declaring class through a {@link ClassValue}, which does not prevent the declaring class (and its class loader) from
+ * being unloaded.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+final class ProxyMethodHandles {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final ClassValue<Map<Method, Option<MethodHandle>>> VIRTUAL_INVOKERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, Option<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<Method, Option<MethodHandle>>> SPECIAL_INVOKERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, Option<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ProxyMethodHandles() {
+        // Utility class
+    }
+
+    /**
+     * Returns a handle that invokes the given method using regular virtual dispatch on the receiver. If the method
+     * cannot be accessed through a method handle, an empty {@link Option} is returned.
+     *
+     * @param method the method to invoke
+     * @return the invoker handle, if the method is accessible
+     */
+    static Option<MethodHandle> virtualInvoker(Method method) {
+        return VIRTUAL_INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(method, ProxyMethodHandles::createVirtualInvoker);
+    }
+
+    /**
+     * Returns a handle that invokes the implementation of the given {@code default} method in its declaring interface,
+     * bypassing any overrides in the receiver's class. This is equivalent to {@code Interface.super.method()}, and
+     * allows default methods to be invoked on proxy instances. If the declaring interface cannot be accessed through a
+     * private lookup, an empty {@link Option} is returned.
+     *
+     * @param method the default method to invoke
+     * @return the special invoker handle, if the declaring interface is accessible
+     */
+    static Option<MethodHandle> specialInvoker(Method method) {
+        return SPECIAL_INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(method, ProxyMethodHandles::createSpecialInvoker);
+    }
+
+    private static Option<MethodHandle> createVirtualInvoker(Method method) {
+        try {
+            Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+            return Option.of(adapt(lookup.unreflect(method), method));
+        }
+        catch (IllegalAccessException e) {
+            // Declaring class is not open to this module, only public members of exported packages remain accessible
+            try {
+                return Option.of(adapt(MethodHandles.publicLookup().unreflect(method), method));
+            }
+            catch (IllegalAccessException ex) {
+                return Option.empty();
+            }
+        }
+    }
+
+    private static Option<MethodHandle> createSpecialInvoker(Method method) {
+        Class<?> declaringInterface = method.getDeclaringClass();
+        try {
+            Lookup lookup = MethodHandles.privateLookupIn(declaringInterface, LOOKUP);
+            return Option.of(adapt(lookup.unreflectSpecial(method, declaringInterface), method));
+        }
+        catch (IllegalAccessException e) {
+            return Option.empty();
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, Method method) {
+        MethodHandle adapted = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            adapted = MethodHandles.dropArguments(adapted, 0, Object.class);
+        }
+        return adapted.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+    }
+}
@@ -28,11 +28,19 @@
 import org.dockbox.hartshorn.util.option.Option;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Standard implementation of {@link ProxyMethodInterceptHandler} that uses reflection to invoke methods on the target
  * instance. Certain optimizations may be applied to improve performance, such as caching of {@link MethodHandle}s.
  *
+ * <p>Whether a method has a default implementation, either as one of the common {@link Object} methods or as a
+ * {@code default} method on an interface, is decided once per {@link Method} and cached per declaring class. Interface
+ * {@code default} methods are invoked through a special-invoker {@link MethodHandle}, obtained through a private lookup
+ * in the declaring interface.
+ *
  * @param <T> the type of the target instance
  *
  * @since 0.5.0
@@ -40,6 +48,15 @@
  */
 public class ReflectionProxyMethodInterceptHandler<T> implements ProxyMethodInterceptHandler<T>, ProxyObject<T> {
 
+    private static final ClassValue<Map<Method, DefaultMethodDispatch>> DISPATCH_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Method, DefaultMethodDispatch> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final DefaultMethodDispatch NO_DEFAULT_METHOD = new DefaultMethodDispatch(DispatchKind.NONE, null);
+
     private final ProxyMethodInvoker<T> methodInvoker;
     private final ProxyManager<T> manager;
 
@@ -103,7 +120,13 @@ protected Object handleNonDelegateMethod(T self, T callbackTarget, Invokable sou
             result = proxy.invoke(callbackTarget, args);
         }
         else {
-            result = this.methodInvoker.invokeReal(self, source, source, args);
+            DefaultMethodDispatch dispatch = this.dispatch(source);
+            if (dispatch.kind() == DispatchKind.INTERFACE_DEFAULT) {
+                result = dispatch.invoker().invokeExact((Object) self, args);
+            }
+            else {
+                result = this.methodInvoker.invokeReal(self, source, source, args);
+            }
         }
         return result;
     }
@@ -119,23 +142,73 @@ protected Object handleNonDelegateMethod(T self, T callbackTarget, Invokable sou
      * @return the result of the invocation, if the method is a default method
      */
     protected Option<Object> tryInvokeDefaultMethod(T self, Invokable target, Object[] args) {
-        return Option.of(() -> {
-            if (this.isEqualsMethod(target)){
-                return this.proxyEquals(args[0]);
-            }
-            if (this.isToStringMethod(target)) {
-                return this.proxyToString(self);
-            }
-            if (this.isHashCodeMethod(target)) {
-                return this.proxyHashCode(self);
-            }
+        return switch (this.dispatch(target).kind()) {
+            case EQUALS -> Option.of(this.proxyEquals(args[0]));
+            case TO_STRING -> Option.of(this.proxyToString(self));
+            case HASH_CODE -> Option.of(this.proxyHashCode(self));
+            case INTERFACE_DEFAULT, NONE -> Option.empty();
+        };
+    }
+
+    /**
+     * Returns the cached dispatch decision for the given method. If the method is not backed by a {@link Method},
+     * the decision is computed on every call, as there is no stable key to cache it by.
+     *
+     * @param target the method that is invoked
+     * @return the dispatch decision for the given method
+     */
+    private DefaultMethodDispatch dispatch(Invokable target) {
+        if (target instanceof MethodInvokable methodInvokable && methodInvokable.toMethod() != null) {
+            Method method = methodInvokable.toMethod();
+            return DISPATCH_CACHE.get(method.getDeclaringClass())
+                    .computeIfAbsent(method, key -> this.resolveDispatch(target, key));
+        }
+        return this.resolveDispatch(target, null);
+    }
 
-            throw new UnsupportedOperationException("Unsupported default method: " + target.qualifiedName());
-        });
+    private DefaultMethodDispatch resolveDispatch(Invokable target, Method method) {
+        if (this.isEqualsMethod(target)) {
+            return new DefaultMethodDispatch(DispatchKind.EQUALS, null);
+        }
+        if (this.isToStringMethod(target)) {
+            return new DefaultMethodDispatch(DispatchKind.TO_STRING, null);
+        }
+        if (this.isHashCodeMethod(target)) {
+            return new DefaultMethodDispatch(DispatchKind.HASH_CODE, null);
+        }
+        if (method != null && method.isDefault()) {
+            // If the declaring interface is not open to this module, fall back to regular invocation
+            return ProxyMethodHandles.specialInvoker(method)
+                    .map(invoker -> new DefaultMethodDispatch(DispatchKind.INTERFACE_DEFAULT, invoker))
+                    .orElse(NO_DEFAULT_METHOD);
+        }
+        return NO_DEFAULT_METHOD;
     }
 
     @Override
     public ProxyManager<T> manager() {
         return this.manager;
     }
+
+    /**
+     * The kind of default implementation that is available for a method.
+     */
+    private enum DispatchKind {
+        EQUALS,
+        TO_STRING,
+        HASH_CODE,
+        INTERFACE_DEFAULT,
+        NONE,
+    }
+
+    /**
+     * A cached dispatch decision for a single method. If the method is an interface {@code default} method, the
+     * {@code invoker} is a special-invoker handle of type {@code (Object, Object[])Object}, which accepts the receiver
+     * as its first argument.
+     *
+     * @param kind the kind of default implementation
+     * @param invoker the special-invoker handle, or {@code null} if the method is not an interface default method
+     */
+    private record DefaultMethodDispatch(DispatchKind kind, MethodHandle invoker) {
+    }
 }
@@ -17,12 +17,9 @@
 package org.dockbox.hartshorn.proxy.advice;
 
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.dockbox.hartshorn.proxy.ProxyManager;
 import org.dockbox.hartshorn.proxy.advice.intercept.CustomInvocation;
@@ -33,15 +30,18 @@
 import org.dockbox.hartshorn.proxy.advice.intercept.ProxyMethodInterceptor;
 import org.dockbox.hartshorn.proxy.advice.stub.MethodStub;
 import org.dockbox.hartshorn.proxy.advice.stub.MethodStubContext;
-import org.dockbox.hartshorn.util.TypeUtils;
 import org.dockbox.hartshorn.util.introspect.Introspector;
-import org.dockbox.hartshorn.util.introspect.MethodInvoker;
 import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.option.Option;
 
 /**
  * Standard implementation of {@link ProxyMethodInvoker} that uses reflection to invoke methods on the target
  * instance. Certain optimizations may be applied to improve performance, such as caching of {@link MethodHandle}s.
  *
+ * <p>Methods backed by a {@link Method} are invoked through unbound {@link MethodHandle}s, which take the receiver as
+ * their first argument. Handles are cached per {@link Method}, so they are shared by all proxies of the same type,
+ * and are invoked exactly without adapting the arguments on every call.
+ *
  * @param <T> the type of the target instance
  *
  * @since 0.5.0
@@ -49,8 +49,6 @@
  */
 public class ReflectionProxyMethodInvoker<T> implements ProxyMethodInvoker<T> {
 
-    private static final Map<Invokable, MethodHandle> METHOD_HANDLE_CACHE = new ConcurrentHashMap<>();
-
     private final Introspector introspector;
     private final ProxyManager<T> manager;
     private final ProxyMethodInterceptor<T> interceptor;
@@ -69,7 +67,7 @@ public <R> R invokeInterceptor(T self, MethodView<T, R> source, Object[] args, M
 
     @Override
     public Object invokeDelegate(T self, Invokable target, Object[] args) throws Throwable {
-        return this.invokeAccessible(self, target, args, (method, instance, interceptorArgs) -> method.invoke(this.manager.delegate().get(), interceptorArgs));
+        return this.invokeAccessible(this.manager.delegate().get(), target, args);
     }
 
     @Override
@@ -83,8 +81,8 @@ public Object invokeReal(T self, Invokable source, Invokable target, Object[] ar
     }
 
     /**
-     * Invokes the given {@code target} method on the given {@code self} instance, using the given {@code args}. This
-     * ensures the method is accessible before invoking it.
+     * Invokes the given {@code target} method on the given {@code self} instance, using the given {@code args}. The
+     * method is invoked through a cached handle where possible, see {@link #invokeAccessible(Object, Invokable, Object[])}.
      *
      * @param self the instance on which the method is invoked
      * @param target the method that is invoked
@@ -92,7 +90,7 @@ public Object invokeReal(T self, Invokable source, Invokable target, Object[] ar
      * @return the result of the method invocation
      */
     protected Object invokeSelf(T self, Invokable target, Object[] args) throws Throwable {
-        return this.invokeAccessible(self, target, args, (method, instance, interceptorArgs) -> method.invoke(self, interceptorArgs));
+        return this.invokeAccessible(self, target, args);
     }
 
     /**
@@ -107,20 +105,13 @@ protected Object invokeSelf(T self, Invokable target, Object[] args) throws Thro
      * @throws Throwable if the method invocation fails
      */
     protected Object invokeDefault(T self, Invokable source, Object[] args, Class<T> declaringType) throws Throwable {
-        MethodHandle handle;
-        if (METHOD_HANDLE_CACHE.containsKey(source)) {
-            handle = METHOD_HANDLE_CACHE.get(source);
-        }
-        else {
-            handle = MethodHandles.lookup().findSpecial(
-                    declaringType,
-                    source.name(),
-                    MethodType.methodType(source.returnType(), source.parameterTypes()),
-                    declaringType
-            ).bindTo(self);
-            METHOD_HANDLE_CACHE.put(source, handle);
+        if (source instanceof MethodInvokable methodInvokable && methodInvokable.toMethod() != null) {
+            Option<MethodHandle> handle = ProxyMethodHandles.specialInvoker(methodInvokable.toMethod());
+            if (handle.present()) {
+                return handle.get().invokeExact((Object) self, args);
+            }
         }
-        return handle.invokeWithArguments(args);
+        return this.invokeStub(self, source, source, args);
     }
 
     /**
@@ -184,35 +175,45 @@ protected Object invokeStub(T self, Invokable source, Invokable target, Object[]
     }
 
     /**
-     * Ensures the given method is accessible before invoking it. If the method is a {@link MethodInvokable}, the
-     * given {@link MethodInvoker} is used to invoke the method. Otherwise, the method is invoked in whichever way
-     * the given {@link Invokable} supports. If the invocation of either option throws an exception, the default value
-     * for the method's return type is returned.
+     * Invokes the given method on the given receiver. If the method is a {@link MethodInvokable}, it is invoked through
+     * a cached {@link MethodHandle}. Otherwise, the method is invoked in whichever way the given {@link Invokable}
+     * supports. If the invocation yields no value, or the {@link Invokable} fails to invoke, the default value for the
+     * method's return type is returned.
      *
-     * @param self the instance on which the method is invoked
+     * @param receiver the instance on which the method is invoked
      * @param target the method that is invoked
      * @param args the arguments that are passed to the method
-     * @param function the function that is used to invoke the method
      * @return the result of the method invocation
+     * @throws Throwable if the method invocation fails
      */
-    protected Object invokeAccessible(T self, Invokable target, Object[] args, MethodInvoker<Object, T> function) throws Throwable {
-        target.setAccessible(true);
-
+    protected Object invokeAccessible(Object receiver, Invokable target, Object[] args) throws Throwable {
         Object result;
-        if (target instanceof MethodInvokable methodInvokable) {
-            result = function.invoke(TypeUtils.unchecked(methodInvokable.toIntrospector(), MethodView.class), self, args)
-                    .orElseGet(() -> this.introspector.introspect(target.returnType()).defaultOrNull());
+        if (target instanceof MethodInvokable methodInvokable && methodInvokable.toMethod() != null) {
+            result = this.invokeMethod(receiver, methodInvokable.toMethod(), args);
         }
         else {
             try {
-                result = target.invoke(self, args);
+                result = target.invoke(receiver, args);
             }
             catch (Throwable e) {
-                result = this.introspector.introspect(target.returnType()).defaultOrNull();
+                result = null;
             }
         }
+        return result != null ? result : this.introspector.introspect(target.returnType()).defaultOrNull();
+    }
 
-        target.setAccessible(false);
-        return result;
+    private Object invokeMethod(Object receiver, Method method, Object[] args) throws Throwable {
+        Option<MethodHandle> handle = ProxyMethodHandles.virtualInvoker(method);
+        if (handle.present()) {
+            return handle.get().invokeExact(receiver, args);
+        }
+        // Method is not accessible through a handle, make it accessible once and use plain reflection instead
+        method.trySetAccessible();
+        try {
+            return method.invoke(receiver, args);
+        }
+        catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
     }
 }
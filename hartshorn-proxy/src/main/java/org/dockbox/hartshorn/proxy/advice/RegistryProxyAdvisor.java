@@ -52,7 +52,23 @@ public <U> U safeWrapIntercept(ProxyCallbackContext<T> context, ProxyInterceptFu
                 .method(method)
                 .wrappers();
         MethodWrapper<T> methodWrapper = new MethodWrapperList<>(wrappers);
+        return safeWrapIntercept(methodWrapper, context, interceptFunction);
+    }
 
+    /**
+     * Executes the given {@link ProxyInterceptFunction} in a safe manner, while ensuring the given, already resolved,
+     * {@link MethodWrapper} is applied to the proxy method invocation. This allows callers which resolved the wrappers
+     * of a method ahead of time to apply them without resolving them again.
+     *
+     * @param methodWrapper the wrapper to apply
+     * @param context the context of the proxy method invocation
+     * @param interceptFunction the function to execute
+     * @param <T> the type of the proxy instance
+     * @param <U> the type of the result
+     * @return the result of the function
+     * @throws Throwable any exception that is thrown by the function
+     */
+    public static <T, U> U safeWrapIntercept(MethodWrapper<T> methodWrapper, ProxyCallbackContext<T> context, ProxyInterceptFunction<U> interceptFunction) throws Throwable {
         methodWrapper.acceptBefore(context);
         try {
             U result = interceptFunction.handleInterception();
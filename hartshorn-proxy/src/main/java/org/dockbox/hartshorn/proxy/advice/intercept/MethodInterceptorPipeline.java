@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.proxy.advice.intercept;
+
+import org.dockbox.hartshorn.proxy.advice.wrap.MethodWrapper;
+import org.dockbox.hartshorn.util.introspect.view.MethodView;
+import org.dockbox.hartshorn.util.option.Option;
+
+/**
+ * An immutable, pre-resolved view of everything a {@link ProxyAdvisorMethodInterceptor} needs to handle a call to a
+ * single method. Pipelines are assembled on the first call to a method, and reused for later calls for as long as the
+ * advisor registry of the proxy remains unchanged.
+ *
+ * @param methodView the introspected view of the method
+ * @param interceptor the interceptor of the method, if any
+ * @param wrapper the combined wrappers of the method, or {@code null} if the method has no wrappers
+ * @param adviseWrapping whether wrapping should be delegated to the proxy advisor, as its wrappers cannot be resolved
+ *                       ahead of time
+ * @param hasParameters whether the method declares any parameters
+ * @param revision the revision of the advisor registry the pipeline was created for, or a negative value if the
+ *                 registry does not expose its revision
+ * @param <T> the type of the proxy instance
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+record MethodInterceptorPipeline<T>(
+        MethodView<T, ?> methodView,
+        Option<MethodInterceptor<T, Object>> interceptor,
+        MethodWrapper<T> wrapper,
+        boolean adviseWrapping,
+        boolean hasParameters,
+        long revision
+) {
+
+    /**
+     * Returns whether calls to the method need a callback context, which is only the case if the method has
+     * wrappers, or if wrapping is delegated to the proxy advisor.
+     *
+     * @return whether calls to the method need a callback context
+     */
+    boolean requiresCallbackContext() {
+        return this.adviseWrapping || this.wrapper != null;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.proxy.advice.intercept;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns stable, dense ordinals to the methods that are invoked on proxies of a given type. Ordinals are assigned on
+ * the first invocation of a method, and are shared by all proxies of the same type. This allows per-proxy state to be
+ * kept in arrays indexed by ordinal, rather than in a map per proxy instance. Ordinals are kept per proxied type
+ * through a {@link ClassValue}, so they do not prevent the type from being unloaded.
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+final class MethodOrdinals {
+
+    private static final ClassValue<MethodOrdinals> ORDINALS = new ClassValue<>() {
+        @Override
+        protected MethodOrdinals computeValue(Class<?> type) {
+            return new MethodOrdinals();
+        }
+    };
+
+    private final Map<Method, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    private MethodOrdinals() {
+    }
+
+    /**
+     * Returns the method ordinals for proxies of the given type.
+     *
+     * @param type the proxied type
+     * @return the method ordinals for the given type
+     */
+    static MethodOrdinals of(Class<?> type) {
+        return ORDINALS.get(type);
+    }
+
+    /**
+     * Returns the ordinal of the given method, assigning a new ordinal if the method was not invoked before.
+     *
+     * @param method the method
+     * @return the ordinal of the method
+     */
+    int ordinal(Method method) {
+        Integer ordinal = this.ordinals.get(method);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return this.ordinals.computeIfAbsent(method, key -> this.nextOrdinal.getAndIncrement());
+    }
+}
@@ -16,13 +16,26 @@
 
 package org.dockbox.hartshorn.proxy.advice.intercept;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.dockbox.hartshorn.proxy.Proxy;
 import org.dockbox.hartshorn.proxy.ProxyOrchestrator;
 import org.dockbox.hartshorn.proxy.ProxyManager;
 import org.dockbox.hartshorn.proxy.advice.IntrospectionProxyResultValidator;
+import org.dockbox.hartshorn.proxy.advice.MethodAdvisorResolver;
+import org.dockbox.hartshorn.proxy.advice.ProxyAdvisor;
+import org.dockbox.hartshorn.proxy.advice.ProxyAdvisorResolver;
 import org.dockbox.hartshorn.proxy.advice.ProxyMethodInterceptHandler;
 import org.dockbox.hartshorn.proxy.advice.ProxyMethodInvoker;
 import org.dockbox.hartshorn.proxy.advice.ProxyResultValidator;
 import org.dockbox.hartshorn.proxy.advice.ReflectionProxyMethodInterceptHandler;
+import org.dockbox.hartshorn.proxy.advice.RegistryProxyAdvisor;
+import org.dockbox.hartshorn.proxy.advice.registry.StateAwareAdvisorRegistry;
+import org.dockbox.hartshorn.proxy.advice.wrap.MethodWrapper;
+import org.dockbox.hartshorn.proxy.advice.wrap.MethodWrapperList;
 import org.dockbox.hartshorn.proxy.advice.wrap.ProxyCallbackContext;
 import org.dockbox.hartshorn.proxy.loaders.ProxyParameterLoaderContext;
 import org.dockbox.hartshorn.proxy.loaders.UnproxyingParameterLoader;
@@ -42,6 +55,13 @@
  * on the target instance. The actual invocation is delegated to the {@link ProxyMethodInterceptHandler}, which will
  * typically handle the invocation using configured advisors in its {@link ProxyMethodInvoker}.
  *
+ * <p>Advisors of a method are resolved once, on the first call to the method, into an immutable pipeline. Pipelines
+ * are stored in an array indexed by the {@link MethodOrdinals ordinal} of the method, and are rebuilt when the advisor
+ * registry of the proxy is modified. Calls to methods without wrappers do not allocate a {@link ProxyCallbackContext}.
+ *
+ * <p>As the advisor registry is shared between all proxies created by the same factory, calls to {@link Proxy#manager()}
+ * are not resolved through the registry, but answered directly with the manager of this interceptor.
+ *
  * @param <T> the type of the target instance
  *
  * @since 0.5.0
@@ -50,6 +70,18 @@
 @SuppressWarnings("ProhibitedExceptionDeclared")
 public class ProxyAdvisorMethodInterceptor<T> implements ProxyMethodInterceptor<T> {
 
+    private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+    private static final Method MANAGER_ACCESSOR;
+
+    static {
+        try {
+            MANAGER_ACCESSOR = Proxy.class.getDeclaredMethod("manager");
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private final ProxyManager<T> manager;
     private final Introspector introspector;
     private final ProxyMethodInvoker<T> methodInvoker;
@@ -57,6 +89,10 @@
     private final ProxyMethodInterceptHandler<T> interceptHandler;
     private final ProxyOrchestrator proxyOrchestrator;
     private final ParameterLoader parameterLoader = new UnproxyingParameterLoader();
+    private final MethodOrdinals methodOrdinals;
+    private final boolean overridesInterceptAndNotify;
+
+    private volatile MethodInterceptorPipeline<T>[] pipelines = newPipelines(0);
 
     public ProxyAdvisorMethodInterceptor(ProxyManager<T> manager, ProxyOrchestrator proxyOrchestrator) {
         this.manager = manager;
@@ -65,6 +101,23 @@ public ProxyAdvisorMethodInterceptor(ProxyManager<T> manager, ProxyOrchestrator
         this.resultValidator = new IntrospectionProxyResultValidator(this.introspector);
         this.interceptHandler = new ReflectionProxyMethodInterceptHandler<>(this);
         this.methodInvoker = this.interceptHandler.methodInvoker();
+        this.methodOrdinals = MethodOrdinals.of(manager.targetClass());
+        this.overridesInterceptAndNotify = overridesInterceptAndNotify(this.getClass());
+    }
+
+    private static boolean overridesInterceptAndNotify(Class<?> type) {
+        for (Class<?> current = type; current != ProxyAdvisorMethodInterceptor.class; current = current.getSuperclass()) {
+            try {
+                Method method = current.getDeclaredMethod("interceptAndNotify", Object.class, MethodInvokable.class,
+                        Invokable.class, Object.class, MethodView.class, CustomInvocation.class, Object[].class);
+                // Subclasses which specialize T declare a bridge method with this signature, which also indicates an override
+                return method.getDeclaringClass() == current;
+            }
+            catch (NoSuchMethodException e) {
+                // Not overridden at this level, continue with the superclass
+            }
+        }
+        return false;
     }
 
     @Override
@@ -73,37 +126,158 @@ public ProxyManager<T> manager() {
     }
 
     @Override
+    @SuppressWarnings("removal")
     public Object intercept(Object self, MethodInvokable source, Invokable proxy, Object[] args) throws Throwable {
         T instance = this.manager().targetClass().cast(self);
         T callbackTarget = this.manager().delegate().orElse(instance);
-        MethodView<T, ?> methodView = TypeUtils.unchecked(source.toIntrospector(), MethodView.class);
+        MethodInterceptorPipeline<T> pipeline = this.pipeline(source);
 
-        CustomInvocation<?> customInvocation = this.createDefaultInvocation(source, proxy, callbackTarget);
-        Object[] arguments = this.resolveArgs(source, self, args);
-
-        Object result = this.interceptAndNotify(instance, source, proxy, callbackTarget, methodView, customInvocation, arguments);
+        Object result;
+        if (this.overridesInterceptAndNotify) {
+            // Subclasses which override the deprecated hook keep receiving all calls, at the cost of eager invocations
+            Object[] arguments = this.resolveArgs(source, self, args);
+            CustomInvocation<?> customInvocation = this.createDefaultInvocation(source, proxy, callbackTarget);
+            result = this.interceptAndNotify(instance, source, proxy, callbackTarget, pipeline.methodView(), customInvocation, arguments);
+        }
+        else {
+            Object[] arguments = pipeline.hasParameters() ? this.resolveArgs(source, self, args) : EMPTY_ARGUMENTS;
+            result = this.interceptAndNotify(instance, source, proxy, callbackTarget, pipeline, Option.empty(), arguments);
+        }
         return this.resultValidator.validateResult(source, result);
     }
 
+    /**
+     * Intercepts the given method, notifying any wrappers of the method. This resolves the pipeline of the given
+     * method, and invokes it using the given custom invocation.
+     *
+     * @param self the proxy instance
+     * @param source the method that is invoked
+     * @param proxy the proxy method
+     * @param callbackTarget the instance that is passed to wrappers and interceptors
+     * @param methodView the introspected view of the method
+     * @param customInvocation the default invocation to pass to the interceptor of the method
+     * @param arguments the arguments of the method call
+     * @return the result of the method call
+     * @throws Throwable if the method call fails
+     *
+     * @deprecated methods are now handled through pre-resolved pipelines by {@link #intercept(Object, MethodInvokable, Invokable, Object[])}.
+     *             Overriding this method is still supported, but causes a default invocation to be created for every
+     *             call, rather than only for intercepted methods
+     */
+    @Deprecated(since = "0.7.0", forRemoval = true)
     protected Object interceptAndNotify(T self, MethodInvokable source, Invokable proxy, T callbackTarget,
-                                      MethodView<T, ?> methodView, CustomInvocation<?> customInvocation,
+                                        MethodView<T, ?> methodView, CustomInvocation<?> customInvocation,
+                                        Object[] arguments) throws Throwable {
+        MethodInterceptorPipeline<T> pipeline = this.pipeline(source);
+        return this.interceptAndNotify(self, source, proxy, callbackTarget, pipeline, Option.of(customInvocation), arguments);
+    }
+
+    private Object interceptAndNotify(T self, MethodInvokable source, Invokable proxy, T callbackTarget,
+                                      MethodInterceptorPipeline<T> pipeline, Option<CustomInvocation<?>> customInvocation,
                                       Object[] arguments) throws Throwable {
 
-        ProxyCallbackContext<T> callbackContext = new ProxyCallbackContext<>(callbackTarget, TypeUtils.unchecked(self, Object.class), methodView, arguments);
-        return this.manager().advisor().safeWrapIntercept(callbackContext, () -> {
-            Option<MethodInterceptor<T, Object>> interceptor = this.manager()
-                    .advisor()
-                    .resolver()
-                    .method(source.toMethod())
-                    .interceptor();
+        if (!pipeline.requiresCallbackContext()) {
+            return this.invokePipeline(self, source, proxy, callbackTarget, pipeline, customInvocation, arguments);
+        }
+
+        ProxyCallbackContext<T> callbackContext = new ProxyCallbackContext<>(callbackTarget, TypeUtils.unchecked(self, Object.class), pipeline.methodView(), arguments);
+        if (pipeline.adviseWrapping()) {
+            return this.manager().advisor().safeWrapIntercept(callbackContext,
+                    () -> this.invokePipeline(self, source, proxy, callbackTarget, pipeline, customInvocation, arguments));
+        }
+        return RegistryProxyAdvisor.safeWrapIntercept(pipeline.wrapper(), callbackContext,
+                () -> this.invokePipeline(self, source, proxy, callbackTarget, pipeline, customInvocation, arguments));
+    }
+
+    private Object invokePipeline(T self, MethodInvokable source, Invokable proxy, T callbackTarget,
+                                  MethodInterceptorPipeline<T> pipeline, Option<CustomInvocation<?>> customInvocation,
+                                  Object[] arguments) throws Throwable {
+        if (pipeline.interceptor().present()) {
+            CustomInvocation<?> invocation = customInvocation.orElseGet(() -> this.createDefaultInvocation(source, proxy, callbackTarget));
+            return this.interceptHandler.handleInterceptedMethod(source, callbackTarget, invocation, arguments, pipeline.interceptor().get());
+        }
+        else {
+            return this.interceptHandler.handleNonInterceptedMethod(self, source, proxy, callbackTarget, arguments);
+        }
+    }
+
+    /**
+     * Returns the pipeline for the given method. If no pipeline exists yet, or the advisor registry was modified
+     * since the pipeline was created, a new pipeline is created and stored for later calls.
+     *
+     * @param source the method that is invoked
+     * @return the pipeline for the given method
+     */
+    private MethodInterceptorPipeline<T> pipeline(MethodInvokable source) {
+        long revision = this.registryRevision();
+        if (revision < 0) {
+            // Registry does not expose modifications, so pipelines cannot be safely reused
+            return this.createPipeline(source, revision);
+        }
 
-            if (interceptor.present()) {
-                return this.interceptHandler.handleInterceptedMethod(source, callbackTarget, customInvocation, arguments, interceptor.get());
+        int ordinal = this.methodOrdinals.ordinal(source.toMethod());
+        MethodInterceptorPipeline<T>[] pipelines = this.pipelines;
+        if (ordinal < pipelines.length) {
+            MethodInterceptorPipeline<T> pipeline = pipelines[ordinal];
+            if (pipeline != null && pipeline.revision() == revision) {
+                return pipeline;
             }
-            else {
-                return this.interceptHandler.handleNonInterceptedMethod(self, source, proxy, callbackTarget, arguments);
+        }
+
+        MethodInterceptorPipeline<T> pipeline = this.createPipeline(source, revision);
+        synchronized (this) {
+            MethodInterceptorPipeline<T>[] current = this.pipelines;
+            if (ordinal >= current.length) {
+                current = Arrays.copyOf(current, Math.max(ordinal + 1, current.length * 2));
+            }
+            // Pipelines are immutable, so a racy publication of an individual slot is safe
+            current[ordinal] = pipeline;
+            this.pipelines = current;
+        }
+        return pipeline;
+    }
+
+    private MethodInterceptorPipeline<T> createPipeline(MethodInvokable source, long revision) {
+        Method method = source.toMethod();
+        MethodView<T, ?> methodView = TypeUtils.unchecked(source.toIntrospector(), MethodView.class);
+        ProxyAdvisor<T> advisor = this.manager().advisor();
+        MethodAdvisorResolver<T, Object> resolver = advisor.resolver().method(method);
+
+        // The advisor registry is shared by all proxies of the same factory, so the manager is resolved per instance
+        Option<MethodInterceptor<T, Object>> interceptor = MANAGER_ACCESSOR.equals(method)
+                ? Option.of(context -> this.manager)
+                : resolver.interceptor();
+
+        MethodWrapper<T> wrapper = null;
+        boolean adviseWrapping = !(advisor instanceof RegistryProxyAdvisor<T>);
+        if (!adviseWrapping) {
+            Collection<MethodWrapper<T>> wrappers = resolver.wrappers();
+            if (!wrappers.isEmpty()) {
+                wrapper = new MethodWrapperList<>(List.copyOf(wrappers));
             }
-        });
+        }
+
+        return new MethodInterceptorPipeline<>(
+                methodView,
+                interceptor,
+                wrapper,
+                adviseWrapping,
+                method.getParameterCount() > 0,
+                revision
+        );
+    }
+
+    private long registryRevision() {
+        ProxyAdvisorResolver<T> resolver = this.manager().advisor().resolver();
+        if (resolver instanceof StateAwareAdvisorRegistry<T> registry) {
+            return registry.state().revision();
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> MethodInterceptorPipeline<T>[] newPipelines(int size) {
+        return (MethodInterceptorPipeline<T>[]) new MethodInterceptorPipeline<?>[size];
     }
 
     protected CustomInvocation<?> createDefaultInvocation(Invokable source, Invokable proxy, T callbackTarget) {
@@ -49,4 +49,16 @@ public interface AdvisorRegistryState {
      */
     void modify();
 
+    /**
+     * Returns the current revision of the registry. The revision is incremented on every modification, regardless of
+     * whether the registry is {@link #trackState(boolean) tracking its state}. This allows consumers to cache values
+     * derived from the registry, and to detect when these values have become outdated. States which do not track
+     * their revision return a negative value, indicating that derived values should not be cached.
+     *
+     * @return the current revision of the registry, or a negative value if revisions are not tracked
+     */
+    default long revision() {
+        return -1;
+    }
+
 }
@@ -16,9 +16,11 @@
 
 package org.dockbox.hartshorn.proxy.advice.registry;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Default implementation of {@link AdvisorRegistryState}. This implementation tracks whether the registry has been
- * modified since its initial creation.
+ * modified since its initial creation, and keeps a revision counter that is incremented on every modification.
  *
  * @since 0.5.0
  * @author Guus Lieben
@@ -27,6 +29,7 @@ public class SimpleAdvisorRegistryState implements AdvisorRegistryState {
 
     private boolean trackingState = true;
     private boolean modified = false;
+    private final AtomicLong revision = new AtomicLong();
 
     @Override
     public void trackState(boolean trackingState) {
@@ -40,8 +43,14 @@ public boolean modified() {
 
     @Override
     public void modify() {
+        this.revision.incrementAndGet();
         if (this.trackingState) {
             this.modified = true;
         }
     }
+
+    @Override
+    public long revision() {
+        return this.revision.get();
+    }
 }
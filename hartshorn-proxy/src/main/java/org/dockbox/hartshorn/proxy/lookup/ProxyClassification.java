@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.proxy.lookup;
+
+import org.dockbox.hartshorn.util.introspect.ProxyLookup;
+
+import java.util.List;
+
+/**
+ * The cached classification of a single class, as determined by the {@link ProxyLookup}s that were known to a
+ * proxy orchestrator when the class was first inspected. A class is considered a proxy if at least one lookup
+ * recognizes it as such. The recognizing lookups are retained in registration order, so that operations which
+ * require a backend, such as unproxying an instance, only consult the lookups that are able to handle the class.
+ *
+ * <p>The target class of a proxy is not part of the classification, as it is owned by the proxy's manager rather
+ * than its class. Backends resolve it through the instance, which does not require any further type checks once
+ * the backend is known.
+ *
+ * @param lookups the lookups that recognize the class as a proxy, in registration order
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public record ProxyClassification(List<ProxyLookup> lookups) {
+
+    private static final ProxyClassification NOT_A_PROXY = new ProxyClassification(List.of());
+
+    public ProxyClassification {
+        lookups = List.copyOf(lookups);
+    }
+
+    /**
+     * Classifies the given class using the given lookups.
+     *
+     * @param type the class to classify
+     * @param lookups the lookups to consult
+     * @return the classification of the class
+     */
+    public static ProxyClassification classify(Class<?> type, List<ProxyLookup> lookups) {
+        List<ProxyLookup> backends = lookups.stream()
+                .filter(lookup -> lookup.isProxy(type))
+                .toList();
+        return backends.isEmpty() ? NOT_A_PROXY : new ProxyClassification(backends);
+    }
+
+    /**
+     * Returns whether the classified class is a proxy, which is the case if at least one lookup recognized it.
+     *
+     * @return {@code true} if the class is a proxy, {@code false} otherwise
+     */
+    public boolean proxy() {
+        return !this.lookups.isEmpty();
+    }
+}
@@ -23,6 +23,7 @@
 import org.dockbox.hartshorn.inject.annotations.configuration.Prototype;
 import org.dockbox.hartshorn.inject.annotations.configuration.Singleton;
 import org.dockbox.hartshorn.inject.collection.ComponentCollection;
+import org.dockbox.hartshorn.inject.condition.ConditionMatcher;
 import org.dockbox.hartshorn.launchpad.ApplicationContext;
 import org.dockbox.hartshorn.launchpad.condition.RequiresActivator;
 import org.dockbox.hartshorn.reporting.aggregate.AggregateDiagnosticsReporter;
@@ -31,6 +32,7 @@
 import org.dockbox.hartshorn.reporting.collect.StandardDiagnosticsReportCollector;
 import org.dockbox.hartshorn.reporting.component.ComponentDiagnosticsReporter;
 import org.dockbox.hartshorn.reporting.component.ComponentProcessorDiagnosticsReporter;
+import org.dockbox.hartshorn.reporting.component.ConditionMatcherDiagnosticsReporter;
 import org.dockbox.hartshorn.reporting.system.SystemDiagnosticsReporter;
 
 /**
@@ -128,6 +130,23 @@ public CategorizedDiagnosticsReporter componentProcessorDiagnosticsReporter(Appl
         return new ComponentProcessorDiagnosticsReporter(applicationContext);
     }
 
+    /**
+     * Configures a {@link CategorizedDiagnosticsReporter reporter} that reports on the memoized condition results of
+     * the application's {@link ConditionMatcher}. This reporter is capable of reporting the number of cached results,
+     * as well as cache hits, misses and invalidations.
+     *
+     * @param conditionMatcher the condition matcher of the application
+     * @return a reporter that reports on the memoized condition results of the application
+     *
+     * @see ConditionMatcherDiagnosticsReporter
+     */
+    @Singleton
+    @CompositeMember
+    @SupportPriority
+    public CategorizedDiagnosticsReporter conditionMatcherDiagnosticsReporter(ConditionMatcher conditionMatcher) {
+        return new ConditionMatcherDiagnosticsReporter(conditionMatcher);
+    }
+
     /**
      * Configures a {@link DiagnosticsReportCollector} that is capable of collecting all diagnostics and writing them
      * to a {@link DiagnosticsReport}.
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.reporting.component;
+
+import org.dockbox.hartshorn.inject.condition.ConditionCacheStatistics;
+import org.dockbox.hartshorn.inject.condition.ConditionMatcher;
+import org.dockbox.hartshorn.reporting.CategorizedDiagnosticsReporter;
+import org.dockbox.hartshorn.reporting.DiagnosticsPropertyCollector;
+
+/**
+ * A diagnostics reporter that reports the state of the memoized condition results of a {@link ConditionMatcher}.
+ * This includes the number of cached results, and the number of cache hits, misses and invalidations.
+ *
+ * @see ConditionMatcher#statistics()
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public class ConditionMatcherDiagnosticsReporter implements CategorizedDiagnosticsReporter {
+
+    public static final String CONDITIONS_CATEGORY = "conditions";
+
+    private final ConditionMatcher conditionMatcher;
+
+    public ConditionMatcherDiagnosticsReporter(ConditionMatcher conditionMatcher) {
+        this.conditionMatcher = conditionMatcher;
+    }
+
+    @Override
+    public void report(DiagnosticsPropertyCollector collector) {
+        ConditionCacheStatistics statistics = this.conditionMatcher.statistics();
+        collector.property("cache").writeDelegate(cacheCollector -> {
+            cacheCollector.property("size").writeInt(statistics.size());
+            cacheCollector.property("hits").writeLong(statistics.hits());
+            cacheCollector.property("misses").writeLong(statistics.misses());
+            cacheCollector.property("invalidations").writeLong(statistics.invalidations());
+        });
+    }
+
+    @Override
+    public String category() {
+        return CONDITIONS_CATEGORY;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.SequencedMap;
+import java.util.SequencedSet;
+import java.util.function.BiConsumer;
+
+import org.dockbox.hartshorn.util.TypeUtils;
+
+/**
+ * An immutable {@link MultiMap} implementation that holds a point-in-time copy of another {@link MultiMap}. Unlike
+ * {@link UnmodifiableMultiMap}, which wraps a live map and copies its contents on every read, this implementation
+ * copies its contents once upon construction. All read operations return pre-computed, unmodifiable views without
+ * further allocation, which makes this implementation suitable for snapshots that are read frequently and replaced
+ * as a whole when the source changes.
+ *
+ * <p>The iteration order of both keys and values is the iteration order of the source map at the moment the copy
+ * was created. If the source map is a {@link NavigableMultiMap}, keys are therefore kept in sorted order.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class ImmutableMultiMap<K, V> implements MultiMap<K, V> {
+
+    private static final ImmutableMultiMap<?, ?> EMPTY = new ImmutableMultiMap<>(new HashSetMultiMap<>());
+
+    private final SequencedMap<K, Collection<V>> map;
+    private final List<V> allValues;
+    private final int size;
+
+    private ImmutableMultiMap(MultiMap<K, V> source) {
+        SequencedMap<K, Collection<V>> map = new LinkedHashMap<>();
+        List<V> allValues = new ArrayList<>();
+        // Iterate keys rather than entries, as only key sets are guaranteed to retain the order of sorted maps
+        for (K key : source.keySet()) {
+            List<V> values = List.copyOf(source.get(key));
+            if (!values.isEmpty()) {
+                map.put(key, values);
+                allValues.addAll(values);
+            }
+        }
+        this.map = Collections.unmodifiableSequencedMap(map);
+        this.allValues = List.copyOf(allValues);
+        this.size = this.allValues.size();
+    }
+
+    /**
+     * Creates an immutable copy of the given {@link MultiMap}. Keys without any values are not retained in the copy.
+     *
+     * @param map the map to copy
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return an immutable copy of the given map
+     */
+    public static <K, V> ImmutableMultiMap<K, V> copyOf(MultiMap<K, V> map) {
+        if (map instanceof ImmutableMultiMap<K, V> immutableMultiMap) {
+            return immutableMultiMap;
+        }
+        return new ImmutableMultiMap<>(map);
+    }
+
+    /**
+     * Returns an empty immutable {@link MultiMap}.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return an empty immutable map
+     */
+    public static <K, V> ImmutableMultiMap<K, V> of() {
+        return TypeUtils.unchecked(EMPTY, ImmutableMultiMap.class);
+    }
+
+    @Override
+    public Collection<V> allValues() {
+        return this.allValues;
+    }
+
+    @Override
+    public void putAll(K key, Collection<V> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(MultiMap<K, V> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Collection<V> get(K key) {
+        Collection<V> values = this.map.get(key);
+        return values != null ? values : List.of();
+    }
+
+    @Override
+    public SequencedSet<K> keySet() {
+        return this.map.sequencedKeySet();
+    }
+
+    @Override
+    public SequencedSet<Entry<K, Collection<V>>> entrySet() {
+        return this.map.sequencedEntrySet();
+    }
+
+    @Override
+    public Collection<Collection<V>> values() {
+        return this.map.sequencedValues();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        return this.allValues.contains(value);
+    }
+
+    @Override
+    public boolean containsEntry(K key, V value) {
+        return this.get(key).contains(value);
+    }
+
+    @Override
+    public Collection<V> remove(K key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int removeValue(V processor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forEach(BiConsumer<K, V> consumer) {
+        this.map.forEach((key, values) -> {
+            for (V value : values) {
+                consumer.accept(key, value);
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dockbox.hartshorn.util.function;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} which computes its value at most once, even when it is requested by multiple threads at the same
+ * time. The first thread to request the value computes it, while other threads wait for the computation to complete
+ * and then receive the same instance. Once computed, the value is safely published, and subsequent requests do not
+ * acquire any lock.
+ *
+ * <p>If the computation fails, the exception is propagated to the requesting thread and the value is not cached, so
+ * the next request attempts the computation again. Suppliers may not produce {@code null} values. Requesting the value
+ * from within its own computation is considered an error, and results in an {@link IllegalStateException} rather than
+ * unbounded recursion.
+ *
+ * <p>The delegate supplier is released once the value has been computed, so any state it captures can be collected.
+ *
+ * @param <T> the type of the supplied value
+ *
+ * @since 0.7.0
+ *
+ * @author Guus Lieben
+ */
+public final class SingleFlightSupplier<T> implements Supplier<T> {
+
+    private volatile T value;
+    private Supplier<? extends T> delegate;
+    private Thread computingThread;
+
+    private SingleFlightSupplier(Supplier<? extends T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a new {@link SingleFlightSupplier} which computes its value using the given delegate.
+     *
+     * @param delegate the supplier which computes the value
+     * @param <T> the type of the supplied value
+     * @return the single-flight supplier
+     */
+    public static <T> SingleFlightSupplier<T> of(Supplier<? extends T> delegate) {
+        return new SingleFlightSupplier<>(Objects.requireNonNull(delegate, "Delegate supplier cannot be null"));
+    }
+
+    @Override
+    public T get() {
+        T value = this.value;
+        if (value != null) {
+            return value;
+        }
+        synchronized (this) {
+            value = this.value;
+            if (value == null) {
+                if (this.computingThread == Thread.currentThread()) {
+                    throw new IllegalStateException("Value was requested while it is being computed by the same thread");
+                }
+                this.computingThread = Thread.currentThread();
+                try {
+                    value = Objects.requireNonNull(this.delegate.get(), "Single-flight supplier cannot produce null values");
+                    this.value = value;
+                    this.delegate = null;
+                }
+                finally {
+                    this.computingThread = null;
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns whether the value has been computed.
+     *
+     * @return {@code true} if the value has been computed, {@code false} otherwise
+     */
+    public boolean isComputed() {
+        return this.value != null;
+    }
+}
@@ -17,6 +17,7 @@
 package test.org.dockbox.hartshorn.util;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.dockbox.hartshorn.util.CollectionUtilities;
@@ -25,10 +26,12 @@
 import org.dockbox.hartshorn.util.collections.ConcurrentSetTreeMultiMap;
 import org.dockbox.hartshorn.util.collections.CopyOnWriteArrayListMultiMap;
 import org.dockbox.hartshorn.util.collections.HashSetMultiMap;
+import org.dockbox.hartshorn.util.collections.ImmutableMultiMap;
 import org.dockbox.hartshorn.util.collections.MultiMap;
 import org.dockbox.hartshorn.util.collections.SynchronizedArrayListMultiMap;
 import org.dockbox.hartshorn.util.collections.SynchronizedHashSetMultiMap;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -213,4 +216,42 @@ void testReplaceReplacesMatchingEntries(MultiMap<String, String> map) {
         Assertions.assertFalse(map.containsEntry("test", "test"));
         Assertions.assertTrue(map.containsEntry("test", "test2"));
     }
+
+    @Test
+    void testImmutableCopyRetainsKeyOrder() {
+        MultiMap<Integer, String> map = new ConcurrentSetTreeMultiMap<>();
+        List<Integer> keys = List.of(7, 3, 9, 1, 5, 8, 2, 6, 4, 0);
+        for (Integer key : keys) {
+            map.put(key, String.valueOf(key));
+        }
+
+        MultiMap<Integer, String> copy = ImmutableMultiMap.copyOf(map);
+        List<Integer> sortedKeys = keys.stream().sorted().toList();
+        Assertions.assertEquals(sortedKeys, List.copyOf(copy.keySet()));
+        Assertions.assertEquals(sortedKeys.stream().map(String::valueOf).toList(), List.copyOf(copy.allValues()));
+        Assertions.assertEquals(keys.size(), copy.size());
+    }
+
+    @Test
+    void testImmutableCopyIsDetachedFromSource() {
+        MultiMap<String, String> map = new ArrayListMultiMap<>();
+        map.put("test", "test");
+
+        MultiMap<String, String> copy = ImmutableMultiMap.copyOf(map);
+        map.put("test", "test2");
+        map.put("other", "other");
+
+        Assertions.assertEquals(1, copy.size());
+        Assertions.assertFalse(copy.containsKey("other"));
+        Assertions.assertFalse(copy.containsEntry("test", "test2"));
+    }
+
+    @Test
+    void testImmutableCopyRejectsModification() {
+        MultiMap<String, String> copy = ImmutableMultiMap.copyOf(new ArrayListMultiMap<>());
+        Assertions.assertTrue(copy.isEmpty());
+        Assertions.assertTrue(copy.get("test").isEmpty());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.put("test", "test"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.get("test").add("test"));
+    }
 }
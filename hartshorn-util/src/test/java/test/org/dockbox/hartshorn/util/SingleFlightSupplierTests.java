@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.org.dockbox.hartshorn.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.dockbox.hartshorn.util.function.SingleFlightSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightSupplierTests {
+
+    @Test
+    void testConcurrentRequestsComputeValueOnce() throws Exception {
+        int threads = 16;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        SingleFlightSupplier<Object> supplier = SingleFlightSupplier.of(() -> {
+            invocations.incrementAndGet();
+            return new Object();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return supplier.get();
+                }));
+            }
+            start.countDown();
+
+            Object value = supplier.get();
+            for (Future<Object> future : futures) {
+                Assertions.assertSame(value, future.get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, invocations.get());
+        Assertions.assertTrue(supplier.isComputed());
+    }
+
+    @Test
+    void testFailedComputationIsRetried() {
+        AtomicInteger invocations = new AtomicInteger();
+        SingleFlightSupplier<String> supplier = SingleFlightSupplier.of(() -> {
+            if (invocations.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("First attempt fails");
+            }
+            return "value";
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, supplier::get);
+        Assertions.assertFalse(supplier.isComputed());
+        Assertions.assertEquals("value", supplier.get());
+        Assertions.assertEquals("value", supplier.get());
+        Assertions.assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void testRecursiveRequestIsRejected() {
+        AtomicReference<SingleFlightSupplier<String>> reference = new AtomicReference<>();
+        reference.set(SingleFlightSupplier.of(() -> reference.get().get()));
+        Assertions.assertThrows(IllegalStateException.class, () -> reference.get().get());
+    }
+
+    @Test
+    void testNullValueIsRejected() {
+        SingleFlightSupplier<String> supplier = SingleFlightSupplier.of(() -> null);
+        Assertions.assertThrows(NullPointerException.class, supplier::get);
+        Assertions.assertFalse(supplier.isComputed());
+    }
+}